@@ -0,0 +1,117 @@
+package org.xtan.ok.http.benchmark;
+
+import okhttp3.HttpUrl;
+import okio.ByteString;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xtan.ok.http.utils.FormEncoder;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 表单与查询参数编码：{@link FormEncoder} 与原来的 StringBuilder + URLEncoder 拼接
+ * <p>
+ * form 对比表单请求体的字节，query 对比拼接到地址后的查询参数；
+ * 原来的实现每个请求调用多次，这里只计算一次。
+ * 启动时校验两种实现的结果一致，分配速率使用 -prof gc 观察
+ * </p>
+ * 运行：java -jar target/benchmarks.jar FormEncoderBenchmark -prof gc
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FormEncoderBenchmark {
+
+    /**
+     * ascii：不需要编码的参数值，mixed：包含空格、符号与中文的参数值
+     */
+    @Param({"ascii", "mixed"})
+    public String values;
+
+    private final Map<String, Object> params = new LinkedHashMap<>();
+
+    private HttpUrl url;
+
+    @Setup
+    public void setup() throws UnsupportedEncodingException {
+        params.clear();
+        params.put("page", 1);
+        params.put("size", 20);
+        params.put("sort", "createTime");
+        params.put("status", "ACTIVE");
+        params.put("userId", 1234567890L);
+        if ("mixed".equals(values)) {
+            params.put("keyword", "spring boot 教程");
+            params.put("filter", "price>=100&price<=200");
+            params.put("callback", "https://example.com/cb?id=1");
+        } else {
+            params.put("keyword", "springboot");
+            params.put("filter", "price_100-200");
+            params.put("callback", "example.com");
+        }
+        url = HttpUrl.get("http://localhost:8080/search");
+        if (!Arrays.equals(baselineForm(), FormEncoder.encode(params).toByteArray())) {
+            throw new IllegalStateException("form encoding differs from URLEncoder");
+        }
+        if (!baselineQuery().equals(FormEncoder.query(params, url.newBuilder()).build())) {
+            throw new IllegalStateException("query encoding differs from URLEncoder");
+        }
+    }
+
+    @Benchmark
+    public byte[] baselineForm() throws UnsupportedEncodingException {
+        return baselineParams().toString().getBytes();
+    }
+
+    @Benchmark
+    public ByteString encoderForm() {
+        return FormEncoder.encode(params);
+    }
+
+    @Benchmark
+    public HttpUrl baselineQuery() throws UnsupportedEncodingException {
+        return HttpUrl.get(url + "?" + baselineParams());
+    }
+
+    @Benchmark
+    public HttpUrl encoderQuery() {
+        return FormEncoder.query(params, url.newBuilder()).build();
+    }
+
+    /**
+     * 原来的 HttpRequest.getParams()
+     */
+    private StringBuilder baselineParams() throws UnsupportedEncodingException {
+        StringBuilder result = new StringBuilder();
+        boolean isFirst = true;
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (!isFirst) {
+                result.append("&");
+            } else {
+                isFirst = false;
+            }
+            result.append(entry.getKey()).append("=").append(URLEncoder.encode(entry.getValue().toString(), "utf8"));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,94 @@
+package org.xtan.ok.http.benchmark;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.annotation.Interceptors;
+import org.xtan.ok.http.annotation.method.Get;
+import org.xtan.ok.http.annotation.paramer.Param;
+import org.xtan.ok.http.annotation.paramer.PathParam;
+import org.xtan.ok.http.proxy.HttpClientProxyHandler;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 代理模式的调用开销：jdk 动态代理与生成的实现类
+ * <p>
+ * 拦截器直接返回固定响应，不建立连接，测得的是参数绑定、请求构建与响应解码的开销。
+ * 分配速率使用 -prof gc 观察，生成的实现类对基本类型参数不装箱
+ * </p>
+ * 运行：java -jar target/benchmarks.jar ProxyBenchmark -prof gc
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProxyBenchmark {
+
+    @org.openjdk.jmh.annotations.Param({"jdk", "bytecode"})
+    public String mode;
+
+    private Api api;
+
+    private int n;
+
+    @Setup
+    public void setup() {
+        HttpClientProxyHandler<Api> handler = HttpClientProxyHandler.proxy(Api.class);
+        api = "jdk".equals(mode) ? handler.getProxyInstance() : handler.getGeneratedInstance();
+        if (!"ok".equals(api.get(1, 2, true, 1.5))) {
+            throw new IllegalStateException("unexpected response");
+        }
+    }
+
+    @Benchmark
+    public String call() {
+        return api.get(++n, n & 7, (n & 1) == 0, n * 0.5);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    @Interceptors(CannedResponse.class)
+    public interface Api {
+
+        @Get("/items/{id}")
+        String get(@PathParam("id") long id, @Param("page") int page, @Param("active") boolean active,
+                   @Param("score") double score);
+    }
+
+    /**
+     * 不发起请求，直接返回固定响应
+     */
+    public static class CannedResponse implements Interceptor {
+
+        private static final MediaType TEXT = MediaType.get("text/plain");
+
+        @Override
+        public Response intercept(Chain chain) {
+            return new Response.Builder()
+                    .request(chain.request())
+                    .protocol(Protocol.HTTP_1_1)
+                    .code(200)
+                    .message("OK")
+                    .body(ResponseBody.create("ok", TEXT))
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.xtan.ok.http.benchmark;
+
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.client.HttpClientProfile;
+import org.xtan.ok.http.model.Toggle;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 竞速连接：host 解析出的第一个地址不可达
+ * <p>
+ * host 解析为 [127.0.0.2, 127.0.0.1]，127.0.0.1 为本地 http 服务；
+ * 127.0.0.2 监听相同端口但从不 accept，并且填满了等待队列，新的连接会一直等待到连接超时。
+ * 顺序连接时每个请求都要等待完整的连接超时(1 秒)，竞速连接时在间隔(250 毫秒)后向下一个地址发起连接。
+ * OkHttp 会把连接失败的地址排到同一个 client 后续请求的最后，因此每次调用使用新的 client，
+ * 测得的是首次连接到该 host 的耗时，使用 SampleTime 输出 p99 等分位数。
+ * 127.0.0.2 需要是本地回环地址(Linux 默认)
+ * </p>
+ * 运行：java -jar target/benchmarks.jar RacingBenchmark
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+public class RacingBenchmark {
+
+    private static final String HOST = "racing.test";
+
+    private static final String UNREACHABLE = "127.0.0.2";
+
+    private static final String REACHABLE = "127.0.0.1";
+
+    @Param({"false", "true"})
+    public boolean racing;
+
+    private MockWebServer server;
+
+    private ServerSocket blackhole;
+
+    private final List<Socket> backlog = new ArrayList<>();
+
+    private HttpClientProfile profile;
+
+    private List<InetAddress> addresses;
+
+    private Request request;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        server = new MockWebServer();
+        server.start(InetAddress.getByName(REACHABLE), 0);
+        //相同端口的不可达地址：不 accept，等待队列填满之后的连接请求被丢弃
+        blackhole = new ServerSocket();
+        blackhole.bind(new InetSocketAddress(UNREACHABLE, server.getPort()), 1);
+        while (true) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(blackhole.getLocalSocketAddress(), 200);
+                backlog.add(socket);
+            } catch (SocketTimeoutException e) {
+                socket.close();
+                break;
+            }
+        }
+        profile = HttpClientProfile.of(racing ? Racing.class : Sequential.class);
+        //与 dns 解析的结果一样携带 host，否则按 ip 地址处理，只有一个候选地址
+        addresses = Arrays.asList(InetAddress.getByAddress(HOST, InetAddress.getByName(UNREACHABLE).getAddress()),
+                InetAddress.getByAddress(HOST, InetAddress.getByName(REACHABLE).getAddress()));
+        request = new Request.Builder().url("http://" + HOST + ":" + server.getPort() + "/").build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        for (Socket socket : backlog) {
+            socket.close();
+        }
+        blackhole.close();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public int firstConnect() throws IOException {
+        server.enqueue(new MockResponse().setBody("ok"));
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .connectionPool(new ConnectionPool())
+                .dns(host -> addresses);
+        profile.apply(builder);
+        OkHttpClient client = builder.build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        } finally {
+            client.connectionPool().evictAll();
+        }
+    }
+
+    @HttpClient(value = "http://racing.test", connectTimeout = 1000, connectionRacing = Toggle.OFF)
+    public interface Sequential {
+    }
+
+    @HttpClient(value = "http://racing.test", connectTimeout = 1000, connectionRacing = Toggle.ON)
+    public interface Racing {
+    }
+}
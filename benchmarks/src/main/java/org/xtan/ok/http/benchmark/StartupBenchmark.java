@@ -0,0 +1,70 @@
+package org.xtan.ok.http.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.xtan.ok.http.annotation.EnableHttpClients;
+import org.xtan.ok.http.config.HttpClientsIndex;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClient 注册的启动耗时：编译期索引与 classpath 扫描
+ * <p>
+ * 每个 fork 只启动一次 spring 容器，测得的是冷启动耗时，包含类加载。
+ * 编译 benchmarks 时 starter 的注解处理器为 clients 包生成索引；
+ * scope=clients 只扫描 clients 包，scope=org 扫描整个 org 包，
+ * 打包后的 benchmarks.jar 包含 spring、okhttp 与 jmh，对应大型 fat jar 的场景
+ * (在 IDE 中运行时 org 包分布在多个没有索引的 jar 中，这些 jar 仍然需要扫描)
+ * </p>
+ * 运行：java -jar target/benchmarks.jar StartupBenchmark
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class StartupBenchmark {
+
+    @Param({"true", "false"})
+    public boolean index;
+
+    @Param({"clients", "org"})
+    public String scope;
+
+    @Benchmark
+    public int startup() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                    Collections.singletonMap(HttpClientsIndex.ENABLED_PROPERTY, index)));
+            context.register("org".equals(scope) ? OrgConfig.class : ClientsConfig.class);
+            context.refresh();
+            return context.getBeanDefinitionCount();
+        }
+    }
+
+    @Configuration
+    @EnableHttpClients("org.xtan.ok.http.benchmark.clients")
+    public static class ClientsConfig {
+    }
+
+    @Configuration
+    @EnableHttpClients("org")
+    public static class OrgConfig {
+    }
+}
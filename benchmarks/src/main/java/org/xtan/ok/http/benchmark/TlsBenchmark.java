@@ -0,0 +1,129 @@
+package org.xtan.ok.http.benchmark;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.tls.HandshakeCertificates;
+import okhttp3.tls.HeldCertificate;
+import okio.Buffer;
+import okio.Okio;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xtan.ok.http.ssl.TlsContext;
+import org.xtan.ok.http.ssl.TlsOptions;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TLS 实现的对比：jsse 与 conscrypt
+ * <p>
+ * handshake 每次调用前清空连接池，每个请求都建立新的 TLS 连接，会话缓存与生产环境一致，
+ * 每个 fork 结束时输出完整握手与复用会话的次数；
+ * bulk 复用同一个连接，测得的是下载 size 字节响应体的加解密开销。
+ * 服务端为本地的 https MockWebServer，使用 jsse，两种实现的服务端开销相同
+ * </p>
+ * 运行：java -jar target/benchmarks.jar TlsBenchmark
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TlsBenchmark {
+
+    @Param({"jsse", "conscrypt"})
+    public String provider;
+
+    /**
+     * bulk 的响应体大小(字节)
+     */
+    @Param({"1048576"})
+    public int size;
+
+    private MockWebServer server;
+
+    private TlsContext context;
+
+    private OkHttpClient client;
+
+    private Request handshake;
+
+    private Request bulk;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        HeldCertificate certificate = new HeldCertificate.Builder()
+                .addSubjectAlternativeName("localhost")
+                .build();
+        HandshakeCertificates serverCertificates = new HandshakeCertificates.Builder()
+                .heldCertificate(certificate)
+                .build();
+        Buffer body = new Buffer().write(new byte[size]);
+        server = new MockWebServer();
+        server.useHttps(serverCertificates.sslSocketFactory(), false);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return "/bulk".equals(request.getPath())
+                        ? new MockResponse().setBody(body.clone())
+                        : new MockResponse().setBody("ok");
+            }
+        });
+        server.start();
+        //默认信任所有证书，与 starter 的默认配置一致
+        context = TlsContext.create(new TlsOptions().provider(provider));
+        if (!provider.equals(context.provider())) {
+            throw new IllegalStateException("tls provider [" + provider + "] is not available");
+        }
+        OkHttpClient.Builder builder = new OkHttpClient.Builder()
+                .protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        context.apply(builder);
+        client = builder.build();
+        handshake = new Request.Builder().url(server.url("/handshake")).build();
+        bulk = new Request.Builder().url(server.url("/bulk")).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        System.out.printf("%n%s: %s%n", provider, context.stats());
+        client.connectionPool().evictAll();
+        server.shutdown();
+    }
+
+    @Benchmark
+    public String handshake() throws IOException {
+        client.connectionPool().evictAll();
+        try (Response response = client.newCall(handshake).execute()) {
+            return response.body().string();
+        }
+    }
+
+    @Benchmark
+    public long bulk() throws IOException {
+        try (Response response = client.newCall(bulk).execute()) {
+            return response.body().source().readAll(Okio.blackhole());
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package org.xtan.ok.http.benchmark;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.xtan.ok.http.OkBuilder;
+import org.xtan.ok.http.async.VirtualThreads;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 虚拟线程执行模式的负载测试：同一个 host 的大量并发异步请求
+ * <p>
+ * 平台线程模式下异步请求在调度器中排队，受 maxRequestsPerHost(5) 限制；
+ * 虚拟线程模式下每个请求在独立的虚拟线程中执行。
+ * 吞吐量为每秒完成的批次数，内存使用 -prof gc 观察分配速率，每个 fork 结束时输出峰值线程数与堆使用量。
+ * virtual=true 需要 Java 21+ 运行，并且 starter 使用 Java 21+ 或 -Prelease 构建
+ * </p>
+ * 运行：java -jar target/benchmarks.jar VirtualThreadsBenchmark -prof gc
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class VirtualThreadsBenchmark {
+
+    @Param({"false", "true"})
+    public boolean virtual;
+
+    /**
+     * 每个批次的并发请求数
+     */
+    @Param({"200", "1000"})
+    public int concurrency;
+
+    /**
+     * 服务端响应延迟(毫秒)
+     */
+    @Param({"50"})
+    public long latency;
+
+    private MockWebServer server;
+
+    private String url;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        //必须在第一次使用 OkClientRegistry 之前设置，共享 client 的调度器在创建时确定
+        if (VirtualThreads.enabled(virtual) != virtual) {
+            throw new IllegalStateException("virtual threads require Java 21+ and a starter built with -Prelease");
+        }
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                return new MockResponse().setBody("ok").setHeadersDelay(latency, TimeUnit.MILLISECONDS);
+            }
+        });
+        server.start();
+        url = server.url("/load").toString();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.out.printf("%npeak platform threads: %d, heap used: %d MB%n", threads.getPeakThreadCount(),
+                memory.getHeapMemoryUsage().getUsed() >> 20);
+        server.shutdown();
+    }
+
+    @Benchmark
+    public void concurrentCalls() {
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[concurrency];
+        for (int i = 0; i < concurrency; i++) {
+            futures[i] = OkBuilder.url(url).executeAsync();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+}
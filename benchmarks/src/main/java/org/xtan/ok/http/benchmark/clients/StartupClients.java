@@ -0,0 +1,102 @@
+package org.xtan.ok.http.benchmark.clients;
+
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.annotation.method.Get;
+import org.xtan.ok.http.annotation.method.Post;
+import org.xtan.ok.http.annotation.paramer.JSONBody;
+import org.xtan.ok.http.annotation.paramer.Param;
+import org.xtan.ok.http.annotation.paramer.PathParam;
+
+import java.util.Map;
+
+/**
+ * {@link org.xtan.ok.http.benchmark.StartupBenchmark} 注册的 HttpClient
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class StartupClients {
+
+    private StartupClients() {
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Users {
+
+        @Get("/users/{id}")
+        String get(@PathParam("id") long id);
+
+        @Get("/users")
+        String list(@Param("page") int page, @Param("size") int size);
+
+        @Post("/users")
+        String create(@JSONBody Map<String, Object> user);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Orders {
+
+        @Get("/orders/{id}")
+        String get(@PathParam("id") long id);
+
+        @Get("/orders")
+        String list(@Param("user") long user, @Param("status") String status);
+
+        @Post("/orders")
+        String create(@JSONBody Map<String, Object> order);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Products {
+
+        @Get("/products/{id}")
+        String get(@PathParam("id") long id);
+
+        @Get("/products")
+        String search(@Param("q") String q, @Param("page") int page);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Inventory {
+
+        @Get("/inventory/{sku}")
+        String get(@PathParam("sku") String sku);
+
+        @Post("/inventory/{sku}")
+        String adjust(@PathParam("sku") String sku, @Param("delta") int delta);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Payments {
+
+        @Get("/payments/{id}")
+        String get(@PathParam("id") String id);
+
+        @Post("/payments")
+        String create(@JSONBody Map<String, Object> payment);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Shipments {
+
+        @Get("/shipments/{id}")
+        String get(@PathParam("id") String id);
+
+        @Get("/shipments")
+        String list(@Param("order") long order);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Notifications {
+
+        @Post("/notifications")
+        String send(@JSONBody Map<String, Object> notification);
+    }
+
+    @HttpClient("http://127.0.0.1:1")
+    public interface Reports {
+
+        @Get("/reports/{name}")
+        String get(@PathParam("name") String name, @Param("from") String from, @Param("to") String to);
+    }
+}
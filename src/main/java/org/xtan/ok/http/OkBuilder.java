@@ -3,15 +3,16 @@ package org.xtan.ok.http;
 
 import okhttp3.*;
 import org.apache.commons.lang3.StringUtils;
+import org.xtan.ok.http.async.AsyncExecutors;
+import org.xtan.ok.http.async.CallFuture;
+import org.xtan.ok.http.async.VirtualThreads;
+import org.xtan.ok.http.client.OkClientRegistry;
 import org.xtan.ok.http.exception.HttpClientException;
-import org.xtan.ok.http.interceptor.GzipRequestInterceptor;
-import org.xtan.ok.http.interceptor.LogInterceptor;
 import org.xtan.ok.http.model.HttpHeaders;
 import org.xtan.ok.http.model.HttpMethod;
 import org.xtan.ok.http.model.HttpRequest;
 import org.xtan.ok.http.utils.FileUtil;
 import org.xtan.ok.http.utils.RequestFactory;
-import org.xtan.ok.http.utils.SSLUtil;
 
 import java.io.File;
 import java.io.IOException;
@@ -19,7 +20,9 @@ import java.io.InputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 
 /**
  * okHttp的工具类，建造者模式
@@ -34,6 +37,11 @@ public final class OkBuilder {
      */
     private final String url;
 
+    /**
+     * 已解析的请求地址，通过字符串构建时为空
+     */
+    private final HttpUrl httpUrl;
+
     /**
      * 请求参数
      */
@@ -49,8 +57,15 @@ public final class OkBuilder {
      */
     private HttpMethod method = HttpMethod.GET;
 
-    private OkBuilder(String url) {
+    /**
+     * 执行请求的client
+     * 为空时使用 {@link OkClientRegistry} 中共享的client
+     */
+    private OkHttpClient client;
+
+    private OkBuilder(String url, HttpUrl httpUrl) {
         this.url = url;
+        this.httpUrl = httpUrl;
     }
 
     /**
@@ -60,7 +75,17 @@ public final class OkBuilder {
      * @return
      */
     public static OkBuilder url(String url) {
-        return new OkBuilder(url);
+        return new OkBuilder(url, null);
+    }
+
+    /**
+     * 使用已解析的地址构建实例，get、delete 请求的参数直接追加到地址的查询参数中
+     *
+     * @param url
+     * @return
+     */
+    public static OkBuilder url(HttpUrl url) {
+        return new OkBuilder(null, url);
     }
 
     /**
@@ -74,6 +99,17 @@ public final class OkBuilder {
         return this;
     }
 
+    /**
+     * 指定执行请求的client
+     *
+     * @param client
+     * @return
+     */
+    public OkBuilder client(OkHttpClient client) {
+        this.client = client;
+        return this;
+    }
+
     /**
      * 是否开启gzip
      *
@@ -108,6 +144,18 @@ public final class OkBuilder {
         return this;
     }
 
+    /**
+     * 添加预先构建的请求头，支持同名的多个值
+     * 不复制请求头内容，通过 {@link #header(String, String)} 添加的同名请求头会覆盖这里的值
+     *
+     * @param headers
+     * @return
+     */
+    public OkBuilder headers(Headers headers) {
+        request.putHeaders(headers);
+        return this;
+    }
+
     /**
      * 定义内容传输类型
      *
@@ -119,6 +167,17 @@ public final class OkBuilder {
         return this;
     }
 
+    /**
+     * 定义内容传输类型，使用已经解析好的类型
+     *
+     * @param mediaType
+     * @return
+     */
+    public OkBuilder contentType(MediaType mediaType) {
+        request.setMediaType(mediaType);
+        return this;
+    }
+
     public OkBuilder params(String key, String value) {
         request.put(key, value);
         return this;
@@ -248,26 +307,61 @@ public final class OkBuilder {
         return null;
     }
 
+    /**
+     * 异步执行，响应内容在 {@link AsyncExecutors#executor()} 中完成
+     * 取消返回的结果时同时取消请求
+     *
+     * @return
+     */
+    public CompletableFuture<String> executeAsync() {
+        return executeAsync(Function.identity(), AsyncExecutors.executor());
+    }
+
+    /**
+     * 异步执行，调度器线程只读取响应内容，解码在指定的线程池中执行
+     * 开启虚拟线程执行模式时不经过调度器排队，在虚拟线程中同步执行请求
+     * 取消返回的结果时同时取消请求
+     *
+     * @param decoder  响应内容解码器
+     * @param executor 解码使用的线程池
+     * @return
+     */
+    public <R> CompletableFuture<R> executeAsync(Function<String, ? extends R> decoder, Executor executor) {
+        if (null == httpUrl && StringUtils.isBlank(url)) {
+            throw new IllegalArgumentException("Url can not be null!");
+        }
+        OkHttpClient client = obtainClient();
+        Call call = client.newCall(initRequest());
+        if (VirtualThreads.isEnabled()) {
+            return CallFuture.execute(call, decoder, VirtualThreads.executor(), executor);
+        }
+        return CallFuture.enqueue(client, call, decoder, executor);
+    }
+
+    /**
+     * 预编译请求，已填充的内容构建为不可变的请求，可以被多个线程重复执行
+     * 生成之后对当前构建器的修改不会影响预编译的请求
+     *
+     * @return
+     */
+    public PreparedRequest prepare() {
+        if (null == httpUrl && StringUtils.isBlank(url)) {
+            throw new IllegalArgumentException("Url can not be null!");
+        }
+        return new PreparedRequest(obtainClient(), method, request, initRequest());
+    }
+
     /**
      * 构造ws的请求
      *
      * @return
      */
     public WebSocket initWs(WebSocketListener listener) {
-        if (StringUtils.isBlank(url) || !(url.contains("ws://") || url.contains("wss://"))) {
+        if (null == httpUrl && (StringUtils.isBlank(url) || !(url.contains("ws://") || url.contains("wss://")))) {
             throw new HttpClientException("Url can not be supported !");
         }
-        OkHttpClient mOkHttpClient = new OkHttpClient.Builder()
-                //设置读取超时时间
-                .readTimeout(3, TimeUnit.SECONDS)
-                //设置写的超时时间
-                .writeTimeout(3, TimeUnit.SECONDS)
-                //设置连接超时时间
-                .connectTimeout(3, TimeUnit.SECONDS)
-                .build();
-
         //构造请求
-        return mOkHttpClient.newWebSocket(initRequest(), listener);
+        return OkClientRegistry.instance().wsClient().newWebSocket(initRequest(), listener);
     }
 
 
@@ -277,21 +371,11 @@ public final class OkBuilder {
      * @return
      */
     public WebSocket initPingWs(WebSocketListener listener) {
-        if (StringUtils.isBlank(url) || !(url.contains("ws://") || url.contains("wss://"))) {
+        if (null == httpUrl && (StringUtils.isBlank(url) || !(url.contains("ws://") || url.contains("wss://")))) {
             throw new HttpClientException("Url can not be supported !");
         }
-        OkHttpClient mOkHttpClient = new OkHttpClient.Builder()
-                //设置读取超时时间
-                .readTimeout(3, TimeUnit.SECONDS)
-                //设置写的超时时间
-                .writeTimeout(3, TimeUnit.SECONDS)
-                //设置连接超时时间
-                .connectTimeout(3, TimeUnit.SECONDS)
-                .pingInterval(40, TimeUnit.SECONDS)
-                .build();
-
         //构造请求
-        return mOkHttpClient.newWebSocket(initRequest(), listener);
+        return OkClientRegistry.instance().pingWsClient().newWebSocket(initRequest(), listener);
     }
 
     /**
@@ -339,43 +423,39 @@ public final class OkBuilder {
 
 
     private Response beforeExecute() {
-        if (StringUtils.isBlank(url)) {
+        if (null == httpUrl && StringUtils.isBlank(url)) {
             throw new IllegalArgumentException("Url can not be null!");
         }
         //构造请求
         Request request = initRequest();
-        Response response;
+        Call call = obtainClient().newCall(request);
+        //批量请求中执行时记录请求，截止时间到达时取消
+        OkBulk.track(call);
         try {
-            if (isGzip) {
-                response = new OkHttpClient.Builder()
-                        .addInterceptor(new GzipRequestInterceptor())
-                        .sslSocketFactory(SSLUtil.createSSLSocketFactory(), new SSLUtil.TrustAllManager())
-                        .hostnameVerifier(new SSLUtil.TrustAllHostnameVerifier())
-                        .addInterceptor(new LogInterceptor())
-                        .build()
-                        .newCall(request)
-                        .execute();
-            } else {
-                response = new OkHttpClient.Builder()
-                        .sslSocketFactory(SSLUtil.createSSLSocketFactory(), new SSLUtil.TrustAllManager())
-                        .hostnameVerifier(new SSLUtil.TrustAllHostnameVerifier())
-                        .addInterceptor(new LogInterceptor())
-                        .build()
-                        .newCall(request)
-                        .execute();
-            }
-            return response;
+            return call.execute();
         } catch (IOException e) {
             return null;
         }
     }
 
+    /**
+     * 获取执行请求的client
+     * 复用共享的连接池与调度器，gzip 的 client 由注册中心缓存
+     *
+     * @return
+     */
+    private OkHttpClient obtainClient() {
+        OkClientRegistry registry = OkClientRegistry.instance();
+        OkHttpClient okHttpClient = null != client ? client : registry.client();
+        return isGzip ? registry.gzip(okHttpClient) : okHttpClient;
+    }
+
     /**
      * 构造请求，根据请求类型不同，此处应该采用工厂模式
      *
      * @return
      */
     private Request initRequest() {
-        return new RequestFactory(method, request, url).initRequest();
+        return (null != httpUrl ? new RequestFactory(method, request, httpUrl) : new RequestFactory(method, request, url)).initRequest();
     }
 }
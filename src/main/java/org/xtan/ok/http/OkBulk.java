@@ -0,0 +1,403 @@
+package org.xtan.ok.http;
+
+import okhttp3.Call;
+import org.xtan.ok.http.async.VirtualThreads;
+import org.xtan.ok.http.exception.HttpClientException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 批量请求
+ * <p>
+ * 对一组参数执行同一个请求，同时执行的请求数不超过并发数，所有请求共享一个截止时间。
+ * 截止时间到达时取消执行中的请求，未开始的请求不再执行，两者的结果均为超时。
+ * 请求在工作线程中同步执行，工作线程中通过 {@link OkBuilder} 执行的请求都会被记录，
+ * 因此 HttpClient 的同步方法也可以被取消
+ * </p>
+ * <pre>
+ * List&lt;OkBulk.Result&lt;Integer, User&gt;&gt; users = OkBulk.of(ids, userClient::user)
+ *         .concurrency(32)
+ *         .deadline(Duration.ofSeconds(3))
+ *         .execute();
+ * </pre>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class OkBulk<A, R> {
+
+    /**
+     * 默认并发数
+     */
+    public static final int DEFAULT_CONCURRENCY = 16;
+
+    /**
+     * 当前工作线程正在执行的请求，不在批量请求中时为空
+     */
+    private static final ThreadLocal<Slot<?, ?>> CURRENT = new ThreadLocal<>();
+
+    private static volatile Executor executor;
+
+    private final List<A> args;
+
+    private final Function<? super A, ? extends R> call;
+
+    private int concurrency = DEFAULT_CONCURRENCY;
+
+    /**
+     * 截止时长(纳秒)，小于等于 0 时不限制
+     */
+    private long deadlineNanos;
+
+    private Executor workers;
+
+    private OkBulk(List<A> args, Function<? super A, ? extends R> call) {
+        this.args = args;
+        this.call = call;
+    }
+
+    /**
+     * 批量执行请求构建器，结果为响应内容
+     *
+     * @param builders 请求构建器
+     * @return
+     */
+    public static OkBulk<OkBuilder, String> of(List<OkBuilder> builders) {
+        return new OkBulk<>(new ArrayList<>(builders), OkBuilder::execute);
+    }
+
+    /**
+     * 对每个参数执行同一个请求，例如 HttpClient 的方法
+     *
+     * @param args 参数
+     * @param call 执行请求的方法
+     * @return
+     */
+    public static <A, R> OkBulk<A, R> of(Collection<? extends A> args, Function<? super A, ? extends R> call) {
+        return new OkBulk<>(new ArrayList<>(args), call);
+    }
+
+    /**
+     * 同时执行的请求数
+     *
+     * @param concurrency 并发数
+     * @return
+     */
+    public OkBulk<A, R> concurrency(int concurrency) {
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency must be positive!");
+        }
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    /**
+     * 所有请求共享的截止时间，从开始执行时计算
+     *
+     * @param timeout 截止时长
+     * @param unit    时间单位
+     * @return
+     */
+    public OkBulk<A, R> deadline(long timeout, TimeUnit unit) {
+        this.deadlineNanos = unit.toNanos(timeout);
+        return this;
+    }
+
+    /**
+     * 所有请求共享的截止时间，从开始执行时计算
+     *
+     * @param timeout 截止时长
+     * @return
+     */
+    public OkBulk<A, R> deadline(Duration timeout) {
+        return deadline(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 执行请求的线程池，请求在其中同步执行，默认使用 {@link #executor()}
+     *
+     * @param executor 线程池
+     * @return
+     */
+    public OkBulk<A, R> executor(Executor executor) {
+        this.workers = executor;
+        return this;
+    }
+
+    /**
+     * 执行所有请求，等待全部完成或者截止时间到达
+     *
+     * @return 与参数顺序一致的结果
+     */
+    public List<Result<A, R>> execute() {
+        Result<A, R>[] results = newResults();
+        execute(it -> results[it.index] = it);
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 执行所有请求，按照完成的先后顺序在调用线程中处理结果，截止时间到达时剩余的请求依次以超时结果处理
+     *
+     * @param consumer 结果处理
+     */
+    public void execute(Consumer<? super Result<A, R>> consumer) {
+        int size = args.size();
+        BlockingQueue<Slot<A, R>> completed = new LinkedBlockingQueue<>();
+        List<Slot<A, R>> running = new ArrayList<>(Math.min(size, concurrency));
+        Executor workers = null != this.workers ? this.workers : executor();
+        long deadlineAt = deadlineNanos > 0 ? System.nanoTime() + deadlineNanos : 0;
+        int next = 0;
+        int done = 0;
+        try {
+            while (done < size) {
+                //补充执行中的请求到并发数
+                while (next < size && running.size() < concurrency) {
+                    running.add(submit(next++, workers, completed));
+                }
+                Slot<A, R> slot;
+                if (deadlineAt == 0) {
+                    slot = completed.take();
+                } else {
+                    long remaining = deadlineAt - System.nanoTime();
+                    slot = remaining > 0 ? completed.poll(remaining, TimeUnit.NANOSECONDS) : completed.poll();
+                }
+                if (null == slot) {
+                    break;
+                }
+                running.remove(slot);
+                done++;
+                consumer.accept(slot.result);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel(running);
+            throw new HttpClientException("bulk request is interrupted!", e);
+        } catch (RuntimeException | Error e) {
+            //结果处理失败时不再等待其他请求
+            cancel(running);
+            throw e;
+        }
+        if (done == size) {
+            return;
+        }
+        //截止时间到达，已经完成的结果优先处理
+        TimeoutException timeout = new TimeoutException("bulk request deadline exceeded!");
+        cancel(running);
+        for (Slot<A, R> slot : running) {
+            consumer.accept(slot.isCancelled() ? new Result<>(slot.index, slot.arg, null, timeout) : slot.result);
+        }
+        for (int i = next; i < size; i++) {
+            consumer.accept(new Result<>(i, args.get(i), null, timeout));
+        }
+    }
+
+    /**
+     * 默认执行请求的线程池，开启虚拟线程执行模式时使用虚拟线程，否则为按需创建的守护线程
+     * 线程数由每个批量请求的并发数限制
+     *
+     * @return
+     */
+    public static Executor executor() {
+        Executor current = executor;
+        if (null == current) {
+            synchronized (OkBulk.class) {
+                current = executor;
+                if (null == current) {
+                    executor = current = create();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 记录当前工作线程执行的请求，批量请求已经取消时直接取消
+     *
+     * @param call 请求
+     */
+    static void track(Call call) {
+        Slot<?, ?> slot = CURRENT.get();
+        if (null != slot) {
+            slot.track(call);
+        }
+    }
+
+    private Slot<A, R> submit(int index, Executor workers, BlockingQueue<Slot<A, R>> completed) {
+        Slot<A, R> slot = new Slot<>(index, args.get(index));
+        try {
+            workers.execute(() -> slot.run(call, completed));
+        } catch (RejectedExecutionException e) {
+            slot.complete(null, e, completed);
+        }
+        return slot;
+    }
+
+    private static void cancel(List<? extends Slot<?, ?>> slots) {
+        for (Slot<?, ?> slot : slots) {
+            slot.cancel();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Result<A, R>[] newResults() {
+        return new Result[args.size()];
+    }
+
+    private static Executor create() {
+        if (VirtualThreads.isEnabled()) {
+            return VirtualThreads.executor();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        return new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "ok-http-bulk-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 单个请求的结果
+     */
+    public static final class Result<A, R> {
+
+        private final int index;
+
+        private final A arg;
+
+        private final R value;
+
+        private final Throwable error;
+
+        private Result(int index, A arg, R value, Throwable error) {
+            this.index = index;
+            this.arg = arg;
+            this.value = value;
+            this.error = error;
+        }
+
+        /**
+         * 参数的下标
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * 请求的参数
+         */
+        public A arg() {
+            return arg;
+        }
+
+        /**
+         * 请求的结果，失败时为空
+         */
+        public R value() {
+            return value;
+        }
+
+        /**
+         * 失败的原因，截止时间到达时为 {@link TimeoutException}
+         */
+        public Throwable error() {
+            return error;
+        }
+
+        public boolean isSuccess() {
+            return null == error;
+        }
+
+        public boolean isTimeout() {
+            return error instanceof TimeoutException;
+        }
+
+        @Override
+        public String toString() {
+            return isSuccess() ? "Result[" + index + "]=" + value : "Result[" + index + "]!" + error;
+        }
+    }
+
+    /**
+     * 执行中的请求
+     */
+    private static final class Slot<A, R> {
+
+        private static final int RUNNING = 0;
+
+        private static final int DONE = 1;
+
+        private static final int CANCELLED = 2;
+
+        private final int index;
+
+        private final A arg;
+
+        private final AtomicInteger state = new AtomicInteger(RUNNING);
+
+        private volatile Call call;
+
+        private Result<A, R> result;
+
+        private Slot(int index, A arg) {
+            this.index = index;
+            this.arg = arg;
+        }
+
+        void run(Function<? super A, ? extends R> function, BlockingQueue<Slot<A, R>> completed) {
+            if (isCancelled()) {
+                return;
+            }
+            CURRENT.set(this);
+            try {
+                complete(function.apply(arg), null, completed);
+            } catch (Throwable e) {
+                complete(null, e, completed);
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        void complete(R value, Throwable error, BlockingQueue<Slot<A, R>> completed) {
+            //先写入结果再修改状态，截止时间到达时看到完成状态的一定能看到结果
+            result = new Result<>(index, arg, value, error);
+            if (state.compareAndSet(RUNNING, DONE)) {
+                completed.add(this);
+            }
+        }
+
+        void track(Call call) {
+            this.call = call;
+            if (isCancelled()) {
+                call.cancel();
+            }
+        }
+
+        void cancel() {
+            if (state.compareAndSet(RUNNING, CANCELLED)) {
+                Call current = call;
+                if (null != current) {
+                    current.cancel();
+                }
+            }
+        }
+
+        boolean isCancelled() {
+            return CANCELLED == state.get();
+        }
+    }
+}
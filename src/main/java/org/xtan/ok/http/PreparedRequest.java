@@ -0,0 +1,295 @@
+package org.xtan.ok.http;
+
+import com.alibaba.fastjson.JSON;
+import okhttp3.Call;
+import okhttp3.HttpUrl;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.ByteString;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.model.HttpMethod;
+import org.xtan.ok.http.model.HttpRequest;
+import org.xtan.ok.http.utils.FormEncoder;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 预编译的请求，由 {@link OkBuilder#prepare()} 生成
+ * <p>
+ * 请求地址、请求头、请求内容类型、client 与 {@link OkBuilder} 中已填充的参数在生成时构建为一个不可变的请求，
+ * 可以被多个线程重复执行。未绑定参数时直接复用构建好的请求，
+ * 通过 {@link #bind()} 绑定参数时只追加变化的部分，已填充的参数不会重新编码
+ * </p>
+ * <pre>
+ * PreparedRequest prepared = OkBuilder.url("http://localhost:8080/user").method(HttpMethod.GET).prepare();
+ * String user = prepared.bind().param("id", 1).execute();
+ * </pre>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class PreparedRequest {
+
+    private final OkHttpClient client;
+
+    private final HttpMethod method;
+
+    /**
+     * 构建好的请求
+     */
+    private final Request request;
+
+    /**
+     * 参数是否拼接在地址中
+     */
+    private final boolean query;
+
+    /**
+     * 编码后的表单参数，参数拼接在地址中或请求内容不是表单时为空
+     */
+    private final ByteString form;
+
+    /**
+     * json 请求的参数集合，设置了json请求实体时为空
+     */
+    private final Map<String, Object> jsonParams;
+
+    /**
+     * 是否是文件请求，文件请求不支持绑定参数
+     */
+    private final boolean hasFile;
+
+    PreparedRequest(OkHttpClient client, HttpMethod method, HttpRequest params, Request request) {
+        this.client = client;
+        this.method = method;
+        this.request = request;
+        this.hasFile = params.isHasFile();
+        this.query = HttpMethod.GET == method || HttpMethod.DELETE == method || HttpMethod.WS == method;
+        this.form = !query && !hasFile && !params.isJson() ? params.getForm() : null;
+        this.jsonParams = !query && params.isJson() && null == params.getJsonBodyObject()
+                ? new LinkedHashMap<>(params.getParamsEntries()) : null;
+    }
+
+    /**
+     * 绑定本次调用的参数，返回的对象不是线程安全的，每次调用创建一个
+     *
+     * @return
+     */
+    public Binding bind() {
+        return new Binding();
+    }
+
+    /**
+     * 同步执行，并返回请求响应内容
+     *
+     * @return
+     */
+    public String execute() {
+        return execute(request);
+    }
+
+    /**
+     * 同步执行，并返回请求响应内容
+     *
+     * @return
+     */
+    public byte[] executeBytes() {
+        return executeBytes(request);
+    }
+
+    /**
+     * 构建好的请求
+     *
+     * @return
+     */
+    public Request request() {
+        return request;
+    }
+
+    /**
+     * 执行请求的client
+     *
+     * @return
+     */
+    public OkHttpClient client() {
+        return client;
+    }
+
+    /**
+     * 创建执行构建好的请求的 Call，每次调用创建一个新的 Call
+     *
+     * @return
+     */
+    public Call newCall() {
+        return client.newCall(request);
+    }
+
+    private String execute(Request request) {
+        try (Response response = call(request)) {
+            if (null != response) {
+                ResponseBody body = response.body();
+                if (null != body) return body.string();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private byte[] executeBytes(Request request) {
+        try (Response response = call(request)) {
+            if (null != response) {
+                ResponseBody body = response.body();
+                if (null != body) return body.bytes();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        return null;
+    }
+
+    private Response call(Request request) {
+        try {
+            Call call = client.newCall(request);
+            OkBulk.track(call);
+            return call.execute();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 单次调用绑定的参数
+     */
+    public final class Binding {
+
+        private Map<String, Object> params;
+
+        private Request.Builder builder;
+
+        private Object jsonBody;
+
+        private Binding() {
+        }
+
+        /**
+         * 绑定参数，get、delete 请求追加到查询参数中，其他请求追加到表单中
+         *
+         * @param key
+         * @param value
+         * @return
+         */
+        public Binding param(String key, Object value) {
+            if (hasFile) {
+                throw new HttpClientException("prepared file request can not bind params!");
+            }
+            if (null == params) {
+                params = new LinkedHashMap<>(8);
+            }
+            params.put(key, value);
+            return this;
+        }
+
+        /**
+         * 绑定请求头，覆盖同名的请求头
+         *
+         * @param key
+         * @param value
+         * @return
+         */
+        public Binding header(String key, String value) {
+            builder().header(key, value);
+            return this;
+        }
+
+        /**
+         * 绑定json请求实体
+         *
+         * @param obj
+         * @return
+         */
+        public Binding json(Object obj) {
+            if (query) {
+                throw new HttpClientException(String.format("http method [%s] has no request body!", method));
+            }
+            this.jsonBody = obj;
+            return this;
+        }
+
+        /**
+         * 同步执行，并返回请求响应内容
+         *
+         * @return
+         */
+        public String execute() {
+            return PreparedRequest.this.execute(request());
+        }
+
+        /**
+         * 同步执行，并返回请求响应内容
+         *
+         * @return
+         */
+        public byte[] executeBytes() {
+            return PreparedRequest.this.executeBytes(request());
+        }
+
+        /**
+         * 生成本次调用的请求，未绑定任何内容时返回构建好的请求
+         * <p>
+         * 设置了json请求实体的请求，或同时绑定了 {@link #json(Object)} 与 {@link #param(String, Object)} 时，
+         * 绑定的参数无法写入请求内容，抛出 {@link HttpClientException}
+         * </p>
+         *
+         * @return
+         */
+        public Request request() {
+            if (null == builder && null == params && null == jsonBody) {
+                return request;
+            }
+            if (null != params && !query) {
+                if (null != jsonBody) {
+                    throw new HttpClientException("prepared request can not bind json body and params at the same time!");
+                }
+                if (null == jsonParams && null == form) {
+                    throw new HttpClientException("prepared request with json body can not bind params!");
+                }
+            }
+            Request.Builder builder = builder();
+            RequestBody body = request.body();
+            MediaType mediaType = null == body ? null : body.contentType();
+            if (null != params && query) {
+                builder.url(FormEncoder.query(params, request.url().newBuilder()).build());
+            } else if (null != params && null != jsonParams) {
+                Map<String, Object> merged = new LinkedHashMap<>(jsonParams);
+                merged.putAll(params);
+                builder.method(request.method(), RequestBody.create(JSON.toJSONString(merged), mediaType));
+            } else if (null != params && null != form) {
+                Buffer buffer = new Buffer().write(form);
+                if (form.size() > 0) {
+                    buffer.writeByte('&');
+                }
+                FormEncoder.writeTo(params, buffer);
+                builder.method(request.method(), RequestBody.create(buffer.readByteString(), mediaType));
+            }
+            if (null != jsonBody) {
+                builder.method(request.method(), RequestBody.create(JSON.toJSONString(jsonBody), mediaType));
+            }
+            return builder.build();
+        }
+
+        private Request.Builder builder() {
+            if (null == builder) {
+                builder = request.newBuilder();
+            }
+            return builder;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package org.xtan.ok.http.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 不等待响应的请求
+ * <p>
+ * 方法的返回值必须是 void，调用时不等待请求完成。
+ * durable 为 false 时请求直接交给调度器执行，进程退出时未完成的请求会丢失；
+ * durable 为 true 时请求被序列化并追加到本地的持久化发件箱 {@link org.xtan.ok.http.outbox.Outbox}，
+ * 由后台线程按批发送并重试，进程重启后继续发送
+ * </p>
+ * 示例
+ * <pre>
+ *
+ * &#64;HttpClient("localhost:8080")
+ * public interface AuditClient {
+ *
+ *     &#64;Post("audit")
+ *     &#64;Async(durable = true)
+ *     void audit(&#64;JSONBody AuditEvent event);
+ * }
+ * </pre>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Async {
+
+    /**
+     * 是否写入持久化发件箱
+     */
+    boolean durable() default false;
+}
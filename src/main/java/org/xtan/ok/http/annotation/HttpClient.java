@@ -1,9 +1,16 @@
 package org.xtan.ok.http.annotation;
 
+import org.xtan.ok.http.model.HttpProtocol;
+import org.xtan.ok.http.model.Toggle;
+
 import java.lang.annotation.*;
 
 /**
  * 申明为OkHttp接口请求类
+ * <p>
+ * 连接相关的参数未设置（小于0）时继承共享client的配置，
+ * 同样可以通过 ok.http.clients.{name}.* 进行配置，配置文件中的参数优先级更高
+ * </p>
  *
  * @author: XOptional-TAN
  * @date: 2021-08-06
@@ -23,4 +30,93 @@ public @interface HttpClient {
      * 默认取ClassName作为bean名称
      */
     String name() default "";
+
+    /**
+     * 连接超时时间(毫秒)
+     */
+    long connectTimeout() default -1;
+
+    /**
+     * 读取超时时间(毫秒)
+     */
+    long readTimeout() default -1;
+
+    /**
+     * 写入超时时间(毫秒)
+     */
+    long writeTimeout() default -1;
+
+    /**
+     * 整个调用的超时时间(毫秒)
+     */
+    long callTimeout() default -1;
+
+    /**
+     * 连接池最大空闲连接数
+     * 设置后当前client使用独立的连接池
+     */
+    int maxIdleConnections() default -1;
+
+    /**
+     * 连接池空闲连接存活时间(毫秒)
+     * 设置后当前client使用独立的连接池
+     */
+    long keepAliveDuration() default -1;
+
+    /**
+     * 最大并发请求数
+     * 设置后当前client使用独立的调度器
+     */
+    int maxRequests() default -1;
+
+    /**
+     * 单个host的最大并发请求数
+     * 设置后当前client使用独立的调度器
+     */
+    int maxRequestsPerHost() default -1;
+
+    /**
+     * 是否开启 TCP_NODELAY
+     */
+    Toggle tcpNoDelay() default Toggle.DEFAULT;
+
+    /**
+     * socket 发送缓冲区大小(字节)
+     */
+    int sendBufferSize() default -1;
+
+    /**
+     * socket 接收缓冲区大小(字节)
+     */
+    int receiveBufferSize() default -1;
+
+    /**
+     * http协议
+     * 使用 h2 时多个并发请求复用同一个连接
+     */
+    HttpProtocol protocol() default HttpProtocol.DEFAULT;
+
+    /**
+     * h2 连接的 ping 间隔(毫秒)，用于保持连接并检测失效的连接
+     */
+    long pingInterval() default -1;
+
+    /**
+     * 是否并发竞速连接解析出的多个地址(Happy Eyeballs)
+     * 开启后某个地址不可达时不需要等待完整的连接超时
+     */
+    Toggle connectionRacing() default Toggle.DEFAULT;
+
+    /**
+     * 竞速连接时发起下一个连接尝试的间隔(毫秒)，默认 250
+     */
+    long connectionAttemptDelay() default -1;
+
+    /**
+     * 传输层实现，默认为 okhttp
+     * jdk 使用 java.net.http.HttpClient，需要 Java 11+
+     *
+     * @see org.xtan.ok.http.transport.HttpTransportProvider
+     */
+    String transport() default "";
 }
@@ -0,0 +1,38 @@
+package org.xtan.ok.http.annotation;
+
+import okhttp3.Interceptor;
+
+import java.lang.annotation.*;
+
+/**
+ * 拦截器设置
+ * <p>
+ * 声明在 HttpClient 接口上时对所有方法生效，声明在方法上时只对该方法生效，执行顺序为 接口 -> 方法。
+ * 拦截器存在同类型的 spring bean 时使用 bean，否则通过无参构造创建，同一个类型只创建一次
+ * </p>
+ * 示例
+ * <pre>
+ *
+ * &#64;HttpClient("localhost:8080")
+ * &#64;Interceptors(AuthInterceptor.class)
+ * public interface TestClient {
+ *
+ *     &#64;Get("test")
+ *     &#64;Interceptors(RetryInterceptor.class)
+ *     String test();
+ * }
+ * </pre>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Interceptors {
+
+    /**
+     * 拦截器类型
+     */
+    Class<? extends Interceptor>[] value();
+}
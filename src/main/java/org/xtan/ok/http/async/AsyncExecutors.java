@@ -0,0 +1,75 @@
+package org.xtan.ok.http.async;
+
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步请求解码响应内容的线程池
+ * <p>
+ * 配置文件格式：
+ * ok.http.async.threads=8
+ * 未配置时使用 {@link ForkJoinPool#commonPool()}，开启虚拟线程执行模式时使用虚拟线程，
+ * 也可以通过 {@link #executor(Executor)} 指定
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class AsyncExecutors {
+
+    public static final String THREADS_PROPERTY = "ok.http.async.threads";
+
+    private static volatile Executor executor;
+
+    private AsyncExecutors() {
+    }
+
+    /**
+     * 解码响应内容的线程池
+     *
+     * @return
+     */
+    public static Executor executor() {
+        Executor current = executor;
+        if (null == current) {
+            synchronized (AsyncExecutors.class) {
+                current = executor;
+                if (null == current) {
+                    executor = current = create();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 指定解码响应内容的线程池
+     *
+     * @param executor 线程池
+     */
+    public static void executor(Executor executor) {
+        AsyncExecutors.executor = executor;
+    }
+
+    private static Executor create() {
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        Integer threads = null != environment ? environment.getProperty(THREADS_PROPERTY, Integer.class) : null;
+        if (null == threads || threads <= 0) {
+            return VirtualThreads.isEnabled() ? VirtualThreads.executor() : ForkJoinPool.commonPool();
+        }
+        AtomicInteger counter = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "ok-http-async-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+}
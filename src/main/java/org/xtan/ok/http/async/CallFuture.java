@@ -0,0 +1,151 @@
+package org.xtan.ok.http.async;
+
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.OkHttpClient;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+import org.xtan.ok.http.transport.TransportInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * 异步请求的结果
+ * <p>
+ * 通过 {@link Call#enqueue(Callback)} 执行，使用其他传输层时可以不经过调度器异步发送，调度器线程只读取响应内容，响应内容的解码与后续的回调在指定的线程池中执行。
+ * 虚拟线程执行模式下通过 {@link #execute(Call, Function, Executor, Executor)} 在虚拟线程中同步执行。
+ * 取消时同时取消底层的请求
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class CallFuture<T> extends CompletableFuture<T> implements Callback {
+
+    private final Call call;
+
+    private final Function<String, ? extends T> decoder;
+
+    private final Executor executor;
+
+    private CallFuture(Call call, Function<String, ? extends T> decoder, Executor executor) {
+        this.call = call;
+        this.decoder = decoder;
+        this.executor = executor;
+    }
+
+    /**
+     * 异步执行请求
+     * client 使用其他传输层并且可以异步发送时不经过调度器，由传输层直接发送，否则通过调度器执行
+     *
+     * @param client   执行请求的 client
+     * @param call     由 client 创建的请求
+     * @param decoder  响应内容解码器
+     * @param executor 解码使用的线程池
+     * @return
+     * @see TransportInterceptor#executeAsync(OkHttpClient, Call)
+     */
+    public static <T> CallFuture<T> enqueue(OkHttpClient client, Call call, Function<String, ? extends T> decoder, Executor executor) {
+        CallFuture<T> future = new CallFuture<>(call, decoder, executor);
+        CompletableFuture<Response> response = TransportInterceptor.executeAsync(client, call);
+        if (null == response) {
+            call.enqueue(future);
+            return future;
+        }
+        response.whenComplete((it, e) -> {
+            if (null == e) {
+                future.onResponse(call, it);
+            } else {
+                Throwable cause = e instanceof CompletionException && null != e.getCause() ? e.getCause() : e;
+                future.onFailure(call, cause instanceof IOException ? (IOException) cause : new IOException(cause));
+            }
+        });
+        return future;
+    }
+
+    /**
+     * 在指定的线程池中同步执行请求，不经过调度器排队，用于虚拟线程执行模式
+     * 解码线程池与执行请求的线程池相同时直接在执行请求的线程中解码
+     *
+     * @param call         请求
+     * @param decoder      响应内容解码器
+     * @param callExecutor 执行请求的线程池
+     * @param executor     解码使用的线程池
+     * @return
+     */
+    public static <T> CallFuture<T> execute(Call call, Function<String, ? extends T> decoder, Executor callExecutor, Executor executor) {
+        CallFuture<T> future = new CallFuture<>(call, decoder, callExecutor == executor ? Runnable::run : executor);
+        try {
+            callExecutor.execute(() -> {
+                if (future.isDone()) {
+                    return;
+                }
+                Response response;
+                try {
+                    response = call.execute();
+                } catch (IOException e) {
+                    future.onFailure(call, e);
+                    return;
+                }
+                future.onResponse(call, response);
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        //先完成自身，取消请求时同步回调的失败不会覆盖取消的结果
+        boolean canceled = super.cancel(mayInterruptIfRunning);
+        call.cancel();
+        return canceled;
+    }
+
+    /**
+     * 底层的请求
+     *
+     * @return
+     */
+    public Call call() {
+        return call;
+    }
+
+    @Override
+    public void onFailure(@NotNull Call call, @NotNull IOException e) {
+        completeExceptionally(e);
+    }
+
+    @Override
+    public void onResponse(@NotNull Call call, @NotNull Response response) {
+        String result;
+        try (Response it = response) {
+            ResponseBody body = it.body();
+            result = null == body ? null : body.string();
+        } catch (IOException e) {
+            completeExceptionally(e);
+            return;
+        }
+        if (isDone()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    complete(decoder.apply(result));
+                } catch (Throwable e) {
+                    completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            completeExceptionally(e);
+        }
+    }
+}
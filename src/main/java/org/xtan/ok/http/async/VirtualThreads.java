@@ -0,0 +1,133 @@
+package org.xtan.ok.http.async;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * 虚拟线程执行模式
+ * <p>
+ * 配置文件格式：
+ * ok.http.virtual-threads.enabled=true
+ * 只在 Java 21+ 构建与运行时可用，否则仍然使用平台线程。开启后：
+ * 调度器使用虚拟线程执行 enqueue 的请求；
+ * 异步请求不再经过调度器排队，在虚拟线程中同步执行，不受调度器 maxRequests 与 maxRequestsPerHost 的限制；
+ * 未配置 {@link AsyncExecutors#THREADS_PROPERTY} 时解码也在虚拟线程中执行
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    public static final String ENABLED_PROPERTY = "ok.http.virtual-threads.enabled";
+
+    /**
+     * 虚拟线程池实现的类名，只在 Java 21+ 编译
+     */
+    private static final String EXECUTOR_PROVIDER = "org.xtan.ok.http.async.virtual.VirtualThreadExecutorProvider";
+
+    /**
+     * 根据线程名前缀创建虚拟线程池，不可用时为空
+     */
+    private static final Function<String, ExecutorService> PROVIDER = load();
+
+    /**
+     * 是否开启，读取到配置或者手动指定之前为空
+     */
+    private static volatile Boolean enabled;
+
+    private static volatile ExecutorService executor;
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 当前环境是否支持虚拟线程
+     *
+     * @return
+     */
+    public static boolean isAvailable() {
+        return null != PROVIDER;
+    }
+
+    /**
+     * 是否开启了虚拟线程执行模式，不在 spring 容器中时默认不开启
+     *
+     * @return
+     */
+    public static boolean isEnabled() {
+        Boolean current = enabled;
+        if (null == current) {
+            EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+            if (null == environment) {
+                return false;
+            }
+            current = enabled(Boolean.TRUE.equals(environment.getProperty(ENABLED_PROPERTY, Boolean.class)));
+        }
+        return current;
+    }
+
+    /**
+     * 指定是否开启虚拟线程执行模式，当前环境不支持时不会开启
+     *
+     * @param value 是否开启
+     * @return 是否已开启
+     */
+    public static boolean enabled(boolean value) {
+        if (value && !isAvailable()) {
+            log.warn("virtual threads require Java 21+, fallback to platform threads");
+        }
+        boolean current = value && isAvailable();
+        enabled = current;
+        return current;
+    }
+
+    /**
+     * 共享的虚拟线程池，每个任务创建一个虚拟线程，不需要关闭
+     *
+     * @return
+     */
+    public static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (null == current) {
+            synchronized (VirtualThreads.class) {
+                current = executor;
+                if (null == current) {
+                    executor = current = newExecutor("ok-http-virtual-");
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 创建独立的虚拟线程池，例如调度器使用的线程池，随调度器一起关闭
+     *
+     * @param prefix 线程名前缀
+     * @return
+     */
+    public static ExecutorService newExecutor(String prefix) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("virtual threads require Java 21+");
+        }
+        return PROVIDER.apply(prefix);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<String, ExecutorService> load() {
+        //虚拟线程实现在 Java 21 以下的版本中不存在或者无法加载
+        try {
+            return (Function<String, ExecutorService>) Class.forName(EXECUTOR_PROVIDER, true, VirtualThreads.class.getClassLoader())
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug("virtual threads are not available: {}", e.toString());
+            return null;
+        }
+    }
+}
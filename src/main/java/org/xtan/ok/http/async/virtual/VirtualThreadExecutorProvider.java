@@ -0,0 +1,24 @@
+package org.xtan.ok.http.async.virtual;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Function;
+
+/**
+ * 虚拟线程的线程池在 Java 21 以下的版本中不可用
+ * Java 21+ 运行时加载 multi-release jar 中 META-INF/versions/21 下的实现(源码位于 src/main/java21)，
+ * 创建失败时由 {@link org.xtan.ok.http.async.VirtualThreads} 回退到平台线程
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class VirtualThreadExecutorProvider implements Function<String, ExecutorService> {
+
+    public VirtualThreadExecutorProvider() {
+        throw new UnsupportedOperationException("virtual threads require Java 21+");
+    }
+
+    @Override
+    public ExecutorService apply(String prefix) {
+        throw new UnsupportedOperationException("virtual threads require Java 21+");
+    }
+}
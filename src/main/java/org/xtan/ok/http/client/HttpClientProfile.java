@@ -0,0 +1,430 @@
+package org.xtan.ok.http.client;
+
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.ClassUtils;
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.async.VirtualThreads;
+import org.xtan.ok.http.config.EnvironmentComponent;
+import org.xtan.ok.http.dns.CachingDns;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.handler.MappingPathResolveHandler;
+import org.xtan.ok.http.model.HttpProtocol;
+import org.xtan.ok.http.ssl.TlsOptions;
+import org.xtan.ok.http.utils.XOptional;
+
+import javax.net.SocketFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HttpClient 的连接配置
+ * <p>
+ * 配置来源于 {@link HttpClient} 注解以及 spring 配置，配置文件优先级更高
+ * 配置文件格式：ok.http.clients.{name}.connect-timeout=3000
+ * {name} 为 {@link HttpClient#name()}，未设置时为接口的全限定类名，不同包中同名的接口使用各自的 client
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpClientProfile {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PROPERTY_PREFIX = "ok.http.clients.";
+
+    /**
+     * 未设置的配置默认为共享client的配置
+     */
+    private static final HttpClientProfile DEFAULT = new HttpClientProfile("default");
+
+    private final String name;
+
+    private Long connectTimeout;
+
+    private Long readTimeout;
+
+    private Long writeTimeout;
+
+    private Long callTimeout;
+
+    private Integer maxIdleConnections;
+
+    private Long keepAliveDuration;
+
+    private Integer maxRequests;
+
+    private Integer maxRequestsPerHost;
+
+    private Boolean tcpNoDelay;
+
+    private Integer sendBufferSize;
+
+    private Integer receiveBufferSize;
+
+    private HttpProtocol protocol = HttpProtocol.DEFAULT;
+
+    private Long pingInterval;
+
+    private Boolean retryOnConnectionFailure;
+
+    /**
+     * 是否并发竞速连接多个地址
+     */
+    private Boolean connectionRacing;
+
+    /**
+     * 竞速连接的尝试间隔(毫秒)
+     */
+    private Long connectionAttemptDelay;
+
+    /**
+     * 传输层实现
+     *
+     * @see org.xtan.ok.http.transport.HttpTransports
+     */
+    private String transport;
+
+    /**
+     * unix domain socket 文件地址
+     */
+    private String unixSocket;
+
+    /**
+     * TLS 配置
+     */
+    private final TlsOptions tls = new TlsOptions();
+
+    private HttpClientProfile(String name) {
+        this.name = name;
+    }
+
+    /**
+     * 共享client的默认配置
+     *
+     * @return
+     */
+    public static HttpClientProfile defaults() {
+        return DEFAULT;
+    }
+
+    /**
+     * 根据 HttpClient 接口解析配置
+     *
+     * @param type 声明了 {@link HttpClient} 的接口
+     * @return
+     */
+    public static HttpClientProfile of(Class<?> type) {
+        HttpClient annotation = type.getAnnotation(HttpClient.class);
+        HttpClientProfile profile = new HttpClientProfile(
+                StringUtils.isNotBlank(annotation.name()) ? annotation.name() : type.getName());
+        //注解配置
+        profile.connectTimeout = positive(annotation.connectTimeout());
+        profile.readTimeout = positive(annotation.readTimeout());
+        profile.writeTimeout = positive(annotation.writeTimeout());
+        profile.callTimeout = positive(annotation.callTimeout());
+        profile.maxIdleConnections = positive(annotation.maxIdleConnections());
+        profile.keepAliveDuration = positive(annotation.keepAliveDuration());
+        profile.maxRequests = positive(annotation.maxRequests());
+        profile.maxRequestsPerHost = positive(annotation.maxRequestsPerHost());
+        profile.tcpNoDelay = annotation.tcpNoDelay().value();
+        profile.sendBufferSize = positive(annotation.sendBufferSize());
+        profile.receiveBufferSize = positive(annotation.receiveBufferSize());
+        profile.protocol = annotation.protocol();
+        profile.pingInterval = positive(annotation.pingInterval());
+        profile.connectionRacing = annotation.connectionRacing().value();
+        profile.connectionAttemptDelay = positive(annotation.connectionAttemptDelay());
+        profile.transport = StringUtils.isNotBlank(annotation.transport()) ? annotation.transport() : null;
+        //配置文件覆盖注解配置
+        profile.connectTimeout = profile.property("connect-timeout", Long.class, profile.connectTimeout);
+        profile.readTimeout = profile.property("read-timeout", Long.class, profile.readTimeout);
+        profile.writeTimeout = profile.property("write-timeout", Long.class, profile.writeTimeout);
+        profile.callTimeout = profile.property("call-timeout", Long.class, profile.callTimeout);
+        profile.maxIdleConnections = profile.property("max-idle-connections", Integer.class, profile.maxIdleConnections);
+        profile.keepAliveDuration = profile.property("keep-alive-duration", Long.class, profile.keepAliveDuration);
+        profile.maxRequests = profile.property("max-requests", Integer.class, profile.maxRequests);
+        profile.maxRequestsPerHost = profile.property("max-requests-per-host", Integer.class, profile.maxRequestsPerHost);
+        profile.tcpNoDelay = profile.property("tcp-no-delay", Boolean.class, profile.tcpNoDelay);
+        profile.sendBufferSize = profile.property("send-buffer-size", Integer.class, profile.sendBufferSize);
+        profile.receiveBufferSize = profile.property("receive-buffer-size", Integer.class, profile.receiveBufferSize);
+        String protocol = profile.property("protocol", String.class, null);
+        if (null != protocol) profile.protocol = HttpProtocol.of(protocol);
+        profile.pingInterval = profile.property("ping-interval", Long.class, profile.pingInterval);
+        profile.retryOnConnectionFailure = profile.property("retry-on-connection-failure", Boolean.class, null);
+        profile.connectionRacing = profile.property("connection-racing", Boolean.class, profile.connectionRacing);
+        profile.connectionAttemptDelay = profile.property("connection-attempt-delay", Long.class, profile.connectionAttemptDelay);
+        profile.transport = profile.property("transport", String.class, profile.transport);
+        profile.unixSocket = profile.property("unix-socket", String.class,
+                MappingPathResolveHandler.unixSocketPath(annotation.value()));
+        //TLS 配置
+        TlsOptions tls = profile.tls;
+        tls.trustAll(profile.property("ssl.trust-all", Boolean.class, tls.trustAll()))
+                .provider(profile.property("ssl.provider", String.class, tls.provider()))
+                .protocol(profile.property("ssl.protocol", String.class, tls.protocol()))
+                .trustStore(profile.property("ssl.trust-store", String.class, null))
+                .trustStorePassword(profile.property("ssl.trust-store-password", String.class, null))
+                .trustStoreType(profile.property("ssl.trust-store-type", String.class, null))
+                .keyStore(profile.property("ssl.key-store", String.class, null))
+                .keyStorePassword(profile.property("ssl.key-store-password", String.class, null))
+                .keyStoreType(profile.property("ssl.key-store-type", String.class, null))
+                .sessionCacheSize(profile.property("ssl.session-cache-size", Integer.class, null))
+                .sessionTimeout(profile.property("ssl.session-timeout", Integer.class, null));
+        return profile;
+    }
+
+    /**
+     * 配置名称
+     *
+     * @return
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * TLS 配置
+     *
+     * @return
+     */
+    public TlsOptions tls() {
+        return tls;
+    }
+
+    /**
+     * 传输层实现，为空时使用 okhttp
+     *
+     * @return
+     */
+    public String transport() {
+        return transport;
+    }
+
+    /**
+     * 是否没有任何自定义配置
+     *
+     * @return
+     */
+    public boolean isDefault() {
+        return null == connectTimeout && null == readTimeout && null == writeTimeout && null == callTimeout
+                && !hasPool() && !hasDispatcher() && !hasSocketOptions() && tls.isDefault()
+                && HttpProtocol.DEFAULT == protocol && null == pingInterval && null == retryOnConnectionFailure
+                && null == unixSocket && !isConnectionRacing() && null == transport;
+    }
+
+    /**
+     * 在共享client的基础上应用当前配置
+     *
+     * @param builder 由共享client衍生出的构建器
+     */
+    public void apply(OkHttpClient.Builder builder) {
+        XOptional.ofNullable(connectTimeout).ifPresent(it -> builder.connectTimeout(it, TimeUnit.MILLISECONDS));
+        XOptional.ofNullable(readTimeout).ifPresent(it -> builder.readTimeout(it, TimeUnit.MILLISECONDS));
+        XOptional.ofNullable(writeTimeout).ifPresent(it -> builder.writeTimeout(it, TimeUnit.MILLISECONDS));
+        XOptional.ofNullable(callTimeout).ifPresent(it -> builder.callTimeout(it, TimeUnit.MILLISECONDS));
+        //独立的连接池
+        if (hasPool()) {
+            builder.connectionPool(new ConnectionPool(
+                    null != maxIdleConnections ? maxIdleConnections : 5,
+                    null != keepAliveDuration ? keepAliveDuration : TimeUnit.MINUTES.toMillis(5),
+                    TimeUnit.MILLISECONDS));
+        }
+        //独立的调度器
+        if (hasDispatcher()) {
+            Dispatcher dispatcher = VirtualThreads.isEnabled()
+                    ? new Dispatcher(VirtualThreads.newExecutor("ok-http-" + name + "-dispatcher-")) : new Dispatcher();
+            XOptional.ofNullable(maxRequests).ifPresent(dispatcher::setMaxRequests);
+            XOptional.ofNullable(maxRequestsPerHost).ifPresent(dispatcher::setMaxRequestsPerHost);
+            builder.dispatcher(dispatcher);
+        }
+        if (hasSocketOptions()) {
+            builder.socketFactory(new ProfileSocketFactory(this));
+        }
+        //unix domain socket，不进行 dns 解析
+        if (null != unixSocket) {
+            if (!ClassUtils.isPresent("jnr.unixsocket.UnixSocket", HttpClientProfile.class.getClassLoader())) {
+                throw new HttpClientException("unix domain socket requires com.github.jnr:jnr-unixsocket!");
+            }
+            builder.socketFactory(new UnixDomainSocketFactory(new File(unixSocket)))
+                    .dns(UnixDomainSocketFactory.DNS);
+        }
+        //协议与连接健康检查
+        if (HttpProtocol.DEFAULT != protocol) builder.protocols(protocol.protocols());
+        XOptional.ofNullable(pingInterval).ifPresent(it -> builder.pingInterval(it, TimeUnit.MILLISECONDS));
+        XOptional.ofNullable(retryOnConnectionFailure).ifPresent(builder::retryOnConnectionFailure);
+        //竞速连接，在已设置的 socket 参数与 dns 的基础上包装，unix domain socket 只有一个地址不需要竞速
+        if (isConnectionRacing() && null == unixSocket) {
+            OkHttpClient client = builder.build();
+            RacingSocketFactory factory = new RacingSocketFactory(client.socketFactory(), client.dns(),
+                    null != connectionAttemptDelay ? connectionAttemptDelay : RacingSocketFactory.DEFAULT_ATTEMPT_DELAY);
+            builder.socketFactory(factory).dns(factory.dns());
+        }
+    }
+
+    /**
+     * 检查其他传输层无法生效的配置
+     * 其他传输层替代了 okhttp 的连接层，unix domain socket、竞速连接、socket参数、连接池、ping 与静态 dns 解析都不会生效，
+     * 静默忽略会把请求发送到错误的地址，直接抛出异常
+     *
+     * @param client 已经应用了当前配置的 client
+     */
+    public void checkTransport(OkHttpClient client) {
+        if (null != unixSocket) unsupported("unix-socket");
+        if (isConnectionRacing()) unsupported("connection-racing");
+        if (null != tcpNoDelay) unsupported("tcp-no-delay");
+        if (null != sendBufferSize) unsupported("send-buffer-size");
+        if (null != receiveBufferSize) unsupported("receive-buffer-size");
+        if (null != maxIdleConnections) unsupported("max-idle-connections");
+        if (null != keepAliveDuration) unsupported("keep-alive-duration");
+        if (null != pingInterval) unsupported("ping-interval");
+        if (client.dns() instanceof CachingDns && !((CachingDns) client.dns()).options().overrides().isEmpty()) {
+            unsupported("ok.http.dns.overrides");
+        }
+    }
+
+    private void unsupported(String option) {
+        throw new HttpClientException(String.format("[%s] %s is not supported by the %s transport, use the okhttp transport instead!",
+                name, option, transport));
+    }
+
+    /**
+     * 是否并发竞速连接多个地址
+     *
+     * @return
+     */
+    public boolean isConnectionRacing() {
+        return Boolean.TRUE.equals(connectionRacing);
+    }
+
+    /**
+     * 设置socket参数，必须在建立连接之前调用
+     *
+     * @param socket socket
+     * @throws SocketException
+     */
+    void configure(Socket socket) throws SocketException {
+        if (null != tcpNoDelay) socket.setTcpNoDelay(tcpNoDelay);
+        if (null != sendBufferSize) socket.setSendBufferSize(sendBufferSize);
+        if (null != receiveBufferSize) socket.setReceiveBufferSize(receiveBufferSize);
+    }
+
+    private boolean hasPool() {
+        return null != maxIdleConnections || null != keepAliveDuration;
+    }
+
+    private boolean hasDispatcher() {
+        return null != maxRequests || null != maxRequestsPerHost;
+    }
+
+    private boolean hasSocketOptions() {
+        return null != tcpNoDelay || null != sendBufferSize || null != receiveBufferSize;
+    }
+
+    /**
+     * 配置是否相同，同名的配置只构建一个 client，用于检查同名接口的注解配置是否冲突
+     * TLS 配置只来源于配置文件，同名时一定相同，不参与比较
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof HttpClientProfile)) return false;
+        HttpClientProfile that = (HttpClientProfile) o;
+        return name.equals(that.name) && Objects.equals(connectTimeout, that.connectTimeout)
+                && Objects.equals(readTimeout, that.readTimeout) && Objects.equals(writeTimeout, that.writeTimeout)
+                && Objects.equals(callTimeout, that.callTimeout) && Objects.equals(maxIdleConnections, that.maxIdleConnections)
+                && Objects.equals(keepAliveDuration, that.keepAliveDuration) && Objects.equals(maxRequests, that.maxRequests)
+                && Objects.equals(maxRequestsPerHost, that.maxRequestsPerHost) && Objects.equals(tcpNoDelay, that.tcpNoDelay)
+                && Objects.equals(sendBufferSize, that.sendBufferSize) && Objects.equals(receiveBufferSize, that.receiveBufferSize)
+                && protocol == that.protocol && Objects.equals(pingInterval, that.pingInterval)
+                && Objects.equals(retryOnConnectionFailure, that.retryOnConnectionFailure)
+                && Objects.equals(connectionRacing, that.connectionRacing)
+                && Objects.equals(connectionAttemptDelay, that.connectionAttemptDelay)
+                && Objects.equals(transport, that.transport) && Objects.equals(unixSocket, that.unixSocket);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, connectTimeout, readTimeout, writeTimeout, callTimeout, maxIdleConnections, keepAliveDuration,
+                maxRequests, maxRequestsPerHost, tcpNoDelay, sendBufferSize, receiveBufferSize, protocol, pingInterval,
+                retryOnConnectionFailure, connectionRacing, connectionAttemptDelay, transport, unixSocket);
+    }
+
+    /**
+     * 读取 ok.http.clients.{name}.{key} 配置
+     */
+    private <T> T property(String key, Class<T> type, T defaultValue) {
+        if (null == EnvironmentComponent.INSTANCE) {
+            return defaultValue;
+        }
+        T value = EnvironmentComponent.INSTANCE.getProperty(PROPERTY_PREFIX + name + "." + key, type);
+        return null != value ? value : defaultValue;
+    }
+
+    private static Long positive(long value) {
+        return value < 0 ? null : value;
+    }
+
+    private static Integer positive(int value) {
+        return value < 0 ? null : value;
+    }
+
+    /**
+     * 创建socket时设置socket参数
+     */
+    static class ProfileSocketFactory extends SocketFactory {
+
+        private final SocketFactory delegate = SocketFactory.getDefault();
+
+        private final HttpClientProfile profile;
+
+        ProfileSocketFactory(HttpClientProfile profile) {
+            this.profile = profile;
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            Socket socket = delegate.createSocket();
+            profile.configure(socket);
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            Socket socket = createSocket();
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            Socket socket = createSocket();
+            socket.bind(new InetSocketAddress(localHost, localPort));
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            Socket socket = createSocket();
+            socket.connect(new InetSocketAddress(host, port));
+            return socket;
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            Socket socket = createSocket();
+            socket.bind(new InetSocketAddress(localAddress, localPort));
+            socket.connect(new InetSocketAddress(address, port));
+            return socket;
+        }
+    }
+}
@@ -0,0 +1,316 @@
+package org.xtan.ok.http.client;
+
+import okhttp3.Dispatcher;
+import okhttp3.Dns;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.factory.DisposableBean;
+import org.xtan.ok.http.async.VirtualThreads;
+import org.xtan.ok.http.dns.CachingDns;
+import org.xtan.ok.http.dns.DnsOptions;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.interceptor.GzipRequestInterceptor;
+import org.xtan.ok.http.interceptor.LogInterceptor;
+import org.xtan.ok.http.ssl.TlsContext;
+import org.xtan.ok.http.transport.HttpTransport;
+import org.xtan.ok.http.transport.HttpTransports;
+import org.xtan.ok.http.transport.TransportInterceptor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OkHttpClient 注册中心
+ * <p>
+ * 持有全局共享的 {@link OkHttpClient}，所有的请求都复用同一个连接池与调度器，
+ * 衍生出来的 client 均通过 {@link OkHttpClient#newBuilder()} 构建，不会重复创建连接池与线程池。
+ * spring 容器关闭时释放连接池与调度器线程
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class OkClientRegistry implements DisposableBean {
+
+    /**
+     * 注册到 spring 容器中的 bean 名称
+     */
+    public static final String BEAN_NAME = "okClientRegistry";
+
+    private static volatile OkClientRegistry INSTANCE;
+
+    /**
+     * 根 client，只持有连接池、调度器与 DNS 缓存
+     */
+    private final OkHttpClient root;
+
+    /**
+     * http 请求使用的共享 client
+     */
+    private final OkHttpClient client;
+
+    /**
+     * ws 请求使用的共享 client
+     */
+    private final OkHttpClient wsClient;
+
+    /**
+     * 带有 ping-pong 的 ws 请求使用的共享 client
+     */
+    private final OkHttpClient pingWsClient;
+
+    /**
+     * 开启了 gzip 的衍生 client 缓存
+     * key 可能是调用方通过 {@link org.xtan.ok.http.OkBuilder#client(OkHttpClient)} 传入的 client，使用弱引用，
+     * 调用方不再使用时随之回收，OkHttpClient 没有重写 equals，按照实例区分，衍生的 client 不持有原始 client
+     */
+    private final Map<OkHttpClient, OkHttpClient> gzipClients = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * 添加了拦截器的衍生 client 缓存，key 为原始 client 与拦截器
+     */
+    private final Map<List<Object>, OkHttpClient> interceptedClients = new ConcurrentHashMap<>();
+
+    /**
+     * 按照配置名称缓存的衍生 client
+     */
+    private final Map<String, OkHttpClient> profileClients = new ConcurrentHashMap<>();
+
+    /**
+     * 已经使用过的配置，用于检查同名配置是否冲突
+     */
+    private final Map<String, HttpClientProfile> profiles = new ConcurrentHashMap<>();
+
+    /**
+     * 共享的 TLS 上下文
+     */
+    private final TlsContext tls;
+
+    /**
+     * 按照配置名称缓存的 TLS 上下文
+     */
+    private final Map<String, TlsContext> profileTls = new ConcurrentHashMap<>();
+
+    /**
+     * 共享的 DNS 缓存，所有衍生的 client 共用
+     */
+    private final CachingDns dns;
+
+    private OkClientRegistry() {
+        DnsOptions dnsOptions = DnsOptions.load();
+        this.dns = dnsOptions.enabled() ? new CachingDns(dnsOptions) : null;
+        OkHttpClient.Builder rootBuilder = new OkHttpClient.Builder().dns(null != dns ? dns : Dns.SYSTEM);
+        //虚拟线程执行模式下调度器使用虚拟线程执行 enqueue 的请求
+        if (VirtualThreads.isEnabled()) {
+            rootBuilder.dispatcher(new Dispatcher(VirtualThreads.newExecutor("ok-http-dispatcher-")));
+        }
+        this.root = rootBuilder.build();
+        this.tls = TlsContext.defaults();
+        OkHttpClient.Builder builder = root.newBuilder().addInterceptor(new LogInterceptor());
+        tls.apply(builder);
+        this.client = builder.build();
+        this.wsClient = root.newBuilder()
+                //设置读取超时时间
+                .readTimeout(3, TimeUnit.SECONDS)
+                //设置写的超时时间
+                .writeTimeout(3, TimeUnit.SECONDS)
+                //设置连接超时时间
+                .connectTimeout(3, TimeUnit.SECONDS)
+                .build();
+        this.pingWsClient = wsClient.newBuilder()
+                .pingInterval(40, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 获取注册中心实例
+     * 不依赖 spring 容器也可以使用，容器关闭后再次获取会重新创建
+     *
+     * @return
+     */
+    public static OkClientRegistry instance() {
+        OkClientRegistry registry = INSTANCE;
+        if (null == registry) {
+            synchronized (OkClientRegistry.class) {
+                registry = INSTANCE;
+                if (null == registry) {
+                    registry = new OkClientRegistry();
+                    INSTANCE = registry;
+                }
+            }
+        }
+        return registry;
+    }
+
+    /**
+     * 共享的 http client
+     *
+     * @return
+     */
+    public OkHttpClient client() {
+        return client;
+    }
+
+    /**
+     * 获取指定配置的 client
+     * 没有自定义配置时直接返回共享的client，同一个配置名称只会构建一次
+     * 多个接口使用相同的 name 但注解配置不同时无法共享同一个 client，抛出异常
+     *
+     * @param profile 连接配置
+     * @return
+     */
+    public OkHttpClient client(HttpClientProfile profile) {
+        HttpClientProfile existing = profiles.putIfAbsent(profile.name(), profile);
+        if (null != existing && !existing.equals(profile)) {
+            throw new HttpClientException(String.format(
+                    "http client profile [%s] is declared with different settings, use a different name!", profile.name()));
+        }
+        if (profile.isDefault()) {
+            return client;
+        }
+        return profileClients.computeIfAbsent(profile.name(), it -> {
+            OkHttpClient.Builder builder = client.newBuilder();
+            profile.apply(builder);
+            //独立的 TLS 上下文，同一个配置只构建一次
+            TlsContext context = tls;
+            if (!profile.tls().isDefault()) {
+                context = TlsContext.create(profile.tls());
+                context.apply(builder);
+                profileTls.put(profile.name(), context);
+            }
+            //其他传输层作为最后一个应用拦截器，日志与 gzip 拦截器仍然生效，取消事件转交给传输层
+            OkHttpClient configured = builder.build();
+            HttpTransport transport = HttpTransports.create(profile.transport(), configured, context);
+            if (null != transport) {
+                profile.checkTransport(configured);
+                TransportInterceptor interceptor = new TransportInterceptor(transport);
+                builder.addInterceptor(interceptor).eventListener(interceptor.eventListener());
+            }
+            return builder.build();
+        });
+    }
+
+    /**
+     * 共享的 TLS 上下文
+     *
+     * @return
+     */
+    public TlsContext tls() {
+        return tls;
+    }
+
+    /**
+     * 获取指定配置名称的 TLS 上下文，没有独立配置时返回共享的 TLS 上下文
+     * 可通过 {@link TlsContext#stats()} 观察握手次数与会话复用率
+     *
+     * @param name 配置名称
+     * @return
+     */
+    public TlsContext tls(String name) {
+        return profileTls.getOrDefault(name, tls);
+    }
+
+    /**
+     * 共享的 DNS 缓存，可通过 {@link CachingDns#stats()} 观察缓存命中率与解析耗时
+     * 未配置 ok.http.dns.enabled=true 时返回 null
+     *
+     * @return
+     */
+    public CachingDns dns() {
+        return dns;
+    }
+
+    /**
+     * 共享的 ws client
+     *
+     * @return
+     */
+    public OkHttpClient wsClient() {
+        return wsClient;
+    }
+
+    /**
+     * 共享的带有 ping-pong 的 ws client
+     *
+     * @return
+     */
+    public OkHttpClient pingWsClient() {
+        return pingWsClient;
+    }
+
+    /**
+     * 获取开启 gzip 的衍生 client
+     * gzip 拦截器位于拦截器链的最前端，保证日志拦截器打印的是压缩前的内容
+     *
+     * @param client 原始 client
+     * @return
+     */
+    public OkHttpClient gzip(OkHttpClient client) {
+        return gzipClients.computeIfAbsent(client, it -> {
+            OkHttpClient.Builder builder = it.newBuilder();
+            List<Interceptor> interceptors = builder.interceptors();
+            interceptors.add(0, new GzipRequestInterceptor());
+            return builder.build();
+        });
+    }
+
+    /**
+     * 获取添加了拦截器的衍生 client，拦截器位于日志拦截器之前，相同的拦截器链只构建一次
+     *
+     * @param client       原始 client
+     * @param interceptors 按执行顺序排列的拦截器，为空时返回原始 client
+     * @return
+     */
+    public OkHttpClient intercepted(OkHttpClient client, List<? extends Interceptor> interceptors) {
+        if (interceptors.isEmpty()) {
+            return client;
+        }
+        List<Object> key = new ArrayList<>(interceptors.size() + 1);
+        key.add(client);
+        key.addAll(interceptors);
+        return interceptedClients.computeIfAbsent(key, it -> {
+            OkHttpClient.Builder builder = client.newBuilder();
+            builder.interceptors().addAll(0, interceptors);
+            return builder.build();
+        });
+    }
+
+    /**
+     * 关闭调度器线程池并释放连接池中的连接
+     */
+    @Override
+    public void destroy() {
+        synchronized (OkClientRegistry.class) {
+            if (INSTANCE == this) INSTANCE = null;
+        }
+        gzipClients.clear();
+        interceptedClients.clear();
+        //释放配置了独立连接池与调度器的client
+        profileClients.values().forEach(this::shutdown);
+        profileClients.clear();
+        profiles.clear();
+        profileTls.clear();
+        shutdown(root);
+        if (null != dns) dns.close();
+    }
+
+    /**
+     * 释放 client 独有的调度器与连接池，与根 client 共享的部分只在释放根 client 时处理
+     *
+     * @param client client
+     */
+    private void shutdown(OkHttpClient client) {
+        if (client == root || client.dispatcher() != root.dispatcher()) {
+            client.dispatcher().cancelAll();
+            client.dispatcher().executorService().shutdown();
+        }
+        if (client == root || client.connectionPool() != root.connectionPool()) {
+            client.connectionPool().evictAll();
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package org.xtan.ok.http.client;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketImpl;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 竞速建立连接的 socket
+ * <p>
+ * 连接前设置的 socket 参数会应用到每个连接尝试上，连接成功后所有操作都委托给最先连接成功的 socket，
+ * 其余的连接尝试会被关闭。连接过程中关闭该 socket 会取消所有的连接尝试
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ * @see RacingSocketFactory
+ */
+class RacingSocket extends Socket {
+
+    private final RacingSocketFactory factory;
+
+    /**
+     * 连接前设置的 socket 参数
+     */
+    private final List<Option> options = new ArrayList<>();
+
+    /**
+     * 所有的连接尝试
+     */
+    private final List<Socket> attempts = new ArrayList<>();
+
+    /**
+     * 最先连接成功的 socket
+     */
+    private volatile Socket delegate;
+
+    private boolean isFinished;
+
+    private volatile boolean isClosed;
+
+    RacingSocket(RacingSocketFactory factory) throws SocketException {
+        super((SocketImpl) null);
+        this.factory = factory;
+    }
+
+    @Override
+    public void connect(SocketAddress endpoint) throws IOException {
+        connect(endpoint, 0);
+    }
+
+    @Override
+    public void connect(SocketAddress endpoint, int timeout) throws IOException {
+        if (isClosed) {
+            throw new SocketException("Socket is closed");
+        }
+        if (null != delegate) {
+            throw new SocketException("already connected");
+        }
+        if (!(endpoint instanceof InetSocketAddress)) {
+            throw new IllegalArgumentException("Unsupported address type");
+        }
+        List<InetSocketAddress> candidates = factory.candidates((InetSocketAddress) endpoint);
+        Socket socket = candidates.size() == 1 ? connectOne(candidates.get(0), timeout) : race(candidates, timeout);
+        synchronized (this) {
+            if (isClosed) {
+                closeQuietly(socket);
+                throw new SocketException("Socket is closed");
+            }
+            delegate = socket;
+        }
+    }
+
+    /**
+     * 只有一个候选地址时直接在当前线程连接
+     */
+    private Socket connectOne(InetSocketAddress address, int timeout) throws IOException {
+        Socket socket = attempt();
+        try {
+            socket.connect(address, timeout);
+        } catch (IOException e) {
+            finish(null);
+            throw e;
+        }
+        finish(socket);
+        return socket;
+    }
+
+    /**
+     * 间隔发起连接，上一个连接失败时立即发起下一个连接，返回最先连接成功的 socket
+     */
+    private Socket race(List<InetSocketAddress> candidates, int timeout) throws IOException {
+        BlockingQueue<Result> results = new LinkedBlockingQueue<>();
+        long now = System.nanoTime();
+        long deadline = timeout > 0 ? now + TimeUnit.MILLISECONDS.toNanos(timeout) : Long.MAX_VALUE;
+        long delay = TimeUnit.MILLISECONDS.toNanos(factory.attemptDelay());
+        long nextAttemptAt = now;
+        int next = 0;
+        int running = 0;
+        IOException failure = null;
+        try {
+            while (true) {
+                if (next < candidates.size() && now - nextAttemptAt >= 0) {
+                    start(candidates.get(next++), deadline, results);
+                    running++;
+                    nextAttemptAt = now + delay;
+                }
+                if (running == 0) {
+                    throw null != failure ? failure : new SocketException("no address to connect");
+                }
+                long waitUntil = next < candidates.size() ? Math.min(nextAttemptAt, deadline) : deadline;
+                if (deadline - now <= 0) {
+                    SocketTimeoutException exception = new SocketTimeoutException("connect timed out");
+                    if (null != failure) exception.addSuppressed(failure);
+                    throw exception;
+                }
+                Result result = waitUntil == Long.MAX_VALUE
+                        ? results.take()
+                        : results.poll(Math.max(0, waitUntil - now), TimeUnit.NANOSECONDS);
+                now = System.nanoTime();
+                if (null == result) {
+                    continue;
+                }
+                running--;
+                if (null != result.socket) {
+                    finish(result.socket);
+                    return result.socket;
+                }
+                if (null == failure) {
+                    failure = result.exception;
+                } else {
+                    failure.addSuppressed(result.exception);
+                }
+                //连接失败时立即尝试下一个地址
+                nextAttemptAt = now;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SocketException("connect interrupted");
+        } finally {
+            //失败或者被中断时关闭所有连接尝试
+            finish(null);
+        }
+    }
+
+    private void start(InetSocketAddress address, long deadline, BlockingQueue<Result> results) throws IOException {
+        Socket socket = attempt();
+        Runnable task = () -> {
+            try {
+                long remaining = deadline == Long.MAX_VALUE ? 0 : TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (deadline != Long.MAX_VALUE && remaining <= 0) {
+                    throw new SocketTimeoutException("connect timed out");
+                }
+                socket.connect(address, (int) Math.min(Integer.MAX_VALUE, remaining));
+                synchronized (this) {
+                    //竞速已经结束，连接由 finish 关闭
+                    if (!isFinished) results.add(new Result(socket, null));
+                }
+            } catch (IOException e) {
+                closeQuietly(socket);
+                results.add(new Result(null, e));
+            }
+        };
+        try {
+            RacingSocketFactory.CONNECTOR.execute(task);
+        } catch (RejectedExecutionException e) {
+            //连接线程已满，在当前线程连接，退化为按顺序连接
+            task.run();
+        }
+    }
+
+    /**
+     * 创建连接尝试并应用连接前设置的参数
+     */
+    private synchronized Socket attempt() throws IOException {
+        if (isClosed || isFinished) {
+            throw new SocketException("Socket is closed");
+        }
+        Socket socket = factory.newAttempt();
+        try {
+            for (Option option : options) {
+                option.apply(socket);
+            }
+        } catch (IOException e) {
+            closeQuietly(socket);
+            throw e;
+        }
+        attempts.add(socket);
+        return socket;
+    }
+
+    /**
+     * 结束竞速，关闭除胜出者之外的所有连接尝试
+     */
+    private synchronized void finish(Socket winner) {
+        if (isFinished) {
+            return;
+        }
+        isFinished = true;
+        for (Socket socket : attempts) {
+            if (socket != winner) closeQuietly(socket);
+        }
+        attempts.clear();
+    }
+
+    private void option(Option option) throws SocketException {
+        Socket socket = delegate;
+        if (null != socket) {
+            option.apply(socket);
+            return;
+        }
+        synchronized (this) {
+            if (null == delegate) {
+                options.add(option);
+                return;
+            }
+        }
+        option.apply(delegate);
+    }
+
+    private Socket connected() throws SocketException {
+        Socket socket = delegate;
+        if (null == socket) {
+            throw new SocketException(isClosed ? "Socket is closed" : "Socket is not connected");
+        }
+        return socket;
+    }
+
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            //ignore
+        }
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return connected().getInputStream();
+    }
+
+    @Override
+    public OutputStream getOutputStream() throws IOException {
+        return connected().getOutputStream();
+    }
+
+    @Override
+    public void bind(SocketAddress bindpoint) throws IOException {
+        throw new SocketException("bind is not supported when racing connections");
+    }
+
+    @Override
+    public InetAddress getInetAddress() {
+        Socket socket = delegate;
+        return null != socket ? socket.getInetAddress() : null;
+    }
+
+    @Override
+    public InetAddress getLocalAddress() {
+        Socket socket = delegate;
+        return null != socket ? socket.getLocalAddress() : null;
+    }
+
+    @Override
+    public int getPort() {
+        Socket socket = delegate;
+        return null != socket ? socket.getPort() : 0;
+    }
+
+    @Override
+    public int getLocalPort() {
+        Socket socket = delegate;
+        return null != socket ? socket.getLocalPort() : -1;
+    }
+
+    @Override
+    public SocketAddress getRemoteSocketAddress() {
+        Socket socket = delegate;
+        return null != socket ? socket.getRemoteSocketAddress() : null;
+    }
+
+    @Override
+    public SocketAddress getLocalSocketAddress() {
+        Socket socket = delegate;
+        return null != socket ? socket.getLocalSocketAddress() : null;
+    }
+
+    @Override
+    public SocketChannel getChannel() {
+        return null;
+    }
+
+    @Override
+    public void setTcpNoDelay(boolean on) throws SocketException {
+        option(it -> it.setTcpNoDelay(on));
+    }
+
+    @Override
+    public boolean getTcpNoDelay() throws SocketException {
+        return connected().getTcpNoDelay();
+    }
+
+    @Override
+    public void setSoLinger(boolean on, int linger) throws SocketException {
+        option(it -> it.setSoLinger(on, linger));
+    }
+
+    @Override
+    public int getSoLinger() throws SocketException {
+        return connected().getSoLinger();
+    }
+
+    @Override
+    public void sendUrgentData(int data) throws IOException {
+        connected().sendUrgentData(data);
+    }
+
+    @Override
+    public void setOOBInline(boolean on) throws SocketException {
+        option(it -> it.setOOBInline(on));
+    }
+
+    @Override
+    public boolean getOOBInline() throws SocketException {
+        return connected().getOOBInline();
+    }
+
+    @Override
+    public void setSoTimeout(int timeout) throws SocketException {
+        option(it -> it.setSoTimeout(timeout));
+    }
+
+    @Override
+    public int getSoTimeout() throws SocketException {
+        return connected().getSoTimeout();
+    }
+
+    @Override
+    public void setSendBufferSize(int size) throws SocketException {
+        option(it -> it.setSendBufferSize(size));
+    }
+
+    @Override
+    public int getSendBufferSize() throws SocketException {
+        return connected().getSendBufferSize();
+    }
+
+    @Override
+    public void setReceiveBufferSize(int size) throws SocketException {
+        option(it -> it.setReceiveBufferSize(size));
+    }
+
+    @Override
+    public int getReceiveBufferSize() throws SocketException {
+        return connected().getReceiveBufferSize();
+    }
+
+    @Override
+    public void setKeepAlive(boolean on) throws SocketException {
+        option(it -> it.setKeepAlive(on));
+    }
+
+    @Override
+    public boolean getKeepAlive() throws SocketException {
+        return connected().getKeepAlive();
+    }
+
+    @Override
+    public void setTrafficClass(int tc) throws SocketException {
+        option(it -> it.setTrafficClass(tc));
+    }
+
+    @Override
+    public int getTrafficClass() throws SocketException {
+        return connected().getTrafficClass();
+    }
+
+    @Override
+    public void setReuseAddress(boolean on) throws SocketException {
+        option(it -> it.setReuseAddress(on));
+    }
+
+    @Override
+    public boolean getReuseAddress() throws SocketException {
+        return connected().getReuseAddress();
+    }
+
+    @Override
+    public void setPerformancePreferences(int connectionTime, int latency, int bandwidth) {
+        Socket socket = delegate;
+        if (null != socket) socket.setPerformancePreferences(connectionTime, latency, bandwidth);
+    }
+
+    @Override
+    public void close() throws IOException {
+        Socket socket;
+        synchronized (this) {
+            isClosed = true;
+            socket = delegate;
+        }
+        //连接过程中关闭时取消所有连接尝试
+        finish(null);
+        if (null != socket) socket.close();
+    }
+
+    @Override
+    public void shutdownInput() throws IOException {
+        connected().shutdownInput();
+    }
+
+    @Override
+    public void shutdownOutput() throws IOException {
+        connected().shutdownOutput();
+    }
+
+    @Override
+    public boolean isConnected() {
+        Socket socket = delegate;
+        return null != socket && socket.isConnected();
+    }
+
+    @Override
+    public boolean isBound() {
+        Socket socket = delegate;
+        return null != socket && socket.isBound();
+    }
+
+    @Override
+    public boolean isClosed() {
+        Socket socket = delegate;
+        return isClosed || (null != socket && socket.isClosed());
+    }
+
+    @Override
+    public boolean isInputShutdown() {
+        Socket socket = delegate;
+        return null != socket && socket.isInputShutdown();
+    }
+
+    @Override
+    public boolean isOutputShutdown() {
+        Socket socket = delegate;
+        return null != socket && socket.isOutputShutdown();
+    }
+
+    @Override
+    public String toString() {
+        Socket socket = delegate;
+        return null != socket ? socket.toString() : "RacingSocket[unconnected]";
+    }
+
+    /**
+     * 连接前设置的 socket 参数
+     */
+    private interface Option {
+
+        void apply(Socket socket) throws SocketException;
+    }
+
+    /**
+     * 连接尝试的结果
+     */
+    private static class Result {
+
+        final Socket socket;
+
+        final IOException exception;
+
+        Result(Socket socket, IOException exception) {
+            this.socket = socket;
+            this.exception = exception;
+        }
+    }
+}
@@ -0,0 +1,185 @@
+package org.xtan.ok.http.client;
+
+import okhttp3.Dns;
+import org.jetbrains.annotations.NotNull;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 并发竞速建立连接的 socket 工厂(Happy Eyeballs)
+ * <p>
+ * OkHttp 按顺序尝试 host 解析出的每个地址，某个地址不可达时需要等待完整的连接超时才会尝试下一个地址。
+ * 使用该工厂时只把第一个地址交给 OkHttp，建立连接时按照 IPv6/IPv4 交替的顺序，
+ * 每隔 {@code attemptDelay} 毫秒(或上一个地址连接失败时立即)向下一个地址发起连接，使用最先连接成功的 socket
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class RacingSocketFactory extends SocketFactory {
+
+    /**
+     * RFC 8305 推荐的连接尝试间隔(毫秒)
+     */
+    static final long DEFAULT_ATTEMPT_DELAY = 250;
+
+    /**
+     * 并发连接线程数上限
+     */
+    static final int MAX_CONNECTORS = 64;
+
+    /**
+     * 并发连接使用的线程池，线程只在连接阶段占用
+     * 线程数达到上限时拒绝新的连接尝试，由发起连接的线程按顺序连接
+     */
+    static final ExecutorService CONNECTOR;
+
+    static {
+        AtomicInteger index = new AtomicInteger();
+        CONNECTOR = new ThreadPoolExecutor(0, MAX_CONNECTORS, 60, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "ok-http-racing-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private final SocketFactory delegate;
+
+    private final Dns dns;
+
+    private final long attemptDelay;
+
+    /**
+     * @param delegate     创建每个连接尝试的 socket，socket 参数由该工厂设置
+     * @param dns          解析出全部地址的 dns
+     * @param attemptDelay 连接尝试的间隔(毫秒)
+     */
+    RacingSocketFactory(SocketFactory delegate, Dns dns, long attemptDelay) {
+        this.delegate = delegate;
+        this.dns = dns;
+        this.attemptDelay = attemptDelay;
+    }
+
+    /**
+     * 交给 OkHttp 的 dns，只返回排序后的第一个地址，避免竞速失败后 OkHttp 再按顺序重试每个地址
+     *
+     * @return
+     */
+    Dns dns() {
+        return new Dns() {
+            @NotNull
+            @Override
+            public List<InetAddress> lookup(@NotNull String host) throws UnknownHostException {
+                return Collections.singletonList(addresses(host).get(0));
+            }
+        };
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        return new RacingSocket(this);
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        Socket socket = delegate.createSocket();
+        socket.bind(new InetSocketAddress(localHost, localPort));
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        Socket socket = delegate.createSocket();
+        socket.bind(new InetSocketAddress(localAddress, localPort));
+        socket.connect(new InetSocketAddress(address, port));
+        return socket;
+    }
+
+    /**
+     * 创建单个连接尝试的 socket
+     */
+    Socket newAttempt() throws IOException {
+        return delegate.createSocket();
+    }
+
+    long attemptDelay() {
+        return attemptDelay;
+    }
+
+    /**
+     * 连接目标地址的全部候选地址，目标地址排在第一位
+     * 解析失败或者 host 为 ip 地址时只返回目标地址
+     *
+     * @param endpoint OkHttp 选择的地址
+     * @return
+     */
+    List<InetSocketAddress> candidates(InetSocketAddress endpoint) {
+        List<InetSocketAddress> result = new ArrayList<>();
+        result.add(endpoint);
+        String host = endpoint.getHostString();
+        if (null == endpoint.getAddress() || host.equals(endpoint.getAddress().getHostAddress())) {
+            return result;
+        }
+        try {
+            for (InetAddress address : addresses(host)) {
+                if (!address.equals(endpoint.getAddress())) {
+                    result.add(new InetSocketAddress(address, endpoint.getPort()));
+                }
+            }
+        } catch (UnknownHostException e) {
+            //只连接目标地址
+        }
+        return result;
+    }
+
+    /**
+     * 解析全部地址并按照地址族交替排序，保持各地址族内部的原有顺序
+     */
+    private List<InetAddress> addresses(String host) throws UnknownHostException {
+        List<InetAddress> addresses = dns.lookup(host);
+        if (addresses.isEmpty()) {
+            throw new UnknownHostException(host);
+        }
+        List<InetAddress> first = new ArrayList<>();
+        List<InetAddress> second = new ArrayList<>();
+        boolean isIpv6 = addresses.get(0) instanceof Inet6Address;
+        for (InetAddress address : addresses) {
+            ((address instanceof Inet6Address) == isIpv6 ? first : second).add(address);
+        }
+        List<InetAddress> result = new ArrayList<>(addresses.size());
+        for (int i = 0; i < Math.max(first.size(), second.size()); i++) {
+            if (i < first.size()) result.add(first.get(i));
+            if (i < second.size()) result.add(second.get(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,90 @@
+package org.xtan.ok.http.client;
+
+import jnr.unixsocket.UnixSocket;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import okhttp3.Dns;
+
+import javax.net.SocketFactory;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.util.Collections;
+
+/**
+ * Unix domain socket 的 SocketFactory
+ * <p>
+ * 所有的连接都建立到同一个 socket 文件上，请求地址中的 host 只用于请求头，
+ * 需要配合 {@link #DNS} 使用，避免对 host 进行解析
+ * 需要引入 com.github.jnr:jnr-unixsocket 依赖
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class UnixDomainSocketFactory extends SocketFactory {
+
+    /**
+     * 不进行解析，直接返回一个占位地址
+     */
+    public static final Dns DNS = hostname -> Collections.singletonList(
+            InetAddress.getByAddress(hostname, new byte[]{0, 0, 0, 0}));
+
+    private final File path;
+
+    public UnixDomainSocketFactory(File path) {
+        this.path = path;
+    }
+
+    @Override
+    public Socket createSocket() throws IOException {
+        UnixSocketChannel channel = UnixSocketChannel.open();
+        return new UnixSocket(channel) {
+
+            private InetSocketAddress inetSocketAddress;
+
+            @Override
+            public void connect(SocketAddress endpoint) throws IOException {
+                connect(endpoint, 0);
+            }
+
+            @Override
+            public void connect(SocketAddress endpoint, int timeout) throws IOException {
+                this.inetSocketAddress = (InetSocketAddress) endpoint;
+                super.connect(new UnixSocketAddress(path), timeout);
+            }
+
+            @Override
+            public InetAddress getInetAddress() {
+                return null != inetSocketAddress ? inetSocketAddress.getAddress() : null;
+            }
+        };
+    }
+
+    @Override
+    public Socket createSocket(String host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+        return createSocket(host, port);
+    }
+
+    @Override
+    public Socket createSocket(InetAddress host, int port) throws IOException {
+        Socket socket = createSocket();
+        socket.connect(new InetSocketAddress(host, port));
+        return socket;
+    }
+
+    @Override
+    public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+        return createSocket(address, port);
+    }
+}
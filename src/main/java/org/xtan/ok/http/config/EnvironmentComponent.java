@@ -1,7 +1,12 @@
 package org.xtan.ok.http.config;
 
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.env.Environment;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * 配置参数操作组件
  * (单例)
@@ -39,6 +44,31 @@ public class EnvironmentComponent {
         return environment.getProperty(key);
     }
 
+    /**
+     * 获取配置并转换为指定类型
+     *
+     * @param key        配置key
+     * @param targetType 配置类型
+     * @return
+     */
+    public <T> T getProperty(String key, Class<T> targetType) {
+        return environment.getProperty(key, targetType);
+    }
+
+    /**
+     * 获取 map 形式的配置
+     * key 中包含 . 时需要使用 [] 包裹，例如 ok.http.dns.overrides[api.example.com]=127.0.0.1
+     *
+     * @param prefix    配置前缀
+     * @param valueType 配置值类型
+     * @return
+     */
+    public <V> Map<String, V> getMap(String prefix, Class<V> valueType) {
+        return Binder.get(environment)
+                .bind(prefix, Bindable.mapOf(String.class, valueType))
+                .orElse(Collections.emptyMap());
+    }
+
     /**
      * 是否存在配置
      *
@@ -1,8 +1,13 @@
 package org.xtan.ok.http.config;
 
 
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.xtan.ok.http.interceptor.InterceptorChains;
 import org.xtan.ok.http.proxy.HttpClientProxyHandler;
 
 /**
@@ -12,15 +17,30 @@ import org.xtan.ok.http.proxy.HttpClientProxyHandler;
  * @author: XOptional-TAN
  * @date: 2021-08-11
  */
-public class HttpClientFactoryBean implements FactoryBean<Object>, InitializingBean {
+public class HttpClientFactoryBean implements FactoryBean<Object>, InitializingBean, BeanFactoryAware {
 
     private Class<?> type;
 
+    /**
+     * bean名称
+     */
+    private String name;
+
     /**
      * 代理类型实例
      */
     private HttpClientProxyHandler<?> handler;
 
+    /**
+     * 编译期生成的实现类，不存在时使用运行时代理
+     */
+    private Class<?> implementation;
+
+    /**
+     * 生成的实现类实例
+     */
+    private Object instance;
+
     public Class<?> getType() {
         return type;
     }
@@ -29,14 +49,42 @@ public class HttpClientFactoryBean implements FactoryBean<Object>, InitializingB
         this.type = type;
     }
 
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Class<?> getImplementation() {
+        return implementation;
+    }
+
+    public void setImplementation(Class<?> implementation) {
+        this.implementation = implementation;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        //拦截器链从容器中获取 HttpClientInterceptor bean
+        if (beanFactory instanceof ListableBeanFactory) {
+            InterceptorChains.beanFactory((ListableBeanFactory) beanFactory);
+        }
+    }
+
     @Override
     public void afterPropertiesSet() {
+        if (null != implementation) {
+            this.instance = BeanUtils.instantiateClass(implementation);
+            return;
+        }
         this.handler = HttpClientProxyHandler.proxy(type);
     }
 
     @Override
     public Object getObject() {
-        return handler.getProxyInstance();
+        return null != instance ? instance : handler.getProxyInstance();
     }
 
     @Override
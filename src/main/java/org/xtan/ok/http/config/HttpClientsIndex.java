@@ -0,0 +1,176 @@
+package org.xtan.ok.http.config;
+
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.UrlResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * 编译期生成的 HttpClient 索引
+ * <p>
+ * 由 {@link org.xtan.ok.http.processor.HttpClientProcessor} 写入 {@link #LOCATION}，
+ * key 为接口的类名，value 为 {@link org.xtan.ok.http.annotation.HttpClient#name()}。
+ * 索引只对包含索引文件的 classpath 根目录(目录或 jar)生效，
+ * 包下的接口全部位于这些根目录中时不再扫描 classpath，否则只扫描没有索引的根目录，
+ * 例如未执行注解处理器编译的模块或第三方 jar
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpClientsIndex {
+
+    /**
+     * 索引文件地址
+     */
+    public static final String LOCATION = "META-INF/ok-http-clients.properties";
+
+    /**
+     * 是否使用索引的配置，默认使用
+     */
+    public static final String ENABLED_PROPERTY = "ok.http.clients-index.enabled";
+
+    /**
+     * 接口类名 -> bean 名称
+     */
+    private final Map<String, String> clients;
+
+    /**
+     * 包含索引文件的 classpath 根目录
+     */
+    private final Set<String> roots;
+
+    private HttpClientsIndex(Map<String, String> clients, Set<String> roots) {
+        this.clients = clients;
+        this.roots = roots;
+    }
+
+    /**
+     * 加载 classpath 中所有的索引文件
+     *
+     * @param classLoader 类加载器
+     * @return 不存在索引文件时返回 null
+     */
+    public static HttpClientsIndex load(ClassLoader classLoader) {
+        try {
+            Enumeration<URL> urls = null != classLoader ? classLoader.getResources(LOCATION) : ClassLoader.getSystemResources(LOCATION);
+            if (!urls.hasMoreElements()) {
+                return null;
+            }
+            Map<String, String> clients = new LinkedHashMap<>();
+            Set<String> roots = new LinkedHashSet<>();
+            while (urls.hasMoreElements()) {
+                URL url = urls.nextElement();
+                String location = url.toString();
+                roots.add(location.substring(0, location.length() - LOCATION.length()));
+                Properties properties = PropertiesLoaderUtils.loadProperties(new UrlResource(url));
+                properties.stringPropertyNames().forEach(it -> clients.put(it, properties.getProperty(it)));
+            }
+            return new HttpClientsIndex(clients, roots);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to load indexes from location [" + LOCATION + "]", e);
+        }
+    }
+
+    /**
+     * 获取包下的所有 HttpClient
+     *
+     * @param basePackage 包名
+     * @return 接口类名 -> bean 名称
+     */
+    public Map<String, String> candidates(String basePackage) {
+        Map<String, String> candidates = new LinkedHashMap<>();
+        clients.forEach((className, name) -> {
+            if (basePackage.isEmpty() || className.startsWith(basePackage + ".")) {
+                candidates.put(className, name);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * 包所在的 classpath 根目录是否都包含索引
+     *
+     * @param classLoader 类加载器
+     * @param basePackage 包名
+     * @return 为 false 时需要扫描没有索引的根目录
+     */
+    public boolean covers(ClassLoader classLoader, String basePackage) {
+        //默认包无法列出 jar 中的根目录
+        if (basePackage.isEmpty()) {
+            return false;
+        }
+        String path = basePackage.replace('.', '/');
+        try {
+            Enumeration<URL> urls = null != classLoader ? classLoader.getResources(path) : ClassLoader.getSystemResources(path);
+            while (urls.hasMoreElements()) {
+                String location = urls.nextElement().toString();
+                int end = location.lastIndexOf(path);
+                if (end < 0 || !roots.contains(location.substring(0, end))) {
+                    return false;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 扫描时跳过包含索引的根目录，这些根目录中的接口已经从索引中注册
+     *
+     * @param resourceLoader 资源加载器
+     * @return
+     */
+    public ResourcePatternResolver unindexed(ResourceLoader resourceLoader) {
+        ResourcePatternResolver delegate = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+        return new ResourcePatternResolver() {
+            @Override
+            public Resource[] getResources(String locationPattern) throws IOException {
+                return Arrays.stream(delegate.getResources(locationPattern))
+                        .filter(it -> !isIndexed(it))
+                        .toArray(Resource[]::new);
+            }
+
+            @Override
+            public Resource getResource(String location) {
+                return delegate.getResource(location);
+            }
+
+            @Override
+            public ClassLoader getClassLoader() {
+                return delegate.getClassLoader();
+            }
+        };
+    }
+
+    private boolean isIndexed(Resource resource) {
+        try {
+            String location = resource.getURL().toString();
+            for (String root : roots) {
+                if (location.startsWith(root)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    public int size() {
+        return clients.size();
+    }
+}
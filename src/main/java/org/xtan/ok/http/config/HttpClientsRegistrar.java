@@ -1,6 +1,8 @@
 package org.xtan.ok.http.config;
 
 import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -18,11 +20,20 @@ import org.springframework.core.io.ResourceLoader;
 import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.core.type.filter.AnnotationTypeFilter;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.xtan.ok.http.annotation.EnableHttpClients;
 import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.client.OkClientRegistry;
+import org.xtan.ok.http.outbox.Outbox;
+import org.xtan.ok.http.proxy.GeneratedHttpClient;
+import org.xtan.ok.http.proxy.HttpClientStartupReport;
+import org.xtan.ok.http.warmup.HttpClientWarmUp;
+import org.xtan.ok.http.warmup.WarmUpOptions;
 
+import java.util.Collections;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 实现HttpClient自动装配
@@ -32,6 +43,8 @@ import java.util.Set;
  */
 public class HttpClientsRegistrar implements ImportBeanDefinitionRegistrar, ResourceLoaderAware, EnvironmentAware {
 
+    private static final Logger log = LoggerFactory.getLogger(HttpClientsRegistrar.class);
+
     private ResourceLoader resourceLoader;
 
     private Environment environment;
@@ -50,27 +63,60 @@ public class HttpClientsRegistrar implements ImportBeanDefinitionRegistrar, Reso
 
     @Override
     public void registerBeanDefinitions(AnnotationMetadata metadata, BeanDefinitionRegistry registry) {
+        //注册共享的client注册中心，随容器关闭释放连接池
+        registerClientRegistry(registry);
+        //开启预热时注册预热组件
+        registerWarmUp(registry);
+        //注册耗时报告，等待并行编译的映射
+        registerStartupReport(registry);
+        //注册持久化发件箱，启动时继续发送上次未发送完成的请求
+        registerOutbox(registry);
         //注册所有的HttpClient
-        ClassPathScanningCandidateComponentProvider scanner = getScanner();
-        scanner.setResourceLoader(this.resourceLoader);
+        long startAt = System.nanoTime();
         Map<String, Object> attrs = metadata.getAnnotationAttributes(EnableHttpClients.class.getName());
-        AnnotationTypeFilter annotationTypeFilter = new AnnotationTypeFilter(HttpClient.class);
-        scanner.addIncludeFilter(annotationTypeFilter);
         String[] basePackages = (String[]) attrs.get("basePackages");
+        HttpClientsIndex index = environment.getProperty(HttpClientsIndex.ENABLED_PROPERTY, Boolean.class, true)
+                ? HttpClientsIndex.load(resourceLoader.getClassLoader())
+                : null;
+        ClassPathScanningCandidateComponentProvider scanner = null;
+        int count = 0;
+        int scanned = 0;
         for (String basePackage : basePackages) {
+            //优先使用编译期生成的索引，包所在的根目录都有索引时不再扫描classpath
+            Map<String, String> indexed = null != index ? index.candidates(basePackage) : Collections.emptyMap();
+            for (Map.Entry<String, String> entry : indexed.entrySet()) {
+                registerHttpClient(registry, entry.getKey(), StringUtils.isNotBlank(entry.getValue()) ? entry.getValue() : entry.getKey());
+            }
+            count += indexed.size();
+            if (null != index && index.covers(resourceLoader.getClassLoader(), basePackage)) {
+                continue;
+            }
+            //没有索引的根目录(未执行注解处理器的模块、第三方 jar)仍然需要扫描
+            if (null == scanner) {
+                scanner = getScanner();
+                scanner.setResourceLoader(null != index ? index.unindexed(this.resourceLoader) : this.resourceLoader);
+                scanner.addIncludeFilter(new AnnotationTypeFilter(HttpClient.class));
+            }
+            scanned++;
             Set<BeanDefinition> candidateComponents = scanner.findCandidateComponents(basePackage);
             for (BeanDefinition candidateComponent : candidateComponents) {
                 if (candidateComponent instanceof AnnotatedBeanDefinition) {
                     AnnotatedBeanDefinition beanDefinition = (AnnotatedBeanDefinition) candidateComponent;
                     AnnotationMetadata annotationMetadata = beanDefinition.getMetadata();
+                    if (indexed.containsKey(annotationMetadata.getClassName())) {
+                        continue;
+                    }
                     Assert.isTrue(annotationMetadata.isInterface(), "@HttpClient can only be specified on an interface");
                     Map<String, Object> attributes = annotationMetadata.getAnnotationAttributes(HttpClient.class.getCanonicalName());
                     String name = (String) attributes.get("name");
                     String beanName = StringUtils.isNotBlank(name) ? name : beanDefinition.getBeanClassName();
-                    registerHttpClient(registry, annotationMetadata, beanName);
+                    registerHttpClient(registry, annotationMetadata.getClassName(), beanName);
+                    count++;
                 }
             }
         }
+        log.info("registered {} http clients in {}ms, {} of {} packages scanned",
+                count, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt), scanned, basePackages.length);
     }
 
     protected ClassPathScanningCandidateComponentProvider getScanner() {
@@ -88,12 +134,63 @@ public class HttpClientsRegistrar implements ImportBeanDefinitionRegistrar, Reso
         };
     }
 
-    private void registerHttpClient(BeanDefinitionRegistry registry, AnnotationMetadata annotationMetadata, String beanName) {
-        String className = annotationMetadata.getClassName();
+    private void registerClientRegistry(BeanDefinitionRegistry registry) {
+        if (registry.containsBeanDefinition(OkClientRegistry.BEAN_NAME)) {
+            return;
+        }
+        AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+                .genericBeanDefinition(OkClientRegistry.class, OkClientRegistry::instance)
+                .getBeanDefinition();
+        registry.registerBeanDefinition(OkClientRegistry.BEAN_NAME, beanDefinition);
+    }
+
+    private void registerStartupReport(BeanDefinitionRegistry registry) {
+        HttpClientStartupReport.record();
+        if (registry.containsBeanDefinition(HttpClientStartupReport.BEAN_NAME)) {
+            return;
+        }
+        registry.registerBeanDefinition(HttpClientStartupReport.BEAN_NAME,
+                BeanDefinitionBuilder.genericBeanDefinition(HttpClientStartupReport.class).getBeanDefinition());
+    }
+
+    private void registerOutbox(BeanDefinitionRegistry registry) {
+        if (registry.containsBeanDefinition(Outbox.BEAN_NAME)) {
+            return;
+        }
+        AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+                .genericBeanDefinition(Outbox.class, Outbox::instance)
+                .addDependsOn(OkClientRegistry.BEAN_NAME)
+                .getBeanDefinition();
+        registry.registerBeanDefinition(Outbox.BEAN_NAME, beanDefinition);
+    }
+
+    private void registerWarmUp(BeanDefinitionRegistry registry) {
+        if (registry.containsBeanDefinition(HttpClientWarmUp.BEAN_NAME)
+                || !environment.getProperty(WarmUpOptions.PROPERTY_PREFIX + "enabled", Boolean.class, false)) {
+            return;
+        }
+        AbstractBeanDefinition beanDefinition = BeanDefinitionBuilder
+                .genericBeanDefinition(HttpClientWarmUp.class)
+                .addDependsOn(OkClientRegistry.BEAN_NAME)
+                .getBeanDefinition();
+        registry.registerBeanDefinition(HttpClientWarmUp.BEAN_NAME, beanDefinition);
+    }
+
+    private void registerHttpClient(BeanDefinitionRegistry registry, String className, String beanName) {
         BeanDefinitionBuilder definition = BeanDefinitionBuilder.genericBeanDefinition(HttpClientFactoryBean.class);
         definition.addPropertyValue("name", beanName);
         definition.addPropertyValue("type", className);
+        //优先使用编译期生成的实现类
+        String implementation = GeneratedHttpClient.implementationName(className);
+        if (ClassUtils.isPresent(implementation, resourceLoader.getClassLoader())) {
+            definition.addPropertyValue("implementation", implementation);
+        }
         definition.setAutowireMode(AbstractBeanDefinition.AUTOWIRE_BY_TYPE);
+        definition.addDependsOn(OkClientRegistry.BEAN_NAME);
+        //开启预热时预热组件先于 HttpClient 创建，HttpClient 创建时注册到预热组件
+        if (registry.containsBeanDefinition(HttpClientWarmUp.BEAN_NAME)) {
+            definition.addDependsOn(HttpClientWarmUp.BEAN_NAME);
+        }
         AbstractBeanDefinition beanDefinition = definition.getBeanDefinition();
         beanDefinition.setAttribute(FactoryBean.OBJECT_TYPE_ATTRIBUTE, className);
         beanDefinition.setPrimary(true);
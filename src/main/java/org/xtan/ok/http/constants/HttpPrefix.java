@@ -28,6 +28,17 @@ public interface HttpPrefix {
      */
     String WSS = "wss://";
 
+    /**
+     * unix domain socket
+     * 例如 unix:/var/run/agent.sock
+     */
+    String UNIX = "unix:";
+
+    /**
+     * unix domain socket 请求时使用的 host
+     */
+    String UNIX_HOST = "localhost";
+
     /**
      * 前缀
      */
@@ -0,0 +1,325 @@
+package org.xtan.ok.http.dns;
+
+import okhttp3.Dns;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xtan.ok.http.exception.HttpClientException;
+
+import java.io.Closeable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 带缓存的 DNS 解析
+ * <p>
+ * 1. 每个 host 独立的缓存时间，缓存时间超过 {@link DnsOptions#refreshRatio()} 后在后台刷新，已知的 host 不会阻塞调用线程
+ * 2. 刷新失败时在 {@link DnsOptions#maxStale()} 内继续使用旧的解析结果
+ * 3. 解析失败的结果缓存 {@link DnsOptions#negativeTtl()}，数量超过 {@link DnsOptions#negativeCacheSize()} 时淘汰最久未使用的
+ * 4. 静态解析的 host 不会进行实际解析
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class CachingDns implements Dns, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CachingDns.class);
+
+    /**
+     * 后台扫描缓存的间隔(毫秒)
+     */
+    private static final long SWEEP_INTERVAL = 1000;
+
+    private final Dns delegate;
+
+    private final DnsOptions options;
+
+    private final DnsStats stats = new DnsStats();
+
+    /**
+     * 静态解析
+     */
+    private final Map<String, List<InetAddress>> overrides;
+
+    /**
+     * 解析成功的缓存
+     */
+    private final Map<String, Entry> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 解析失败的缓存，按照访问顺序淘汰
+     */
+    private final Map<String, Failure> failures;
+
+    /**
+     * 后台刷新线程
+     */
+    private final ScheduledExecutorService refresher;
+
+    public CachingDns(DnsOptions options) {
+        this(Dns.SYSTEM, options);
+    }
+
+    public CachingDns(Dns delegate, DnsOptions options) {
+        this.delegate = delegate;
+        this.options = options;
+        this.overrides = parseOverrides(options.overrides());
+        int negativeCacheSize = options.negativeCacheSize();
+        this.failures = Collections.synchronizedMap(new LinkedHashMap<String, Failure>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Failure> eldest) {
+                return size() > negativeCacheSize;
+            }
+        });
+        AtomicInteger index = new AtomicInteger();
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "ok-http-dns-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        executor.scheduleWithFixedDelay(this::sweep, SWEEP_INTERVAL, SWEEP_INTERVAL, TimeUnit.MILLISECONDS);
+        this.refresher = executor;
+    }
+
+    @NotNull
+    @Override
+    public List<InetAddress> lookup(@NotNull String host) throws UnknownHostException {
+        stats.lookup();
+        List<InetAddress> addresses = overrides.get(host);
+        if (null != addresses) {
+            stats.override();
+            return addresses;
+        }
+        long now = now();
+        Entry entry = cache.get(host);
+        if (null != entry) {
+            entry.lastAccess = now;
+            long age = now - entry.resolvedAt;
+            if (age < entry.ttl + options.maxStale()) {
+                if (age >= entry.refreshAt) refresh(host, entry);
+                stats.hit(age >= entry.ttl);
+                return entry.addresses;
+            }
+        }
+        Failure failure = failures.get(host);
+        if (null != failure && now - failure.failedAt < options.negativeTtl()) {
+            stats.negativeHit();
+            UnknownHostException exception = new UnknownHostException(failure.message);
+            exception.initCause(failure.cause);
+            throw exception;
+        }
+        return resolve(host);
+    }
+
+    /**
+     * 在后台预先解析 host，已缓存或静态解析的 host 会被忽略
+     *
+     * @param hosts host 集合
+     */
+    public void preResolve(Collection<String> hosts) {
+        for (String host : hosts) {
+            if (overrides.containsKey(host) || cache.containsKey(host)) {
+                continue;
+            }
+            execute(() -> {
+                try {
+                    resolve(host);
+                } catch (UnknownHostException e) {
+                    log.warn("pre-resolve host [{}] failed: {}", host, e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * 解析统计
+     *
+     * @return
+     */
+    public DnsStats stats() {
+        return stats;
+    }
+
+    /**
+     * 缓存配置
+     *
+     * @return
+     */
+    public DnsOptions options() {
+        return options;
+    }
+
+    /**
+     * 清空解析缓存，静态解析不受影响
+     */
+    public void clear() {
+        cache.clear();
+        failures.clear();
+    }
+
+    /**
+     * 停止后台刷新
+     */
+    @Override
+    public void close() {
+        refresher.shutdownNow();
+        clear();
+    }
+
+    /**
+     * 同步解析并更新缓存
+     */
+    private List<InetAddress> resolve(String host) throws UnknownHostException {
+        long start = System.nanoTime();
+        List<InetAddress> addresses;
+        try {
+            addresses = Collections.unmodifiableList(new ArrayList<>(delegate.lookup(host)));
+        } catch (UnknownHostException e) {
+            stats.resolve(System.nanoTime() - start, false);
+            failures.put(host, new Failure(e, now()));
+            throw e;
+        }
+        stats.resolve(System.nanoTime() - start, true);
+        long now = now();
+        long ttl = options.ttl(host);
+        Entry current = cache.get(host);
+        cache.put(host, new Entry(addresses, now, ttl, (long) (ttl * options.refreshRatio()),
+                null != current ? current.lastAccess : now));
+        failures.remove(host);
+        return addresses;
+    }
+
+    /**
+     * 后台刷新，同一个缓存同时只会刷新一次
+     * 刷新失败时保留旧的解析结果直到超过 {@link DnsOptions#maxStale()}
+     */
+    private void refresh(String host, Entry entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        execute(() -> {
+            stats.refresh();
+            try {
+                resolve(host);
+            } catch (UnknownHostException e) {
+                entry.refreshing.set(false);
+                log.warn("refresh host [{}] failed, keep the stale addresses: {}", host, e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * 移除长时间未使用的缓存，刷新即将过期的缓存
+     */
+    private void sweep() {
+        long now = now();
+        cache.forEach((host, entry) -> {
+            if (now - entry.lastAccess > options.idleTimeout()) {
+                cache.remove(host, entry);
+            } else if (now - entry.resolvedAt >= entry.refreshAt) {
+                refresh(host, entry);
+            }
+        });
+        synchronized (failures) {
+            failures.values().removeIf(it -> now - it.failedAt >= options.negativeTtl());
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            refresher.execute(task);
+        } catch (RejectedExecutionException e) {
+            //已关闭，调用线程在缓存过期后会同步解析
+        }
+    }
+
+    private static long now() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    }
+
+    /**
+     * 解析静态配置，ip 地址之间使用 , 分隔
+     */
+    private static Map<String, List<InetAddress>> parseOverrides(Map<String, String> overrides) {
+        Map<String, List<InetAddress>> result = new HashMap<>(overrides.size());
+        overrides.forEach((host, value) -> {
+            List<InetAddress> addresses = new ArrayList<>();
+            for (String ip : value.split(",")) {
+                if (ip.trim().isEmpty()) continue;
+                try {
+                    addresses.add(InetAddress.getByAddress(host, InetAddress.getByName(ip.trim()).getAddress()));
+                } catch (UnknownHostException e) {
+                    throw new HttpClientException(String.format("invalid dns override [%s=%s]!", host, value));
+                }
+            }
+            if (addresses.isEmpty()) {
+                throw new HttpClientException(String.format("invalid dns override [%s=%s]!", host, value));
+            }
+            result.put(host, Collections.unmodifiableList(addresses));
+        });
+        return result;
+    }
+
+    /**
+     * 解析成功的缓存
+     */
+    private static class Entry {
+
+        final List<InetAddress> addresses;
+
+        final long resolvedAt;
+
+        final long ttl;
+
+        /**
+         * 超过该时间后开始后台刷新
+         */
+        final long refreshAt;
+
+        volatile long lastAccess;
+
+        final AtomicBoolean refreshing = new AtomicBoolean();
+
+        Entry(List<InetAddress> addresses, long resolvedAt, long ttl, long refreshAt, long lastAccess) {
+            this.addresses = addresses;
+            this.resolvedAt = resolvedAt;
+            this.ttl = ttl;
+            this.refreshAt = refreshAt;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * 解析失败的缓存
+     */
+    private static class Failure {
+
+        final String message;
+
+        final UnknownHostException cause;
+
+        final long failedAt;
+
+        Failure(UnknownHostException cause, long failedAt) {
+            this.message = cause.getMessage();
+            this.cause = cause;
+            this.failedAt = failedAt;
+        }
+    }
+}
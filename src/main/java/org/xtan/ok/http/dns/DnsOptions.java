@@ -0,0 +1,195 @@
+package org.xtan.ok.http.dns;
+
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DNS 缓存配置
+ * <p>
+ * 配置文件格式：
+ * ok.http.dns.enabled=true
+ * ok.http.dns.ttl=30000
+ * ok.http.dns.hosts[api.example.com]=10000
+ * ok.http.dns.overrides[api.example.com]=10.0.0.1,10.0.0.2
+ * host 中包含 . 时需要使用 [] 包裹
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class DnsOptions {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PROPERTY_PREFIX = "ok.http.dns.";
+
+    /**
+     * 是否启用 DNS 缓存，默认关闭，关闭时使用 {@link okhttp3.Dns#SYSTEM}
+     * 开启后过期的解析结果会在 {@link #maxStale} 内继续使用，会改变 DNS 切换时的故障转移行为，需要显式开启
+     */
+    private boolean enabled = false;
+
+    /**
+     * 解析结果的缓存时间(毫秒)，与 JVM 默认的 30 秒保持一致
+     */
+    private long ttl = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * 按照 host 单独设置的缓存时间(毫秒)
+     */
+    private Map<String, Long> hosts = Collections.emptyMap();
+
+    /**
+     * 缓存时间超过该比例后在后台刷新
+     */
+    private double refreshRatio = 0.75;
+
+    /**
+     * 过期后仍可使用旧结果的时间(毫秒)，期间后台刷新，超过后同步解析
+     */
+    private long maxStale = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * 超过该时间(毫秒)未使用的 host 不再刷新并移出缓存
+     */
+    private long idleTimeout = TimeUnit.MINUTES.toMillis(10);
+
+    /**
+     * 解析失败结果的缓存时间(毫秒)
+     */
+    private long negativeTtl = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * 解析失败结果的最大缓存数量
+     */
+    private int negativeCacheSize = 1024;
+
+    /**
+     * 静态解析，host 对应以 , 分隔的 ip 地址
+     */
+    private Map<String, String> overrides = Collections.emptyMap();
+
+    /**
+     * 从 spring 配置中读取，不在 spring 容器中时使用默认配置
+     *
+     * @return
+     */
+    public static DnsOptions load() {
+        DnsOptions options = new DnsOptions();
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        if (null == environment) {
+            return options;
+        }
+        options.enabled = property(environment, "enabled", Boolean.class, options.enabled);
+        options.ttl = property(environment, "ttl", Long.class, options.ttl);
+        options.refreshRatio = property(environment, "refresh-ratio", Double.class, options.refreshRatio);
+        options.maxStale = property(environment, "max-stale", Long.class, options.maxStale);
+        options.idleTimeout = property(environment, "idle-timeout", Long.class, options.idleTimeout);
+        options.negativeTtl = property(environment, "negative-ttl", Long.class, options.negativeTtl);
+        options.negativeCacheSize = property(environment, "negative-cache-size", Integer.class, options.negativeCacheSize);
+        options.hosts = environment.getMap(PROPERTY_PREFIX + "hosts", Long.class);
+        options.overrides = environment.getMap(PROPERTY_PREFIX + "overrides", String.class);
+        return options;
+    }
+
+    private static <T> T property(EnvironmentComponent environment, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PROPERTY_PREFIX + key, type);
+        return null != value ? value : defaultValue;
+    }
+
+    /**
+     * 指定 host 的缓存时间(毫秒)
+     *
+     * @param host host
+     * @return
+     */
+    public long ttl(String host) {
+        Long value = hosts.get(host);
+        return null != value ? value : ttl;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public DnsOptions enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public long ttl() {
+        return ttl;
+    }
+
+    public DnsOptions ttl(long ttl) {
+        this.ttl = ttl;
+        return this;
+    }
+
+    public Map<String, Long> hosts() {
+        return hosts;
+    }
+
+    public DnsOptions hosts(Map<String, Long> hosts) {
+        this.hosts = hosts;
+        return this;
+    }
+
+    public double refreshRatio() {
+        return refreshRatio;
+    }
+
+    public DnsOptions refreshRatio(double refreshRatio) {
+        this.refreshRatio = refreshRatio;
+        return this;
+    }
+
+    public long maxStale() {
+        return maxStale;
+    }
+
+    public DnsOptions maxStale(long maxStale) {
+        this.maxStale = maxStale;
+        return this;
+    }
+
+    public long idleTimeout() {
+        return idleTimeout;
+    }
+
+    public DnsOptions idleTimeout(long idleTimeout) {
+        this.idleTimeout = idleTimeout;
+        return this;
+    }
+
+    public long negativeTtl() {
+        return negativeTtl;
+    }
+
+    public DnsOptions negativeTtl(long negativeTtl) {
+        this.negativeTtl = negativeTtl;
+        return this;
+    }
+
+    public int negativeCacheSize() {
+        return negativeCacheSize;
+    }
+
+    public DnsOptions negativeCacheSize(int negativeCacheSize) {
+        this.negativeCacheSize = negativeCacheSize;
+        return this;
+    }
+
+    public Map<String, String> overrides() {
+        return overrides;
+    }
+
+    public DnsOptions overrides(Map<String, String> overrides) {
+        this.overrides = overrides;
+        return this;
+    }
+}
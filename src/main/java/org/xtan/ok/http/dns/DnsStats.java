@@ -0,0 +1,168 @@
+package org.xtan.ok.http.dns;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DNS 解析统计
+ * 用于观察缓存命中率与实际解析耗时
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class DnsStats {
+
+    /**
+     * 查询总次数
+     */
+    private final AtomicLong lookups = new AtomicLong();
+
+    /**
+     * 命中缓存的次数，包含过期但仍可使用的结果
+     */
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * 命中过期结果的次数
+     */
+    private final AtomicLong staleHits = new AtomicLong();
+
+    /**
+     * 命中解析失败缓存的次数
+     */
+    private final AtomicLong negativeHits = new AtomicLong();
+
+    /**
+     * 静态解析的次数
+     */
+    private final AtomicLong overrides = new AtomicLong();
+
+    /**
+     * 实际解析次数，包含后台刷新
+     */
+    private final AtomicLong resolutions = new AtomicLong();
+
+    /**
+     * 后台刷新次数
+     */
+    private final AtomicLong refreshes = new AtomicLong();
+
+    /**
+     * 解析失败次数
+     */
+    private final AtomicLong failures = new AtomicLong();
+
+    /**
+     * 实际解析的总耗时(纳秒)
+     */
+    private final AtomicLong resolveNanos = new AtomicLong();
+
+    /**
+     * 实际解析的最大耗时(纳秒)
+     */
+    private final AtomicLong maxResolveNanos = new AtomicLong();
+
+    void lookup() {
+        lookups.incrementAndGet();
+    }
+
+    void hit(boolean isStale) {
+        hits.incrementAndGet();
+        if (isStale) staleHits.incrementAndGet();
+    }
+
+    void negativeHit() {
+        negativeHits.incrementAndGet();
+    }
+
+    void override() {
+        overrides.incrementAndGet();
+    }
+
+    void refresh() {
+        refreshes.incrementAndGet();
+    }
+
+    void resolve(long nanos, boolean isSuccess) {
+        resolutions.incrementAndGet();
+        if (!isSuccess) failures.incrementAndGet();
+        resolveNanos.addAndGet(nanos);
+        maxResolveNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    public long lookups() {
+        return lookups.get();
+    }
+
+    public long hits() {
+        return hits.get();
+    }
+
+    public long staleHits() {
+        return staleHits.get();
+    }
+
+    public long negativeHits() {
+        return negativeHits.get();
+    }
+
+    public long overrides() {
+        return overrides.get();
+    }
+
+    public long resolutions() {
+        return resolutions.get();
+    }
+
+    public long refreshes() {
+        return refreshes.get();
+    }
+
+    public long failures() {
+        return failures.get();
+    }
+
+    /**
+     * 查询时未命中缓存，需要同步解析的次数
+     *
+     * @return
+     */
+    public long misses() {
+        return lookups() - hits() - negativeHits() - overrides();
+    }
+
+    /**
+     * 缓存命中率，包含解析失败缓存与静态解析
+     *
+     * @return
+     */
+    public double hitRate() {
+        long total = lookups();
+        return total == 0 ? 0 : (double) (total - misses()) / total;
+    }
+
+    /**
+     * 实际解析的平均耗时(毫秒)
+     *
+     * @return
+     */
+    public double averageResolveMillis() {
+        long total = resolutions();
+        return total == 0 ? 0 : (double) resolveNanos.get() / total / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * 实际解析的最大耗时(毫秒)
+     *
+     * @return
+     */
+    public double maxResolveMillis() {
+        return (double) maxResolveNanos.get() / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("DnsStats[lookups=%s, hits=%s, staleHits=%s, negativeHits=%s, misses=%s, refreshes=%s, failures=%s, avgResolveMillis=%.3f, maxResolveMillis=%.3f]",
+                lookups(), hits(), staleHits(), negativeHits(), misses(), refreshes(), failures(), averageResolveMillis(), maxResolveMillis());
+    }
+}
@@ -18,6 +18,10 @@ public class HttpClientException extends RuntimeException {
         throw new HttpClientException(String.format("%s \n -> Error by: %s#%s", format, method.getDeclaringClass().getName(), method.getName()));
     }
 
+    public HttpClientException(String format, Class<?> type, String methodName) {
+        super(String.format("%s \n -> Error by: %s#%s", format, type.getName(), methodName));
+    }
+
     public HttpClientException(String message, Throwable cause) {
         super(message, cause);
     }
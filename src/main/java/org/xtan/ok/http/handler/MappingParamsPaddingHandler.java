@@ -60,7 +60,7 @@ public class MappingParamsPaddingHandler {
      * @author: XOptional-TAN
      * @date: 2021-08-10
      */
-    private static void onlyFileParams(OkBuilder okBuilder, Object arg, Method method) {
+    public static void onlyFileParams(OkBuilder okBuilder, Object arg, Method method) {
         if (arg instanceof File) {
             okBuilder.body((File) arg);
             return;
@@ -86,7 +86,7 @@ public class MappingParamsPaddingHandler {
      * @date: 2021-08-10
      */
     @SuppressWarnings("unchecked")
-    private static void putParams(OkBuilder okBuilder, String paramName, Object arg) {
+    public static void putParams(OkBuilder okBuilder, String paramName, Object arg) {
         if (arg instanceof File) {
             okBuilder.params(paramName, (File) arg);
             return;
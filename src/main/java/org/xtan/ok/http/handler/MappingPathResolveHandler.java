@@ -2,7 +2,6 @@ package org.xtan.ok.http.handler;
 
 import org.apache.commons.lang3.StringUtils;
 import org.xtan.ok.http.annotation.method.Mapping;
-import org.xtan.ok.http.annotation.paramer.PathParam;
 import org.xtan.ok.http.config.EnvironmentComponent;
 import org.xtan.ok.http.constants.HttpPrefix;
 import org.xtan.ok.http.exception.HttpClientException;
@@ -11,11 +10,8 @@ import org.xtan.ok.http.model.HttpMethod;
 import org.xtan.ok.http.utils.XOptional;
 
 import java.lang.reflect.Method;
-import java.lang.reflect.Parameter;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -45,56 +41,40 @@ public class MappingPathResolveHandler {
                 .ifPresent(it -> entity.isDynamicPath(true));
     }
 
-
     /**
-     * 返回动态地址
+     * 地址解析
      *
-     * @param entity mapping对象
-     * @param method 请求方法
-     * @param args   请求方法参数
+     * @param host    host
+     * @param mapping 请求映射
+     * @param entity  mapping对象
      */
-    public static String dynamicPathResolve(HttpMapping entity, Method method, Object[] args) {
-        Parameter[] parameters = method.getParameters();
-        Map<String, String> map = new HashMap<>();
-        for (int i = 0; i < parameters.length; i++) {
-            PathParam pathParam = parameters[i].getAnnotation(PathParam.class);
-            if (null != pathParam) map.put(pathParam.value(), args[i].toString());
-        }
-        //生成一个新的path
-        StringBuilder sb = new StringBuilder();
-        for (String it : entity.path()) {
-            sb.append("/");
-            if (it.contains("{") && it.lastIndexOf("}") > -1) {
-                String paramsName = it.substring(1, it.length() - 1);
-                sb.append(map.get(paramsName));
-                continue;
-            }
-            sb.append(it);
-        }
-        return String.format("%s%s%s", entity.prefix(), entity.host(), sb);
+    public static void staticPathResolve(String host, Mapping mapping, HttpMapping entity, Method method) {
+        staticPathResolve(host, mapping.value(), entity, method.getDeclaringClass(), method.getName());
     }
 
     /**
      * 地址解析
      *
-     * @param host    host
-     * @param mapping 请求映射
-     * @param entity  mapping对象
+     * @param host       host
+     * @param value      请求映射地址
+     * @param entity     mapping对象
+     * @param type       HttpClient 接口
+     * @param methodName 方法名
      */
-    public static void staticPathResolve(String host, Mapping mapping, HttpMapping entity, Method method) {
+    public static void staticPathResolve(String host, String value, HttpMapping entity, Class<?> type, String methodName) {
         //如果host为spring参数注入的host，进行转换
-        String propertyHost = propertyHost(host, method);
+        String propertyHost = propertyHost(host, type, methodName);
         String newHost = StringUtils.isNotBlank(propertyHost) ? propertyHost : host;
         //mapping.value
-        String mappingUrl = propertyHost(mapping.value(), method);
-        mappingUrl = StringUtils.isNotBlank(mappingUrl) ? mappingUrl : mapping.value();
+        String mappingUrl = propertyHost(value, type, methodName);
+        mappingUrl = StringUtils.isNotBlank(mappingUrl) ? mappingUrl : value;
         XOptional.ofNullable(mappingUrl)
                 //如果是携带了http://等前缀的完整请求地址，尝试解析，如果成功不继续进行下列的解析操作
                 .filter(url -> !mappingHasHttpPrefixResolve(url, entity))
                 // 如果是没有携带http://等前缀的完整请求地址，尝试解析，如果成功不继续进行下列的解析操作
                 .filter(url -> !mappingNotHttpPrefixResolve(url, entity))
                 // 如果mappingUrl是一个映射，并不包含请求域名或者host
-                .ifPresent(url -> hostAndMapping(newHost, url, entity, method));
+                .ifPresent(url -> hostAndMapping(newHost, url, entity, type, methodName));
     }
 
     /**
@@ -150,12 +130,23 @@ public class MappingPathResolveHandler {
      * @param host       域名或者host
      * @param mappingUrl 请求映射
      * @param entity     映射实体
-     * @param method     调用方法
+     * @param type       HttpClient 接口
+     * @param methodName 调用方法名
      */
-    private static void hostAndMapping(String host, String mappingUrl, HttpMapping entity, Method method) {
+    private static void hostAndMapping(String host, String mappingUrl, HttpMapping entity, Class<?> type, String methodName) {
         //如果只是映射，则检查host是否存在
         if (StringUtils.isBlank(host)) {
-            throw new HttpClientException("if the host of httpclient is empty, the URL should be a complete request address!", method);
+            throw new HttpClientException("if the host of httpclient is empty, the URL should be a complete request address!", type, methodName);
+        }
+        //unix domain socket 的请求地址，socket 文件由连接配置处理
+        if (host.startsWith(HttpPrefix.UNIX)) {
+            entity.prefix(HttpPrefix.HTTP);
+            entity.host(HttpPrefix.UNIX_HOST);
+            entity.path(Arrays.stream(mappingUrl.split("/"))
+                    .filter(StringUtils::isNotBlank)
+                    .toArray(String[]::new)
+            );
+            return;
         }
         String httpPrefix = HttpPrefix.Prefix.getByUrl(host);
         entity.prefix(StringUtils.isNotBlank(httpPrefix) ? httpPrefix : (HttpMethod.WS.equals(entity.method()) ? HttpPrefix.WS : HttpPrefix.HTTP));
@@ -167,21 +158,39 @@ public class MappingPathResolveHandler {
     }
 
 
+    /**
+     * 获取 unix domain socket 的文件地址
+     *
+     * @param host HttpClient 声明的 host，支持 Spring 参数注入
+     * @return 不是 unix domain socket 地址时返回 null
+     */
+    public static String unixSocketPath(String host) {
+        if (StringUtils.isBlank(host)) {
+            return null;
+        }
+        String value = host;
+        if (host.startsWith("${") && host.endsWith("}") && null != EnvironmentComponent.INSTANCE) {
+            value = EnvironmentComponent.INSTANCE.getProperty(host.substring(2, host.length() - 1));
+        }
+        return null != value && value.startsWith(HttpPrefix.UNIX) ? value.substring(HttpPrefix.UNIX.length()) : null;
+    }
+
     /**
      * 获取 Spring 参数注入的 host
      *
      * @param propertyKey 注入参数的 key
-     * @param method      请求方法
+     * @param type        HttpClient 接口
+     * @param methodName  请求方法名
      * @return
      */
-    private static String propertyHost(String propertyKey, Method method) {
+    private static String propertyHost(String propertyKey, Class<?> type, String methodName) {
         //如果存在spring的环境，则检查是否为el表达式
         return XOptional.ofNullable(EnvironmentComponent.INSTANCE)
                 .filter(it -> (propertyKey.startsWith("${")) && propertyKey.endsWith("}"))
                 .map(it -> {
                     String property = EnvironmentComponent.INSTANCE.getProperty(propertyKey.substring(2, propertyKey.length() - 1));
                     if (StringUtils.isBlank(property)) {
-                        throw new HttpClientException("Property cannot be found by " + propertyKey, method);
+                        throw new HttpClientException("Property cannot be found by " + propertyKey, type, methodName);
                     }
                     return property;
                 })
@@ -16,19 +16,26 @@ import java.io.IOException;
 public class GzipRequestInterceptor implements Interceptor {
     @Override
     public Response intercept(Chain chain) throws IOException {
-        Request originalRequest = chain.request();
+        return chain.proceed(compress(chain.request()));
+    }
+
+    /**
+     * 压缩请求内容，没有请求内容或者已经设置了编码时返回原请求
+     *
+     * @param originalRequest 原请求
+     * @return
+     */
+    public static Request compress(Request originalRequest) {
         if (originalRequest.body() == null || originalRequest.header("Content-Encoding") != null) {
-            return chain.proceed(originalRequest);
+            return originalRequest;
         }
-
-        Request compressedRequest = originalRequest.newBuilder()
+        return originalRequest.newBuilder()
                 .header("Content-Encoding", "gzip")
                 .method(originalRequest.method(), gzip(originalRequest.body()))
                 .build();
-        return chain.proceed(compressedRequest);
     }
 
-    private RequestBody gzip(final RequestBody body) {
+    private static RequestBody gzip(final RequestBody body) {
         return new RequestBody() {
             @Override
             public MediaType contentType() {
@@ -0,0 +1,28 @@
+package org.xtan.ok.http.interceptor;
+
+import okhttp3.Interceptor;
+
+/**
+ * 注册为 spring bean 的 HttpClient 拦截器
+ * <p>
+ * 注册 HttpClient 时根据 {@link #supports(Class, String)} 决定是否加入方法的拦截器链，
+ * 调用时不再判断。多个拦截器按照 {@link org.springframework.core.Ordered} 或
+ * {@link org.springframework.core.annotation.Order} 排序，先于 {@link org.xtan.ok.http.annotation.Interceptors} 声明的拦截器执行
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public interface HttpClientInterceptor extends Interceptor {
+
+    /**
+     * 是否拦截 HttpClient 的方法
+     *
+     * @param type       HttpClient 接口
+     * @param methodName 方法名
+     * @return 默认拦截所有方法
+     */
+    default boolean supports(Class<?> type, String methodName) {
+        return true;
+    }
+}
@@ -0,0 +1,136 @@
+package org.xtan.ok.http.interceptor;
+
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.xtan.ok.http.annotation.Interceptors;
+import org.xtan.ok.http.client.OkClientRegistry;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * HttpClient 方法的拦截器链
+ * <p>
+ * 注册时为每个方法解析一次拦截器链：{@link HttpClientInterceptor} bean -> 接口上的 {@link Interceptors} -> 方法上的 {@link Interceptors}，
+ * 并构建添加了拦截器的衍生 client。没有拦截器的方法直接使用原始 client，调用时没有任何额外开销
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class InterceptorChains {
+
+    private static volatile ListableBeanFactory beanFactory;
+
+    /**
+     * 排序后的 {@link HttpClientInterceptor} bean
+     */
+    private static volatile List<HttpClientInterceptor> beans;
+
+    /**
+     * {@link Interceptors} 声明的拦截器实例，同一个类型只创建一次
+     */
+    private static final Map<Class<?>, Interceptor> INSTANCES = new ConcurrentHashMap<>();
+
+    private InterceptorChains() {
+    }
+
+    /**
+     * 设置获取拦截器 bean 的容器，不在 spring 容器中时只使用 {@link Interceptors} 声明的拦截器
+     *
+     * @param factory spring 容器
+     */
+    public static void beanFactory(ListableBeanFactory factory) {
+        if (beanFactory != factory) {
+            beanFactory = factory;
+            beans = null;
+            INSTANCES.clear();
+        }
+    }
+
+    /**
+     * 获取方法使用的 client
+     *
+     * @param client HttpClient 的 client
+     * @param type   HttpClient 接口
+     * @param method 映射方法
+     * @return 没有拦截器时返回原始 client
+     */
+    public static OkHttpClient client(OkHttpClient client, Class<?> type, Method method) {
+        return client(client, type, method.getName(), method.getAnnotation(Interceptors.class));
+    }
+
+    /**
+     * 获取方法使用的 client
+     *
+     * @param client      HttpClient 的 client
+     * @param type        HttpClient 接口
+     * @param methodName  方法名
+     * @param annotation  方法上的拦截器注解，不存在时为空
+     * @return 没有拦截器时返回原始 client
+     */
+    public static OkHttpClient client(OkHttpClient client, Class<?> type, String methodName, Interceptors annotation) {
+        return OkClientRegistry.instance().intercepted(client, resolve(type, methodName, annotation));
+    }
+
+    /**
+     * 解析方法的拦截器链
+     *
+     * @param type       HttpClient 接口
+     * @param methodName 方法名
+     * @param annotation 方法上的拦截器注解，不存在时为空
+     * @return 按执行顺序排列的拦截器
+     */
+    public static List<Interceptor> resolve(Class<?> type, String methodName, Interceptors annotation) {
+        List<Interceptor> chain = new ArrayList<>();
+        for (HttpClientInterceptor it : beans()) {
+            if (it.supports(type, methodName)) {
+                chain.add(it);
+            }
+        }
+        add(chain, type.getAnnotation(Interceptors.class));
+        add(chain, annotation);
+        return chain;
+    }
+
+    private static void add(List<Interceptor> chain, Interceptors annotation) {
+        if (null == annotation) {
+            return;
+        }
+        for (Class<? extends Interceptor> it : annotation.value()) {
+            Interceptor interceptor = INSTANCES.computeIfAbsent(it, InterceptorChains::instantiate);
+            if (!chain.contains(interceptor)) {
+                chain.add(interceptor);
+            }
+        }
+    }
+
+    private static Interceptor instantiate(Class<?> type) {
+        ListableBeanFactory factory = beanFactory;
+        if (null != factory) {
+            Interceptor bean = (Interceptor) factory.getBeanProvider(type).getIfUnique();
+            if (null != bean) {
+                return bean;
+            }
+        }
+        return (Interceptor) BeanUtils.instantiateClass(type);
+    }
+
+    private static List<HttpClientInterceptor> beans() {
+        List<HttpClientInterceptor> current = beans;
+        if (null == current) {
+            ListableBeanFactory factory = beanFactory;
+            current = null == factory ? Collections.emptyList()
+                    : factory.getBeanProvider(HttpClientInterceptor.class).orderedStream().collect(Collectors.toList());
+            beans = current;
+        }
+        return current;
+    }
+}
@@ -25,9 +25,33 @@ public class LogInterceptor implements Interceptor {
 
     private static final Logger log = LoggerFactory.getLogger(LogInterceptor.class);
 
+    /**
+     * 流式读取响应内容的请求标记，带有此标记的请求不读取响应内容，避免缓冲整个响应
+     */
+    public enum Streaming {
+        INSTANCE
+    }
+
     @Override
     public Response intercept(Chain chain) throws IOException {
-        Request request = chain.request();
+        //记录请求时间
+        long startTime = System.currentTimeMillis();
+        //请求
+        Response response = chain.proceed(chain.request());
+        return log(chain.request(), response, startTime);
+    }
+
+    /**
+     * 打印请求与响应的日志，返回重新包装了响应内容的响应
+     * 不经过拦截器链的异步请求在响应到达后直接调用
+     *
+     * @param request   请求
+     * @param response  响应
+     * @param startTime 发送请求的时间
+     * @return
+     * @throws IOException
+     */
+    public Response log(Request request, Response response, long startTime) throws IOException {
         RequestBody requestBody = request.body();
         MediaType requestMediaType = null;
         //日志打印
@@ -35,16 +59,18 @@ public class LogInterceptor implements Interceptor {
         logBuilder.append("\n");
         //如果请求内容不为空则尝试获取请求内容类型
         if (null != requestBody) requestMediaType = requestBody.contentType();
-        //记录请求时间
-        long startTime = System.currentTimeMillis();
-        //请求
-        Response response = chain.proceed(chain.request());
         //填充日志
         logBuilder.append(String.format("URL       --> %s\n", request.url()));
         logBuilder.append(String.format("TIME      --> %s.ms\n", System.currentTimeMillis() - startTime));
         logBuilder.append(String.format("METHOD    --> %s\n", request.method()));
         logBuilder.append(String.format("HEADERS   --> %s\n", headersLog(request, requestMediaType)));
         logBuilder.append(String.format("REQUEST   --> %s\n", requestBodyLog(requestBody, requestMediaType)));
+        //流式读取的响应由调用方逐步读取
+        if (null != request.tag(Streaming.class)) {
+            logBuilder.append("RESPONSE  --> (streaming)\n");
+            log.info(logBuilder.toString());
+            return response;
+        }
         //获取返回信息
         ResponseBody responseBody = response.body();
         MediaType responseMediaType = null;
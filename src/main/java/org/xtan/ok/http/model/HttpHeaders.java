@@ -1,5 +1,7 @@
 package org.xtan.ok.http.model;
 
+import okhttp3.Headers;
+
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.BiConsumer;
@@ -56,6 +58,21 @@ public class HttpHeaders {
         headers.forEach(consumer);
     }
 
+    public boolean isEmpty() {
+        return headers.isEmpty();
+    }
+
+    /**
+     * 转换为不可变的 okhttp 请求头，请求头格式不合法时抛出 {@link IllegalArgumentException}
+     *
+     * @return
+     */
+    public Headers toHeaders() {
+        Headers.Builder builder = new Headers.Builder();
+        headers.forEach(builder::add);
+        return builder.build();
+    }
+
     /**
      * 获取整个请求头容器
      *
@@ -54,7 +54,7 @@ public class HttpMapping {
      * @return
      */
     public String url() {
-        return String.format("%s%s/%s", prefix, host, String.join("/", path));
+        return prefix + host + '/' + String.join("/", path);
     }
 
     /**
@@ -80,6 +80,28 @@ public class HttpMapping {
         return httpMapping;
     }
 
+    /**
+     * 根据编译期生成的映射信息构建，不读取方法注解
+     *
+     * @param host        host
+     * @param headers     类与方法上的静态请求头
+     * @param method      请求方式
+     * @param value       请求映射地址
+     * @param contentType 请求体类型
+     * @param type        HttpClient 接口
+     * @param methodName  方法名
+     * @return
+     */
+    public static HttpMapping builder(String host, HttpHeaders headers, HttpMethod method, String value, String contentType, Class<?> type, String methodName) {
+        HttpMapping httpMapping = new HttpMapping();
+        httpMapping.method(method);
+        httpMapping.contentType(contentType);
+        httpMapping.headers.add(headers);
+        MappingPathResolveHandler.staticPathResolve(host, value, httpMapping, type, methodName);
+        MappingPathResolveHandler.dynamicPathCheck(httpMapping);
+        return httpMapping;
+    }
+
     public String prefix() {
         return prefix;
     }
@@ -0,0 +1,82 @@
+package org.xtan.ok.http.model;
+
+import okhttp3.Protocol;
+import org.apache.commons.lang3.StringUtils;
+import org.xtan.ok.http.exception.HttpClientException;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * http协议的枚举
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public enum HttpProtocol {
+
+    /**
+     * 不指定，使用共享client的协议(https 通过 ALPN 协商 h2，http 使用 http/1.1)
+     */
+    DEFAULT(null),
+
+    /**
+     * 只使用 http/1.1
+     */
+    HTTP_1_1(Collections.singletonList(Protocol.HTTP_1_1)),
+
+    /**
+     * https 通过 ALPN 协商 h2，协商失败时回退到 http/1.1
+     */
+    HTTP_2(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)),
+
+    /**
+     * 明文 h2(prior knowledge)，不进行协议升级，直接使用 h2
+     * 只能用于 http 请求
+     */
+    H2C(Collections.singletonList(Protocol.H2_PRIOR_KNOWLEDGE));
+
+    private final List<Protocol> protocols;
+
+    HttpProtocol(List<Protocol> protocols) {
+        this.protocols = protocols;
+    }
+
+    /**
+     * okhttp 的协议列表
+     *
+     * @return
+     */
+    public List<Protocol> protocols() {
+        return protocols;
+    }
+
+    /**
+     * 解析配置中的协议，忽略大小写，支持 http-1.1 / http/1.1 / h2 / h2c 等写法
+     *
+     * @param value 配置值
+     * @return
+     */
+    public static HttpProtocol of(String value) {
+        if (StringUtils.isBlank(value)) {
+            return DEFAULT;
+        }
+        String name = value.trim().toUpperCase().replaceAll("[-/.]", "_");
+        switch (name) {
+            case "H2":
+                return HTTP_2;
+            case "HTTP_1_1":
+            case "HTTP1_1":
+                return HTTP_1_1;
+            case "H2_PRIOR_KNOWLEDGE":
+                return H2C;
+            default:
+                try {
+                    return valueOf(name);
+                } catch (IllegalArgumentException e) {
+                    throw new HttpClientException(String.format("unsupported http protocol: [%s]", value));
+                }
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package org.xtan.ok.http.model;
 
 import com.alibaba.fastjson.JSON;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okio.ByteString;
+import org.xtan.ok.http.utils.FormEncoder;
 
 import java.io.File;
 import java.io.InputStream;
-import java.io.UnsupportedEncodingException;
-import java.net.URLEncoder;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -21,10 +23,17 @@ public class HttpRequest {
      */
     private final Map<String, Object> paramsEntries = new HashMap<>(8);
 
+    private static final Headers EMPTY_HEADERS = Headers.of();
+
+    /**
+     * 静态请求头，由映射预先构建，多个请求共享
+     */
+    private Headers staticHeaders;
+
     /**
-     * 请求头容器
+     * 动态请求头容器，添加请求头时才创建，覆盖同名的静态请求头
      */
-    private final HttpHeaders mHttpHeaders = HttpHeaders.builder();
+    private HttpHeaders mHttpHeaders;
 
     /**
      * 文件流
@@ -41,6 +50,11 @@ public class HttpRequest {
      */
     private String contentType = null;
 
+    /**
+     * 解析后的请求内容类型
+     */
+    private MediaType mediaType = null;
+
     /**
      * 是否是json请求内容
      */
@@ -62,15 +76,30 @@ public class HttpRequest {
     }
 
     public byte[] getBytes() {
-        return null == this.bytes ? getParams().toString().getBytes() : this.bytes;
+        return null == this.bytes ? getForm().toByteArray() : this.bytes;
+    }
+
+    /**
+     * 添加静态请求头，不复制请求头内容
+     *
+     * @param headers
+     */
+    public void putHeaders(Headers headers) {
+        if (null == headers || 0 == headers.size()) {
+            return;
+        }
+        this.staticHeaders = null == staticHeaders ? headers : staticHeaders.newBuilder().addAll(headers).build();
     }
 
     public void putHeaders(HttpHeaders header) {
-        mHttpHeaders.add(header);
+        if (null == header || header.isEmpty()) {
+            return;
+        }
+        getDynamicHeaders().add(header);
     }
 
     public void putHeaders(final String key, final String value) {
-        mHttpHeaders.add(key, value);
+        getDynamicHeaders().add(key, value);
     }
 
     public void put(final String key, final int value) {
@@ -113,39 +142,67 @@ public class HttpRequest {
     }
 
     public StringBuilder getParams() {
-        StringBuilder result = new StringBuilder();
-        boolean isFirst = true;
-
-        for (Map.Entry<String, Object> entry : paramsEntries.entrySet()) {
-            if (entry.getValue() instanceof File) {
-                continue;
-            }
-            if (entry.getValue() instanceof byte[]) {
-                continue;
-            }
-            if (!isFirst) {
-                result.append("&");
-            } else {
-                isFirst = false;
-            }
-            try {
-                result.append(entry.getKey()).append("=").append(URLEncoder.encode(entry.getValue().toString(), "utf8"));
-            } catch (UnsupportedEncodingException e) {
-                e.printStackTrace();
-            }
-        }
+        return new StringBuilder(getForm().utf8());
+    }
 
-        return result;
+    /**
+     * 编码后的表单参数，不包含文件参数
+     *
+     * @return k1=v1&k2=v2
+     */
+    public ByteString getForm() {
+        return FormEncoder.encode(paramsEntries);
     }
 
     public Map<String, Object> getParamsEntries() {
         return paramsEntries;
     }
 
+    /**
+     * 全部请求头的容器，修改会影响请求
+     * 静态请求头在第一次调用时复制到容器中，不再与其他请求共享，只需要添加请求头时使用 {@link #getDynamicHeaders()}
+     *
+     * @return
+     */
     public HttpHeaders getHeaders() {
+        HttpHeaders dynamic = getDynamicHeaders();
+        if (null != staticHeaders) {
+            HttpHeaders merged = HttpHeaders.builder();
+            for (int i = 0; i < staticHeaders.size(); i++) {
+                merged.add(staticHeaders.name(i), staticHeaders.value(i));
+            }
+            mHttpHeaders = merged.add(dynamic);
+            staticHeaders = null;
+        }
+        return mHttpHeaders;
+    }
+
+    /**
+     * 动态请求头容器，不包含静态请求头，其中的请求头覆盖同名的静态请求头
+     *
+     * @return
+     */
+    public HttpHeaders getDynamicHeaders() {
+        if (null == mHttpHeaders) {
+            mHttpHeaders = HttpHeaders.builder();
+        }
         return mHttpHeaders;
     }
 
+    /**
+     * 合并后的请求头，不存在动态请求头时直接返回静态请求头
+     *
+     * @return
+     */
+    public Headers toHeaders() {
+        if (null == mHttpHeaders || mHttpHeaders.isEmpty()) {
+            return null == staticHeaders ? EMPTY_HEADERS : staticHeaders;
+        }
+        Headers.Builder builder = null == staticHeaders ? new Headers.Builder() : staticHeaders.newBuilder();
+        mHttpHeaders.foreach(builder::set);
+        return builder.build();
+    }
+
     public boolean isJson() {
         return isJson;
     }
@@ -171,8 +228,32 @@ public class HttpRequest {
         this.bodyObj = obj;
     }
 
+    /**
+     * json请求实体，未设置时使用参数集合作为请求内容
+     *
+     * @return
+     */
+    public Object getJsonBodyObject() {
+        return bodyObj;
+    }
+
     public void setContentType(String contentType) {
         this.contentType = contentType;
+        this.mediaType = null;
+    }
+
+    public void setMediaType(MediaType mediaType) {
+        this.mediaType = mediaType;
+        this.contentType = null == mediaType ? null : mediaType.toString();
+    }
+
+    /**
+     * 解析后的请求内容类型，只通过字符串设置时为空
+     *
+     * @return
+     */
+    public MediaType getMediaType() {
+        return this.mediaType;
     }
 
     public String getContentType() {
@@ -0,0 +1,41 @@
+package org.xtan.ok.http.model;
+
+/**
+ * 注解中可以不设置的开关
+ * 注解的属性不能为空，boolean 无法区分未设置与关闭
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public enum Toggle {
+
+    /**
+     * 不指定，使用共享client的配置
+     */
+    DEFAULT(null),
+
+    /**
+     * 开启
+     */
+    ON(Boolean.TRUE),
+
+    /**
+     * 关闭
+     */
+    OFF(Boolean.FALSE);
+
+    private final Boolean value;
+
+    Toggle(Boolean value) {
+        this.value = value;
+    }
+
+    /**
+     * 开关的值，未指定时为空
+     *
+     * @return
+     */
+    public Boolean value() {
+        return value;
+    }
+}
@@ -0,0 +1,366 @@
+package org.xtan.ok.http.outbox;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.xtan.ok.http.OkBulk;
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.client.HttpClientProfile;
+import org.xtan.ok.http.client.OkClientRegistry;
+import org.xtan.ok.http.interceptor.InterceptorChains;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 持久化发件箱
+ * <p>
+ * {@link org.xtan.ok.http.annotation.Async#durable()} 的方法把请求序列化后追加到发件箱并立即返回，
+ * 发送线程按批读取并通过 {@link OkBulk} 发送，失败的请求按照指数退避重试。
+ * 连接失败、408、429 与 5xx 的响应会重试，其他响应视为发送完成，超过最大尝试次数的请求被丢弃。
+ * 进程重启后从检查点继续发送，磁盘占用达到上限时丢弃新的请求
+ * 追加不会向调用方抛出异常，无法打开存储(例如目录被其他实例占用)或者写入失败时丢弃请求并计数，存储只尝试打开一次
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class Outbox implements SmartInitializingSingleton, DisposableBean {
+
+    public static final String BEAN_NAME = "okHttpOutbox";
+
+    private static final Logger log = LoggerFactory.getLogger(Outbox.class);
+
+    private static volatile Outbox INSTANCE;
+
+    private final OutboxOptions options;
+
+    /**
+     * HttpClient 方法对应的 client，重启后未调用过的方法根据接口的配置解析
+     * 接口或方法无法解析时为空
+     */
+    private final Map<String, Optional<OkHttpClient>> clients = new ConcurrentHashMap<>();
+
+    private final AtomicLong appended = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    private final AtomicLong sent = new AtomicLong();
+
+    private final AtomicLong discarded = new AtomicLong();
+
+    private volatile OutboxStore store;
+
+    /**
+     * 打开存储失败的原因，失败后不再重试，之后追加的请求全部丢弃
+     */
+    private volatile IOException openFailure;
+
+    private volatile Thread drainer;
+
+    private volatile boolean closed;
+
+    private Outbox(OutboxOptions options) {
+        this.options = options;
+    }
+
+    /**
+     * 获取发件箱实例，第一次追加请求时才会创建文件与发送线程
+     * 容器关闭后再次获取会重新创建
+     *
+     * @return
+     */
+    public static Outbox instance() {
+        Outbox outbox = INSTANCE;
+        if (null == outbox) {
+            synchronized (Outbox.class) {
+                outbox = INSTANCE;
+                if (null == outbox) {
+                    INSTANCE = outbox = new Outbox(OutboxOptions.load());
+                }
+            }
+        }
+        return outbox;
+    }
+
+    /**
+     * 追加请求并立即返回，无法追加时丢弃请求并计入 {@link #dropped()}
+     *
+     * @param type    HttpClient 接口
+     * @param method  方法
+     * @param client  执行请求的client
+     * @param request 请求
+     */
+    public void append(Class<?> type, Method method, OkHttpClient client, Request request) {
+        String key = key(type, method);
+        clients.putIfAbsent(key, Optional.of(client));
+        OutboxStore current;
+        try {
+            current = store();
+        } catch (IOException e) {
+            dropped.incrementAndGet();
+            log.debug("outbox is not available, request is dropped: {} {}", request.method(), request.url());
+            return;
+        }
+        boolean isAppended;
+        try {
+            isAppended = current.append(OutboxEntry.encode(key, request));
+        } catch (IOException e) {
+            dropped.incrementAndGet();
+            log.warn("failed to append request to outbox, request is dropped: {} {}, {}", request.method(), request.url(), e.toString());
+            return;
+        }
+        if (!isAppended) {
+            dropped.incrementAndGet();
+            log.warn("outbox is full or the request is too large, request is dropped: {} {}", request.method(), request.url());
+            return;
+        }
+        appended.incrementAndGet();
+        LockSupport.unpark(drainer);
+    }
+
+    /**
+     * 启动时继续发送上次未发送完成的请求
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (null == store && OutboxStore.exists(options)) {
+            try {
+                store();
+            } catch (IOException ignored) {
+                //打开失败时已经记录日志
+            }
+        }
+    }
+
+    /**
+     * 停止发送线程，未发送的请求在下次启动时继续发送
+     */
+    @Override
+    public void destroy() {
+        synchronized (Outbox.class) {
+            if (INSTANCE == this) INSTANCE = null;
+            closed = true;
+        }
+        Thread thread = drainer;
+        if (null != thread) {
+            thread.interrupt();
+            try {
+                thread.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        OutboxStore current = store;
+        if (null != current) {
+            current.close();
+        }
+    }
+
+    /**
+     * 追加的请求数
+     */
+    public long appended() {
+        return appended.get();
+    }
+
+    /**
+     * 未能追加而丢弃的请求数：磁盘占用达到上限、请求过大、无法序列化或者存储无法打开
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * 发送完成的请求数
+     */
+    public long sent() {
+        return sent.get();
+    }
+
+    /**
+     * 超过最大尝试次数或无法解析而丢弃的请求数
+     */
+    public long discarded() {
+        return discarded.get();
+    }
+
+    /**
+     * 打开存储并启动发送线程，只尝试打开一次，失败后抛出第一次失败的原因
+     */
+    private OutboxStore store() throws IOException {
+        OutboxStore current = store;
+        if (null == current) {
+            synchronized (this) {
+                current = store;
+                if (null == current) {
+                    if (closed) {
+                        throw new IOException("outbox is closed!");
+                    }
+                    if (null != openFailure) {
+                        throw openFailure;
+                    }
+                    try {
+                        current = OutboxStore.open(options);
+                    } catch (IOException | RuntimeException e) {
+                        openFailure = e instanceof IOException ? (IOException) e : new IOException(e);
+                        log.error("failed to open outbox, durable requests will be dropped: {}", e.toString());
+                        throw openFailure;
+                    }
+                    store = current;
+                    Thread thread = new Thread(this::drain, "ok-http-outbox-drainer");
+                    thread.setDaemon(true);
+                    drainer = thread;
+                    thread.start();
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * 发送线程：按批读取并发送，全部完成后提交检查点
+     */
+    private void drain() {
+        OutboxStore store = this.store;
+        while (!closed) {
+            try {
+                List<OutboxStore.Record> batch = store.read(options.batchSize());
+                if (batch.isEmpty()) {
+                    LockSupport.parkNanos(TimeUnit.SECONDS.toNanos(1));
+                    continue;
+                }
+                if (send(batch)) {
+                    store.commit(batch.get(batch.size() - 1));
+                }
+            } catch (Throwable e) {
+                if (closed) {
+                    return;
+                }
+                log.warn("outbox drainer failed: {}", e.toString());
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(options.retryBackoff()));
+            }
+        }
+    }
+
+    /**
+     * 发送一批请求，失败的请求退避后重试
+     *
+     * @return 停止时未发送完成返回 false
+     */
+    private boolean send(List<OutboxStore.Record> batch) {
+        List<OutboxEntry> pending = new ArrayList<>(batch.size());
+        for (OutboxStore.Record record : batch) {
+            OutboxEntry entry;
+            try {
+                entry = OutboxEntry.decode(record.payload);
+            } catch (Exception e) {
+                discarded.incrementAndGet();
+                log.warn("outbox entry can not be decoded, discarded: {}", e.toString());
+                continue;
+            }
+            if (null == client(entry.key)) {
+                discarded.incrementAndGet();
+                log.warn("outbox entry of unknown method {} is discarded: {} {}", entry.key, entry.request.method(), entry.request.url());
+                continue;
+            }
+            pending.add(entry);
+        }
+        for (int attempt = 1; !pending.isEmpty(); attempt++) {
+            List<OutboxEntry> failed = new ArrayList<>();
+            for (OkBulk.Result<OutboxEntry, Boolean> result : OkBulk.of(pending, this::send).concurrency(options.concurrency()).execute()) {
+                if (result.isSuccess() && result.value()) {
+                    sent.incrementAndGet();
+                } else {
+                    failed.add(result.arg());
+                }
+            }
+            if (failed.isEmpty()) {
+                return true;
+            }
+            if (attempt >= options.maxAttempts()) {
+                discarded.addAndGet(failed.size());
+                log.warn("{} outbox requests failed after {} attempts, discarded", failed.size(), attempt);
+                return true;
+            }
+            long backoff = Math.min(options.maxBackoff(), options.retryBackoff() << Math.min(attempt - 1, 20));
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(backoff));
+            if (closed) {
+                return false;
+            }
+            pending = failed;
+        }
+        return true;
+    }
+
+    /**
+     * 发送单个请求
+     *
+     * @return 是否发送完成，需要重试时返回 false
+     */
+    private boolean send(OutboxEntry entry) {
+        try (Response response = client(entry.key).newCall(entry.request).execute()) {
+            int code = response.code();
+            if (code == 408 || code == 429 || code >= 500) {
+                return false;
+            }
+            if (code >= 400) {
+                log.warn("outbox request is rejected with {}, discarded: {} {}", code, entry.request.method(), entry.request.url());
+            }
+            return true;
+        } catch (IOException e) {
+            log.debug("outbox request failed, retry later: {}", e.toString());
+            return false;
+        }
+    }
+
+    /**
+     * 获取方法对应的 client，重启后根据接口的连接配置与拦截器解析
+     * 接口或方法已经不存在(例如升级后被删除)时返回空
+     */
+    private OkHttpClient client(String key) {
+        return clients.computeIfAbsent(key, it -> {
+            int index = it.indexOf('#');
+            Class<?> type;
+            try {
+                type = Class.forName(it.substring(0, index), false, Outbox.class.getClassLoader());
+            } catch (ClassNotFoundException | LinkageError e) {
+                return Optional.empty();
+            }
+            if (!type.isAnnotationPresent(HttpClient.class)) {
+                return Optional.empty();
+            }
+            for (Method method : type.getMethods()) {
+                if (it.equals(key(type, method))) {
+                    OkHttpClient profileClient = OkClientRegistry.instance().client(HttpClientProfile.of(type));
+                    return Optional.of(InterceptorChains.client(profileClient, type, method));
+                }
+            }
+            return Optional.empty();
+        }).orElse(null);
+    }
+
+    /**
+     * HttpClient 方法的标识：接口类名#方法名(参数类型)，重载的方法标识不同
+     */
+    private static String key(Class<?> type, Method method) {
+        StringJoiner key = new StringJoiner(",", type.getName() + "#" + method.getName() + "(", ")");
+        for (Class<?> parameterType : method.getParameterTypes()) {
+            key.add(parameterType.getTypeName());
+        }
+        return key.toString();
+    }
+}
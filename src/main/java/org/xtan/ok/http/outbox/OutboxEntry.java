@@ -0,0 +1,111 @@
+package org.xtan.ok.http.outbox;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okio.Buffer;
+import okio.Utf8;
+
+import java.io.EOFException;
+import java.io.IOException;
+
+/**
+ * 发件箱中的请求
+ * <p>
+ * 格式：版本、HttpClient 方法的标识、请求方式、地址、请求头、请求内容类型与请求内容，
+ * 字符串与请求内容均以 int 长度作为前缀，请求内容长度为 -1 时表示没有请求体
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+final class OutboxEntry {
+
+    private static final byte VERSION = 1;
+
+    /**
+     * HttpClient 方法的标识，接口类名#方法名(参数类型)
+     */
+    final String key;
+
+    final Request request;
+
+    private OutboxEntry(String key, Request request) {
+        this.key = key;
+        this.request = request;
+    }
+
+    /**
+     * 序列化请求，请求体会被完整读取
+     *
+     * @param key     HttpClient 方法的标识
+     * @param request 请求
+     * @return
+     */
+    static byte[] encode(String key, Request request) throws IOException {
+        Buffer buffer = new Buffer();
+        buffer.writeByte(VERSION);
+        writeString(buffer, key);
+        writeString(buffer, request.method());
+        writeString(buffer, request.url().toString());
+        Headers headers = request.headers();
+        buffer.writeInt(headers.size());
+        for (int i = 0; i < headers.size(); i++) {
+            writeString(buffer, headers.name(i));
+            writeString(buffer, headers.value(i));
+        }
+        RequestBody body = request.body();
+        if (null == body) {
+            writeString(buffer, "");
+            buffer.writeInt(-1);
+            return buffer.readByteArray();
+        }
+        MediaType contentType = body.contentType();
+        writeString(buffer, null != contentType ? contentType.toString() : "");
+        Buffer content = new Buffer();
+        body.writeTo(content);
+        buffer.writeInt((int) content.size());
+        buffer.writeAll(content);
+        return buffer.readByteArray();
+    }
+
+    /**
+     * 反序列化请求
+     *
+     * @param bytes 序列化的请求
+     * @return
+     */
+    static OutboxEntry decode(byte[] bytes) throws IOException {
+        Buffer buffer = new Buffer().write(bytes);
+        byte version = buffer.readByte();
+        if (VERSION != version) {
+            throw new IOException("unsupported outbox entry version: " + version);
+        }
+        String key = readString(buffer);
+        String method = readString(buffer);
+        Request.Builder builder = new Request.Builder().url(readString(buffer));
+        int size = buffer.readInt();
+        Headers.Builder headers = new Headers.Builder();
+        for (int i = 0; i < size; i++) {
+            //写入时已经通过校验或者由调用方显式允许了非 ASCII 的值
+            headers.addUnsafeNonAscii(readString(buffer), readString(buffer));
+        }
+        builder.headers(headers.build());
+        String contentType = readString(buffer);
+        int length = buffer.readInt();
+        RequestBody body = length < 0 ? null
+                : RequestBody.create(buffer.readByteString(length), contentType.isEmpty() ? null : MediaType.parse(contentType));
+        return new OutboxEntry(key, builder.method(method, body).build());
+    }
+
+    private static void writeString(Buffer buffer, String value) {
+        long size = Utf8.size(value);
+        buffer.writeInt((int) size);
+        buffer.writeUtf8(value);
+    }
+
+    private static String readString(Buffer buffer) throws EOFException {
+        return buffer.readUtf8(buffer.readInt());
+    }
+}
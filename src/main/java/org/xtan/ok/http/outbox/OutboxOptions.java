@@ -0,0 +1,176 @@
+package org.xtan.ok.http.outbox;
+
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 持久化发件箱配置
+ * <p>
+ * 配置文件格式：
+ * ok.http.outbox.dir=/data/ok-http-outbox
+ * ok.http.outbox.segment-size=8388608
+ * ok.http.outbox.max-segments=16
+ * 磁盘占用不超过 segment-size * max-segments，写满时丢弃新的请求
+ * 未指定 dir 时使用 ${java.io.tmpdir}/ok-http-outbox/${spring.application.name}
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class OutboxOptions {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PROPERTY_PREFIX = "ok.http.outbox.";
+
+    /**
+     * 存放分段文件的目录，同一时间只能被一个进程使用
+     * 默认为临时目录中以 spring.application.name 命名的目录，没有应用名称时必须指定
+     * 临时目录通常在主机重启后被清空，未发送的请求只能在进程重启后保留，需要在主机重启后保留时必须指定
+     */
+    private String dir;
+
+    /**
+     * 单个分段文件的大小(字节)
+     */
+    private int segmentSize = 8 * 1024 * 1024;
+
+    /**
+     * 最多保留的分段文件数
+     */
+    private int maxSegments = 16;
+
+    /**
+     * 每批发送的请求数
+     */
+    private int batchSize = 100;
+
+    /**
+     * 每批请求的并发数
+     */
+    private int concurrency = 8;
+
+    /**
+     * 单个请求的最大尝试次数，超过后丢弃
+     */
+    private int maxAttempts = 10;
+
+    /**
+     * 首次重试的等待时间(毫秒)，之后每次翻倍
+     */
+    private long retryBackoff = TimeUnit.SECONDS.toMillis(1);
+
+    /**
+     * 重试的最大等待时间(毫秒)
+     */
+    private long maxBackoff = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * 从 spring 配置中读取，不在 spring 容器中时使用默认配置
+     *
+     * @return
+     */
+    public static OutboxOptions load() {
+        OutboxOptions options = new OutboxOptions();
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        if (null == environment) {
+            return options;
+        }
+        String application = environment.getProperty("spring.application.name");
+        if (null != application && !application.trim().isEmpty()) {
+            options.dir = System.getProperty("java.io.tmpdir") + File.separator + "ok-http-outbox" + File.separator + application.trim();
+        }
+        options.dir = property(environment, "dir", String.class, options.dir);
+        options.segmentSize = property(environment, "segment-size", Integer.class, options.segmentSize);
+        options.maxSegments = property(environment, "max-segments", Integer.class, options.maxSegments);
+        options.batchSize = property(environment, "batch-size", Integer.class, options.batchSize);
+        options.concurrency = property(environment, "concurrency", Integer.class, options.concurrency);
+        options.maxAttempts = property(environment, "max-attempts", Integer.class, options.maxAttempts);
+        options.retryBackoff = property(environment, "retry-backoff", Long.class, options.retryBackoff);
+        options.maxBackoff = property(environment, "max-backoff", Long.class, options.maxBackoff);
+        return options;
+    }
+
+    private static <T> T property(EnvironmentComponent environment, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PROPERTY_PREFIX + key, type);
+        return null != value ? value : defaultValue;
+    }
+
+    /**
+     * 存放分段文件的目录，未配置时为空
+     */
+    public String dir() {
+        return dir;
+    }
+
+    public OutboxOptions dir(String dir) {
+        this.dir = dir;
+        return this;
+    }
+
+    public int segmentSize() {
+        return segmentSize;
+    }
+
+    public OutboxOptions segmentSize(int segmentSize) {
+        this.segmentSize = segmentSize;
+        return this;
+    }
+
+    public int maxSegments() {
+        return maxSegments;
+    }
+
+    public OutboxOptions maxSegments(int maxSegments) {
+        this.maxSegments = maxSegments;
+        return this;
+    }
+
+    public int batchSize() {
+        return batchSize;
+    }
+
+    public OutboxOptions batchSize(int batchSize) {
+        this.batchSize = batchSize;
+        return this;
+    }
+
+    public int concurrency() {
+        return concurrency;
+    }
+
+    public OutboxOptions concurrency(int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    public OutboxOptions maxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    public long retryBackoff() {
+        return retryBackoff;
+    }
+
+    public OutboxOptions retryBackoff(long retryBackoff) {
+        this.retryBackoff = retryBackoff;
+        return this;
+    }
+
+    public long maxBackoff() {
+        return maxBackoff;
+    }
+
+    public OutboxOptions maxBackoff(long maxBackoff) {
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+}
@@ -0,0 +1,449 @@
+package org.xtan.ok.http.outbox;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * 发件箱的存储，由固定大小的内存映射分段文件组成，只追加写入
+ * <p>
+ * 每条记录的格式为：int 长度、int crc32、内容，长度最后写入作为提交标记，长度为 0 表示分段的结尾。
+ * 检查点文件记录已经发送完成的位置(分段序号与偏移量)，检查点之前的分段解除映射后被删除。
+ * 检查点由两个带 crc32 的槽位交替写入，写入中途崩溃时只损坏正在写入的槽位，恢复时使用有效槽位中较新的位置。
+ * 目录通过锁文件独占，被其他进程(或同一进程中的其他发件箱)使用时无法打开。
+ * 进程重启后从检查点继续读取，最后一个分段通过 crc 校验找到写入的结尾，发送语义为至少一次。
+ * 写入由调用线程加锁执行，读取与提交只由发送线程执行
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+final class OutboxStore implements Closeable {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private static final String CHECKPOINT = "checkpoint";
+
+    private static final String LOCK = "lock";
+
+    /**
+     * 解除内存映射的方法，不支持时为空，由 GC 回收映射后才释放磁盘空间
+     */
+    private static final Unmapper UNMAPPER = Unmapper.load();
+
+    /**
+     * 记录头：长度与 crc32
+     */
+    private static final int HEADER = 8;
+
+    /**
+     * 检查点槽位：long 分段序号、int 偏移量、int crc32
+     */
+    private static final int CHECKPOINT_SLOT = 16;
+
+    private final File dir;
+
+    private final int segmentSize;
+
+    private final int maxSegments;
+
+    private final Map<Long, MappedByteBuffer> segments = new ConcurrentHashMap<>();
+
+    private final MappedByteBuffer checkpoint;
+
+    private final FileChannel lockChannel;
+
+    private final FileLock lock;
+
+    /**
+     * 写入的分段与偏移量
+     */
+    private long writeSeq;
+
+    private ByteBuffer writeBuffer;
+
+    private int writeOffset;
+
+    /**
+     * 已经提交的写入位置，发送线程只读取该位置之前的记录
+     */
+    private volatile Position written;
+
+    /**
+     * 读取的分段与偏移量，只由发送线程访问
+     */
+    private long readSeq;
+
+    private ByteBuffer readBuffer;
+
+    private int readOffset;
+
+    /**
+     * 检查点所在的分段，之前的分段已经删除
+     */
+    private volatile long ackSeq;
+
+    /**
+     * 下一次写入的检查点槽位
+     */
+    private int checkpointSlot;
+
+    private OutboxStore(File dir, int segmentSize, int maxSegments) throws IOException {
+        this.dir = dir;
+        this.segmentSize = segmentSize;
+        this.maxSegments = maxSegments;
+        this.lockChannel = new RandomAccessFile(new File(dir, LOCK), "rw").getChannel();
+        FileLock lock;
+        try {
+            lock = lockChannel.tryLock();
+        } catch (OverlappingFileLockException e) {
+            lock = null;
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+        if (null == lock) {
+            lockChannel.close();
+            throw new IOException("outbox directory is used by another process, configure a different ok.http.outbox.dir: " + dir);
+        }
+        this.lock = lock;
+        try (RandomAccessFile file = new RandomAccessFile(new File(dir, CHECKPOINT), "rw")) {
+            this.checkpoint = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, 2 * CHECKPOINT_SLOT);
+        } catch (IOException e) {
+            lockChannel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * 打开目录中的发件箱，不存在时创建
+     *
+     * @param options 配置
+     * @return
+     */
+    static OutboxStore open(OutboxOptions options) throws IOException {
+        if (null == options.dir()) {
+            throw new IOException("outbox directory is not configured, set ok.http.outbox.dir or spring.application.name!");
+        }
+        File dir = new File(options.dir());
+        if (!dir.isDirectory() && !dir.mkdirs()) {
+            throw new IOException("can not create outbox directory: " + dir);
+        }
+        OutboxStore store = new OutboxStore(dir, options.segmentSize(), options.maxSegments());
+        try {
+            store.recover();
+        } catch (IOException | RuntimeException e) {
+            store.close();
+            throw e;
+        }
+        return store;
+    }
+
+    /**
+     * 目录中是否存在未发送完成的分段
+     *
+     * @param options 配置
+     * @return
+     */
+    static boolean exists(OutboxOptions options) {
+        if (null == options.dir()) {
+            return false;
+        }
+        File[] files = new File(options.dir()).listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        return null != files && files.length > 0;
+    }
+
+    /**
+     * 追加一条记录
+     *
+     * @param payload 内容
+     * @return 超过单个分段的大小或者磁盘占用达到上限时返回 false
+     */
+    synchronized boolean append(byte[] payload) throws IOException {
+        int size = HEADER + payload.length;
+        if (size > segmentSize) {
+            return false;
+        }
+        if (writeOffset + size > segmentSize) {
+            //新的分段超过上限
+            if (writeSeq + 1 - ackSeq >= maxSegments) {
+                return false;
+            }
+            writeSeq++;
+            writeBuffer = segment(writeSeq).duplicate();
+            writeOffset = 0;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        writeBuffer.position(writeOffset + HEADER);
+        writeBuffer.put(payload);
+        writeBuffer.putInt(writeOffset + 4, (int) crc.getValue());
+        writeBuffer.putInt(writeOffset, payload.length);
+        writeOffset += size;
+        written = new Position(writeSeq, writeOffset);
+        return true;
+    }
+
+    /**
+     * 从上次读取的位置继续读取
+     *
+     * @param max 最多读取的记录数
+     * @return
+     */
+    List<Record> read(int max) throws IOException {
+        List<Record> records = new ArrayList<>();
+        Position limit = written;
+        while (records.size() < max) {
+            if (readSeq == limit.seq && readOffset >= limit.offset) {
+                break;
+            }
+            byte[] payload = readOffset + HEADER <= segmentSize ? payload(readBuffer, readOffset) : null;
+            if (null == payload) {
+                //分段的结尾，写入已经进入下一个分段时继续读取
+                if (readSeq >= limit.seq) {
+                    break;
+                }
+                readSeq++;
+                readBuffer = segment(readSeq).duplicate();
+                readOffset = 0;
+                continue;
+            }
+            readOffset += HEADER + payload.length;
+            records.add(new Record(payload, readSeq, readOffset));
+        }
+        return records;
+    }
+
+    /**
+     * 提交已经发送完成的位置，并删除之前的分段
+     * 检查点写入完成后才删除分段，另一个槽位中较旧的检查点指向的分段仍然存在
+     * 之前的分段已经不会再被读写，解除映射后删除文件才能立即释放磁盘空间
+     *
+     * @param record 最后一条发送完成的记录
+     */
+    synchronized void commit(Record record) {
+        int base = checkpointSlot * CHECKPOINT_SLOT;
+        checkpoint.putLong(base, record.seq);
+        checkpoint.putInt(base + 8, record.offset);
+        checkpoint.putInt(base + 12, checkpointCrc(record.seq, record.offset));
+        checkpointSlot ^= 1;
+        for (long seq = ackSeq; seq < record.seq; seq++) {
+            MappedByteBuffer buffer = segments.remove(seq);
+            if (null != buffer && null != UNMAPPER) {
+                UNMAPPER.unmap(buffer);
+            }
+            File file = file(seq);
+            if (file.exists() && !file.delete()) {
+                file.deleteOnExit();
+            }
+        }
+        ackSeq = record.seq;
+    }
+
+    @Override
+    public synchronized void close() {
+        segments.values().forEach(MappedByteBuffer::force);
+        checkpoint.force();
+        segments.clear();
+        try {
+            lock.release();
+            lockChannel.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * 恢复读写位置：读取从检查点开始，写入从最后一个分段的结尾开始
+     */
+    private void recover() throws IOException {
+        long[] seqs = segmentSeqs();
+        long first = seqs.length > 0 ? seqs[0] : 0;
+        long last = seqs.length > 0 ? seqs[seqs.length - 1] : 0;
+        //使用有效槽位中较新的检查点，都无效(例如首次启动)时从第一个分段开始
+        long checkpointSeq = first;
+        int checkpointOffset = 0;
+        boolean found = false;
+        for (int slot = 0; slot < 2; slot++) {
+            int base = slot * CHECKPOINT_SLOT;
+            long seq = checkpoint.getLong(base);
+            int offset = checkpoint.getInt(base + 8);
+            if (checkpoint.getInt(base + 12) != checkpointCrc(seq, offset)
+                    || seq < first || seq > last || offset < 0 || offset > segmentSize) {
+                continue;
+            }
+            if (!found || seq > checkpointSeq || (seq == checkpointSeq && offset > checkpointOffset)) {
+                checkpointSeq = seq;
+                checkpointOffset = offset;
+                //下一次写入另一个槽位，保留当前的检查点
+                checkpointSlot = slot ^ 1;
+                found = true;
+            }
+        }
+        //写入位置
+        writeSeq = last;
+        writeBuffer = segment(last).duplicate();
+        writeOffset = 0;
+        byte[] payload;
+        while (writeOffset + HEADER <= segmentSize && null != (payload = payload(writeBuffer, writeOffset))) {
+            writeOffset += HEADER + payload.length;
+        }
+        written = new Position(writeSeq, writeOffset);
+        //读取位置
+        readSeq = checkpointSeq;
+        readBuffer = segment(readSeq).duplicate();
+        readOffset = checkpointOffset;
+        ackSeq = checkpointSeq;
+    }
+
+    /**
+     * 读取指定位置的记录内容，没有记录或者校验失败时返回 null
+     */
+    private byte[] payload(ByteBuffer buffer, int offset) {
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + HEADER + length > segmentSize) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        buffer.position(offset + HEADER);
+        buffer.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, length);
+        return (int) crc.getValue() == buffer.getInt(offset + 4) ? payload : null;
+    }
+
+    private static int checkpointCrc(long seq, int offset) {
+        CRC32 crc = new CRC32();
+        crc.update(ByteBuffer.allocate(12).putLong(seq).putInt(offset).array(), 0, 12);
+        return (int) crc.getValue();
+    }
+
+    private MappedByteBuffer segment(long seq) throws IOException {
+        MappedByteBuffer buffer = segments.get(seq);
+        if (null != buffer) {
+            return buffer;
+        }
+        try (RandomAccessFile file = new RandomAccessFile(file(seq), "rw")) {
+            buffer = file.getChannel().map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+        MappedByteBuffer existing = segments.putIfAbsent(seq, buffer);
+        return null != existing ? existing : buffer;
+    }
+
+    private long[] segmentSeqs() {
+        File[] files = dir.listFiles((dir, name) -> name.endsWith(SEGMENT_SUFFIX));
+        if (null == files) {
+            return new long[0];
+        }
+        long[] seqs = new long[files.length];
+        for (int i = 0; i < files.length; i++) {
+            String name = files[i].getName();
+            seqs[i] = Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+        }
+        Arrays.sort(seqs);
+        return seqs;
+    }
+
+    private File file(long seq) {
+        return new File(dir, String.format("%020d%s", seq, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * 解除内存映射，Java 9+ 通过 Unsafe#invokeCleaner，Java 8 通过 DirectBuffer#cleaner
+     */
+    private static final class Unmapper {
+
+        private final Object unsafe;
+
+        /**
+         * Java 9+ 的 Unsafe#invokeCleaner，为空时使用 Java 8 的 cleaner
+         */
+        private final Method invokeCleaner;
+
+        private final Method cleaner;
+
+        private final Method clean;
+
+        private Unmapper(Object unsafe, Method invokeCleaner, Method cleaner, Method clean) {
+            this.unsafe = unsafe;
+            this.invokeCleaner = invokeCleaner;
+            this.cleaner = cleaner;
+            this.clean = clean;
+        }
+
+        static Unmapper load() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Method invokeCleaner = unsafeClass.getMethod("invokeCleaner", ByteBuffer.class);
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                return new Unmapper(field.get(null), invokeCleaner, null, null);
+            } catch (Exception ignored) {
+            }
+            try {
+                Method cleaner = Class.forName("sun.nio.ch.DirectBuffer").getMethod("cleaner");
+                Method clean = Class.forName("sun.misc.Cleaner").getMethod("clean");
+                return new Unmapper(null, null, cleaner, clean);
+            } catch (Exception e) {
+                return null;
+            }
+        }
+
+        void unmap(MappedByteBuffer buffer) {
+            try {
+                if (null != invokeCleaner) {
+                    invokeCleaner.invoke(unsafe, buffer);
+                } else {
+                    clean.invoke(cleaner.invoke(buffer));
+                }
+            } catch (Exception ignored) {
+            }
+        }
+    }
+
+    /**
+     * 写入位置
+     */
+    private static final class Position {
+
+        private final long seq;
+
+        private final int offset;
+
+        private Position(long seq, int offset) {
+            this.seq = seq;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * 读取的记录，位置为记录结尾，提交后从该位置继续读取
+     */
+    static final class Record {
+
+        final byte[] payload;
+
+        final long seq;
+
+        final int offset;
+
+        private Record(byte[] payload, long seq, int offset) {
+            this.payload = payload;
+            this.seq = seq;
+            this.offset = offset;
+        }
+    }
+}
@@ -0,0 +1,648 @@
+package org.xtan.ok.http.processor;
+
+import org.xtan.ok.http.annotation.Async;
+import org.xtan.ok.http.annotation.Headers;
+import org.xtan.ok.http.annotation.Interceptors;
+import org.xtan.ok.http.annotation.HttpClient;
+import org.xtan.ok.http.annotation.method.Delete;
+import org.xtan.ok.http.annotation.method.Get;
+import org.xtan.ok.http.annotation.method.Mapping;
+import org.xtan.ok.http.annotation.method.Patch;
+import org.xtan.ok.http.annotation.method.Post;
+import org.xtan.ok.http.annotation.method.Put;
+import org.xtan.ok.http.annotation.paramer.FileBody;
+import org.xtan.ok.http.annotation.paramer.JSONBody;
+import org.xtan.ok.http.annotation.paramer.Param;
+import org.xtan.ok.http.annotation.paramer.PathParam;
+import org.xtan.ok.http.config.HttpClientsIndex;
+import org.xtan.ok.http.constants.HttpPrefix;
+import org.xtan.ok.http.model.HttpMethod;
+import org.xtan.ok.http.proxy.GeneratedHttpClient;
+import org.xtan.ok.http.reactive.ReactiveCalls;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * HttpClient 接口的编译期处理器
+ * <p>
+ * 在编译期检查映射与参数注解，不合法的映射直接报告为编译错误；
+ * 合法的接口生成实现类 {@code <接口名>_HttpClientImpl}，参数绑定与返回值解码在编译期确定，
+ * 启动时 {@link org.xtan.ok.http.config.HttpClientsRegistrar} 优先使用生成的实现类，不存在时使用运行时代理。
+ * 所有的 HttpClient 接口写入索引 {@link HttpClientsIndex}，启动时不再扫描 classpath。
+ * 使用自定义的组合映射注解、泛型接口或泛型方法的接口不生成实现类
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@SupportedAnnotationTypes("org.xtan.ok.http.annotation.HttpClient")
+public class HttpClientProcessor extends AbstractProcessor {
+
+    private static final String HTTP_HEADERS = "org.xtan.ok.http.model.HttpHeaders";
+
+    /**
+     * 所有轮次中的 HttpClient，接口类名 -> bean 名称
+     */
+    private final Map<String, String> index = new TreeMap<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            writeIndex();
+            return false;
+        }
+        for (Element element : roundEnv.getElementsAnnotatedWith(HttpClient.class)) {
+            if (ElementKind.INTERFACE != element.getKind()) {
+                error(element, "@HttpClient can only be specified on an interface");
+                continue;
+            }
+            TypeElement type = (TypeElement) element;
+            index.put(processingEnv.getElementUtils().getBinaryName(type).toString(), type.getAnnotation(HttpClient.class).name());
+            ClientModel model = analyze(type);
+            if (null == model) {
+                continue;
+            }
+            try {
+                write(model);
+            } catch (IOException e) {
+                error(type, "failed to generate implementation: " + e.getMessage());
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 检查接口的所有映射，存在错误或者不支持生成时返回 null
+     */
+    private ClientModel analyze(TypeElement type) {
+        ClientModel model = new ClientModel();
+        model.type = type;
+        model.host = type.getAnnotation(HttpClient.class).value();
+        model.headers = headers(type, type.getAnnotation(Headers.class));
+        String unsupported = unsupported(type);
+        boolean isValid = true;
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (ElementKind.METHOD != member.getKind()
+                    || member.getModifiers().contains(Modifier.STATIC)
+                    || ((TypeElement) member.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName())) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            MethodModel methodModel = analyze(model, method);
+            if (null == methodModel) {
+                isValid = false;
+                continue;
+            }
+            if (null == unsupported && methodModel.isUnsupported) {
+                unsupported = String.format("%s uses a composed mapping annotation", method.getSimpleName());
+            }
+            if (null == unsupported && !method.getTypeParameters().isEmpty()) {
+                unsupported = String.format("%s is a generic method", method.getSimpleName());
+            }
+            if (null == unsupported && null != method.getAnnotation(Interceptors.class)) {
+                unsupported = String.format("%s declares method interceptors", method.getSimpleName());
+            }
+            if (null == unsupported && null != method.getAnnotation(Async.class)) {
+                unsupported = String.format("%s is an @Async method", method.getSimpleName());
+            }
+            model.methods.add(methodModel);
+        }
+        if (!isValid) {
+            return null;
+        }
+        if (null != unsupported) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    String.format("%s uses the runtime proxy: %s", type.getQualifiedName(), unsupported), type);
+            return null;
+        }
+        return model;
+    }
+
+    /**
+     * 接口是否不支持生成实现类
+     */
+    private String unsupported(TypeElement type) {
+        if (!type.getTypeParameters().isEmpty()) {
+            return "generic interface";
+        }
+        for (Element it = type; it instanceof TypeElement; it = it.getEnclosingElement()) {
+            if (it.getModifiers().contains(Modifier.PRIVATE)) {
+                return "private interface";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 检查方法的映射与参数，与运行时代理的规则保持一致
+     */
+    private MethodModel analyze(ClientModel client, ExecutableElement method) {
+        MethodModel model = new MethodModel();
+        model.element = method;
+        if (!mapping(method, model)) {
+            if (!model.isUnsupported) {
+                error(method, "no mapping annotation exists!");
+                return null;
+            }
+            return model;
+        }
+        boolean isValid = true;
+        if (isBlank(model.value)) {
+            error(method, "the request url is undefined!");
+            isValid = false;
+        } else if (isBlank(client.host) && !isPlaceholder(model.value) && !isCompleteUrl(model.value)) {
+            error(method, "if the host of httpclient is empty, the URL should be a complete request address!");
+            isValid = false;
+        }
+        model.headers = headers(method, method.getAnnotation(Headers.class));
+        //参数
+        boolean isBodyBound = false;
+        for (VariableElement parameter : method.getParameters()) {
+            String name = parameter.getSimpleName().toString();
+            TypeMirror parameterType = parameter.asType();
+            if (null != parameter.getAnnotation(Headers.class)) {
+                if (!HTTP_HEADERS.equals(erasure(parameterType))) {
+                    error(parameter, String.format("the annotation identified by Headers must be class %s type!", HTTP_HEADERS));
+                    isValid = false;
+                }
+                model.headerArgs.add(name);
+                continue;
+            }
+            PathParam pathParam = parameter.getAnnotation(PathParam.class);
+            if (null != pathParam) {
+                model.pathParams.add(pathParam.value());
+                model.pathArgs.add(name);
+                continue;
+            }
+            if (isBodyBound) {
+                continue;
+            }
+            if (null != parameter.getAnnotation(JSONBody.class)) {
+                model.bindings.add(String.format("$builder.isJson(%s);", name));
+                isBodyBound = true;
+                continue;
+            }
+            if (null != parameter.getAnnotation(FileBody.class)) {
+                if (!isFile(parameterType)) {
+                    error(parameter, "the parameter of @FileBody must be File or InputStream or byte[]");
+                    isValid = false;
+                }
+                model.bindings.add(String.format("if (null == %s) throw fileBodyRequired(%s);", name, literal(method.getSimpleName().toString())));
+                model.bindings.add(String.format("$builder.body(%s);", name));
+                isBodyBound = true;
+                continue;
+            }
+            Param param = parameter.getAnnotation(Param.class);
+            if (null == param) {
+                error(parameter, "parameter must have @Param annotation to declare field name!");
+                isValid = false;
+                continue;
+            }
+            model.bindings.add(binding(param.value(), name, parameterType));
+        }
+        //地址中的动态参数必须有对应的 @PathParam
+        if (!isBlank(model.value) && !isPlaceholder(model.value)) {
+            for (String segment : model.value.split("/")) {
+                if (segment.contains("{") && segment.lastIndexOf("}") > -1) {
+                    String pathParam = segment.substring(1, segment.length() - 1);
+                    if (!model.pathParams.contains(pathParam)) {
+                        error(method, String.format("path param [%s] is undefined!", pathParam));
+                        isValid = false;
+                    }
+                }
+            }
+        }
+        return isValid ? model : null;
+    }
+
+    /**
+     * 读取方法的映射注解
+     *
+     * @return 是否存在映射注解
+     */
+    private boolean mapping(ExecutableElement method, MethodModel model) {
+        Get get = method.getAnnotation(Get.class);
+        if (null != get) return model.mapping(HttpMethod.GET, get.value(), get.contentType());
+        Post post = method.getAnnotation(Post.class);
+        if (null != post) return model.mapping(HttpMethod.POST, post.value(), post.contentType());
+        Put put = method.getAnnotation(Put.class);
+        if (null != put) return model.mapping(HttpMethod.PUT, put.value(), put.contentType());
+        Patch patch = method.getAnnotation(Patch.class);
+        if (null != patch) return model.mapping(HttpMethod.PATCH, patch.value(), patch.contentType());
+        Delete delete = method.getAnnotation(Delete.class);
+        if (null != delete) return model.mapping(HttpMethod.DELETE, delete.value(), delete.contentType());
+        Mapping mapping = method.getAnnotation(Mapping.class);
+        if (null != mapping) return model.mapping(mapping.method(), mapping.value(), mapping.contentType());
+        //自定义的组合注解，由运行时代理通过 spring 合并注解属性
+        for (AnnotationMirror it : method.getAnnotationMirrors()) {
+            if (null != it.getAnnotationType().asElement().getAnnotation(Mapping.class)) {
+                model.isUnsupported = true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 请求参数的绑定代码，与运行时代理的绑定规则一致
+     */
+    private String binding(String key, String name, TypeMirror type) {
+        String erasure = erasure(type);
+        String literal = literal(key);
+        switch (erasure) {
+            case "int":
+            case "boolean":
+            case "double":
+            case "float":
+            case "char":
+                return String.format("$builder.params(%s, %s);", literal, name);
+            case "java.lang.String":
+            case "java.lang.Integer":
+            case "java.lang.Boolean":
+            case "java.lang.Double":
+            case "java.lang.Float":
+            case "java.lang.Character":
+            case "byte[]":
+                return String.format("if (null != %s) $builder.params(%s, %s);", name, literal, name);
+            default:
+                break;
+        }
+        if (isAssignable(type, "java.io.File") || isAssignable(type, "java.io.InputStream")) {
+            return String.format("if (null != %s) $builder.params(%s, %s);", name, literal, name);
+        }
+        if (isAssignable(type, "java.util.Collection")) {
+            return String.format("if (null != %s) $builder.params(%s, (java.util.Collection<? extends java.io.Serializable>) (java.util.Collection<?>) %s);", name, literal, name);
+        }
+        return String.format("org.xtan.ok.http.handler.MappingParamsPaddingHandler.putParams($builder, %s, %s);", literal, name);
+    }
+
+    private boolean isFile(TypeMirror type) {
+        return "byte[]".equals(erasure(type)) || isAssignable(type, "java.io.File") || isAssignable(type, "java.io.InputStream");
+    }
+
+    private boolean isAssignable(TypeMirror type, String className) {
+        TypeElement element = processingEnv.getElementUtils().getTypeElement(className);
+        return null != element && TypeKind.DECLARED == type.getKind()
+                && processingEnv.getTypeUtils().isAssignable(processingEnv.getTypeUtils().erasure(type),
+                processingEnv.getTypeUtils().erasure(element.asType()));
+    }
+
+    /**
+     * 异步与响应式方法返回值的泛型参数，不是异步或响应式方法时返回 null，未声明或为通配符时为 Object
+     */
+    private TypeMirror futureType(TypeMirror returnType) {
+        String erasure = erasure(returnType);
+        if (!"java.util.concurrent.CompletableFuture".equals(erasure) && !"java.util.concurrent.CompletionStage".equals(erasure)
+                && !"java.util.concurrent.Future".equals(erasure)
+                && !ReactiveCalls.MONO.equals(erasure) && !ReactiveCalls.FLUX.equals(erasure)) {
+            return null;
+        }
+        List<? extends TypeMirror> arguments = ((DeclaredType) returnType).getTypeArguments();
+        TypeMirror type = arguments.isEmpty() ? null : arguments.get(0);
+        if (null != type && TypeKind.WILDCARD == type.getKind()) {
+            type = ((WildcardType) type).getExtendsBound();
+        }
+        return null != type ? type : processingEnv.getElementUtils().getTypeElement(Object.class.getName()).asType();
+    }
+
+    private static boolean isParameterized(TypeMirror type) {
+        return null != type && TypeKind.DECLARED == type.getKind() && !((DeclaredType) type).getTypeArguments().isEmpty();
+    }
+
+    private String erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type).toString();
+    }
+
+    /**
+     * 解析静态请求头，与运行时的解析规则一致，格式不正确的请求头给出警告
+     */
+    private List<String[]> headers(Element element, Headers annotation) {
+        List<String[]> headers = new ArrayList<>();
+        if (null == annotation) {
+            return headers;
+        }
+        for (String it : annotation.value()) {
+            if (isBlank(it)) continue;
+            String[] header = it.split(":");
+            if (2 != header.length) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        String.format("header [%s] is ignored, the format must be key:value", it), element);
+                continue;
+            }
+            headers.add(header);
+        }
+        return headers;
+    }
+
+    private void write(ClientModel model) throws IOException {
+        TypeElement type = model.type;
+        PackageElement packageElement = processingEnv.getElementUtils().getPackageOf(type);
+        String packageName = packageElement.isUnnamed() ? "" : packageElement.getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = binaryName.substring(packageName.isEmpty() ? 0 : packageName.length() + 1).replace('$', '_') + GeneratedHttpClient.IMPLEMENTATION_SUFFIX;
+        String interfaceName = type.getQualifiedName().toString();
+        StringBuilder sb = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            sb.append("package ").append(packageName).append(";\n\n");
+        }
+        sb.append("/**\n * ").append(interfaceName).append(" 的实现类，由 ").append(HttpClientProcessor.class.getName()).append(" 生成\n */\n");
+        sb.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        sb.append("public final class ").append(simpleName)
+                .append(" extends org.xtan.ok.http.proxy.GeneratedHttpClient implements ").append(interfaceName).append(" {\n\n");
+        sb.append("    private static final String HOST = ").append(literal(model.host)).append(";\n\n");
+        for (int i = 0; i < model.methods.size(); i++) {
+            List<String[]> headers = new ArrayList<>(model.headers);
+            headers.addAll(model.methods.get(i).headers);
+            sb.append("    private static final org.xtan.ok.http.model.HttpHeaders HEADERS_").append(i)
+                    .append(" = org.xtan.ok.http.model.HttpHeaders.builder()");
+            for (String[] header : headers) {
+                sb.append(".add(").append(literal(header[0])).append(", ").append(literal(header[1])).append(")");
+            }
+            sb.append(";\n\n");
+        }
+        //异步与响应式方法泛型返回值的类型
+        for (int i = 0; i < model.methods.size(); i++) {
+            TypeMirror futureType = futureType(model.methods.get(i).element.getReturnType());
+            if (isParameterized(futureType)) {
+                sb.append("    private static final java.lang.reflect.Type TYPE_").append(i)
+                        .append(" = new com.alibaba.fastjson.TypeReference<").append(futureType).append(">() {\n    }.getType();\n\n");
+            }
+        }
+        for (int i = 0; i < model.methods.size(); i++) {
+            sb.append("    private final org.xtan.ok.http.proxy.RequestTemplate template").append(i).append(";\n\n");
+        }
+        //构造方法
+        sb.append("    public ").append(simpleName).append("() {\n");
+        sb.append("        super(").append(interfaceName).append(".class);\n");
+        for (int i = 0; i < model.methods.size(); i++) {
+            MethodModel method = model.methods.get(i);
+            sb.append("        this.template").append(i).append(" = template(")
+                    .append(literal(method.element.getSimpleName().toString())).append(", ")
+                    .append("org.xtan.ok.http.model.HttpMethod.").append(method.method.name()).append(", HOST, ")
+                    .append(literal(method.value)).append(", ")
+                    .append(literal(method.contentType)).append(", HEADERS_").append(i);
+            for (String pathParam : method.pathParams) {
+                sb.append(", ").append(literal(pathParam));
+            }
+            sb.append(");\n");
+        }
+        sb.append("        registered();\n    }\n");
+        //接口方法
+        for (int i = 0; i < model.methods.size(); i++) {
+            method(sb, model.methods.get(i), i);
+        }
+        sb.append("}\n");
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(qualifiedName, type);
+        try (Writer writer = file.openWriter()) {
+            writer.write(sb.toString());
+        }
+    }
+
+    private void method(StringBuilder sb, MethodModel model, int index) {
+        ExecutableElement method = model.element;
+        List<? extends VariableElement> parameters = method.getParameters();
+        sb.append("\n    @Override\n    public ").append(method.getReturnType()).append(' ').append(method.getSimpleName()).append('(');
+        for (int i = 0; i < parameters.size(); i++) {
+            VariableElement parameter = parameters.get(i);
+            if (i > 0) sb.append(", ");
+            String parameterType = parameter.asType().toString();
+            if (method.isVarArgs() && i == parameters.size() - 1) {
+                parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+            }
+            sb.append(parameterType).append(' ').append(parameter.getSimpleName());
+        }
+        sb.append(')');
+        if (!method.getThrownTypes().isEmpty()) {
+            sb.append(" throws ").append(method.getThrownTypes().stream().map(TypeMirror::toString).collect(Collectors.joining(", ")));
+        }
+        sb.append(" {\n");
+        sb.append("        org.xtan.ok.http.OkBuilder $builder = template").append(index).append(".newBuilder(");
+        if (!model.pathArgs.isEmpty()) {
+            sb.append("new Object[]{").append(String.join(", ", model.pathArgs)).append('}');
+        }
+        sb.append(");\n");
+        for (String header : model.headerArgs) {
+            sb.append("        $builder.headers(").append(header).append(");\n");
+        }
+        for (String binding : model.bindings) {
+            sb.append("        ").append(binding).append('\n');
+        }
+        TypeMirror returnType = method.getReturnType();
+        TypeMirror futureType = futureType(returnType);
+        if (null != futureType && ReactiveCalls.FLUX.equals(erasure(returnType))) {
+            //按照下游的请求数量逐个解码元素
+            String elementType = isParameterized(futureType) ? "TYPE_" + index : erasure(futureType) + ".class";
+            sb.append("        return org.xtan.ok.http.reactive.ReactiveCalls.flux($builder.prepare(), ").append(elementType).append(");\n");
+        } else if (null != futureType) {
+            //异步与响应式方法在异步线程池中解码泛型参数
+            String decoder = "java.lang.Void".equals(erasure(futureType)) ? "it -> null"
+                    : "java.lang.String".equals(erasure(futureType)) ? "it -> it"
+                    : isParameterized(futureType) ? "it -> decode(it, TYPE_" + index + ")"
+                    : "it -> decode(it, " + erasure(futureType) + ".class)";
+            if (ReactiveCalls.MONO.equals(erasure(returnType))) {
+                sb.append("        return org.xtan.ok.http.reactive.ReactiveCalls.mono($builder.prepare(), ").append(decoder)
+                        .append(", org.xtan.ok.http.async.AsyncExecutors.executor());\n");
+            } else {
+                sb.append("        return $builder.executeAsync(").append(decoder)
+                        .append(", org.xtan.ok.http.async.AsyncExecutors.executor());\n");
+            }
+        } else if (TypeKind.VOID == returnType.getKind()) {
+            sb.append("        $builder.execute();\n");
+        } else if ("java.lang.String".equals(erasure(returnType))) {
+            sb.append("        return $builder.execute();\n");
+        } else {
+            sb.append("        return decode($builder.execute(), ").append(erasure(returnType)).append(".class);\n");
+        }
+        sb.append("    }\n");
+    }
+
+    /**
+     * 写入索引文件，增量编译时保留之前编译的且仍然存在的接口
+     */
+    private void writeIndex() {
+        if (index.isEmpty()) {
+            return;
+        }
+        Properties properties = new Properties();
+        try {
+            FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", HttpClientsIndex.LOCATION);
+            try (InputStream in = existing.openInputStream()) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            //首次编译不存在索引文件
+        }
+        for (String className : properties.stringPropertyNames()) {
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(className.replace('$', '.'));
+            if (!index.containsKey(className) && null != type && null != type.getAnnotation(HttpClient.class)) {
+                index.put(className, properties.getProperty(className));
+            }
+        }
+        Properties merged = new Properties();
+        merged.putAll(index);
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", HttpClientsIndex.LOCATION);
+            //去掉时间戳注释，保证相同的输入生成相同的索引
+            StringWriter content = new StringWriter();
+            merged.store(content, null);
+            try (Writer writer = file.openWriter()) {
+                for (String line : content.toString().split("\\R")) {
+                    if (!line.startsWith("#")) writer.write(line + "\n");
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "failed to write " + HttpClientsIndex.LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    private static boolean isBlank(String value) {
+        return null == value || value.trim().isEmpty();
+    }
+
+    private static boolean isPlaceholder(String value) {
+        return value.startsWith("${") && value.endsWith("}");
+    }
+
+    /**
+     * 是否是完整的请求地址，与运行时的地址解析规则一致
+     */
+    private static boolean isCompleteUrl(String value) {
+        if (null != HttpPrefix.Prefix.getByUrl(value)) {
+            return true;
+        }
+        return Arrays.stream(value.split("/"))
+                .filter(it -> !isBlank(it))
+                .findFirst()
+                .map(it -> it.contains(".") || it.contains(":"))
+                .orElse(false);
+    }
+
+    /**
+     * 转换为 java 字符串字面量
+     */
+    private static String literal(String value) {
+        StringBuilder sb = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.append('"').toString();
+    }
+
+    /**
+     * 接口的映射信息
+     */
+    private static class ClientModel {
+
+        private TypeElement type;
+
+        private String host;
+
+        private List<String[]> headers;
+
+        private final List<MethodModel> methods = new ArrayList<>();
+    }
+
+    /**
+     * 方法的映射信息
+     */
+    private static class MethodModel {
+
+        private ExecutableElement element;
+
+        private HttpMethod method;
+
+        private String value;
+
+        private String contentType;
+
+        private List<String[]> headers = new ArrayList<>();
+
+        /**
+         * 使用了自定义的组合映射注解
+         */
+        private boolean isUnsupported;
+
+        /**
+         * {@link PathParam} 的名称
+         */
+        private final List<String> pathParams = new ArrayList<>();
+
+        /**
+         * {@link PathParam} 对应的参数名，与 pathParams 的顺序一致
+         */
+        private final List<String> pathArgs = new ArrayList<>();
+
+        private final List<String> headerArgs = new ArrayList<>();
+
+        private final List<String> bindings = new ArrayList<>();
+
+        private boolean mapping(HttpMethod method, String value, String contentType) {
+            this.method = method;
+            this.value = value;
+            this.contentType = contentType;
+            return true;
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package org.xtan.ok.http.proxy;
+
+import com.alibaba.fastjson.JSON;
+import okhttp3.OkHttpClient;
+import org.xtan.ok.http.client.HttpClientProfile;
+import org.xtan.ok.http.client.OkClientRegistry;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.interceptor.InterceptorChains;
+import org.xtan.ok.http.model.HttpHeaders;
+import org.xtan.ok.http.model.HttpMapping;
+import org.xtan.ok.http.model.HttpMethod;
+import org.xtan.ok.http.utils.FastJSONParserConfig;
+import org.xtan.ok.http.warmup.HttpClientWarmUp;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 编译期生成的 HttpClient 实现类的父类
+ * <p>
+ * 实现类由 {@link org.xtan.ok.http.processor.HttpClientProcessor} 生成，映射信息与参数绑定在编译期确定，
+ * 启动时不扫描方法注解，只根据配置解析请求地址
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public abstract class GeneratedHttpClient {
+
+    /**
+     * 生成类名的后缀
+     */
+    public static final String IMPLEMENTATION_SUFFIX = "_HttpClientImpl";
+
+    private final Class<?> type;
+
+    private final OkHttpClient client;
+
+    private final List<RequestTemplate> templates = new ArrayList<>();
+
+    private final HttpClientStartupReport.Registration registration;
+
+    protected GeneratedHttpClient(Class<?> type) {
+        this.type = type;
+        this.registration = HttpClientStartupReport.register(type, "generated");
+        this.client = OkClientRegistry.instance().client(HttpClientProfile.of(type));
+    }
+
+    /**
+     * 获取接口实现类的类名
+     * 与接口在同一个包中，嵌套接口的类名使用 _ 连接，例如 a.b.Outer$Api -> a.b.Outer_Api_HttpClientImpl
+     *
+     * @param interfaceName 接口的类名
+     * @return
+     */
+    public static String implementationName(String interfaceName) {
+        int index = interfaceName.lastIndexOf('.');
+        String packageName = index < 0 ? "" : interfaceName.substring(0, index + 1);
+        return packageName + interfaceName.substring(index + 1).replace('$', '_') + IMPLEMENTATION_SUFFIX;
+    }
+
+    /**
+     * 构建方法的请求模板
+     *
+     * @param methodName  方法名
+     * @param method      请求方式
+     * @param host        HttpClient 声明的 host
+     * @param value       请求映射地址
+     * @param contentType 请求体类型
+     * @param headers     类与方法上的静态请求头
+     * @param pathParams  {@link org.xtan.ok.http.annotation.paramer.PathParam} 的名称，顺序与调用时传入的参数一致
+     * @return
+     */
+    protected final RequestTemplate template(String methodName, HttpMethod method, String host, String value,
+                                             String contentType, HttpHeaders headers, String... pathParams) {
+        long startAt = System.nanoTime();
+        HttpMapping mapping = HttpMapping.builder(host, headers, method, value, contentType, type, methodName);
+        //方法上声明了拦截器的接口不会生成实现类，这里只需要解析 bean 与接口上的拦截器
+        OkHttpClient methodClient = InterceptorChains.client(client, type, methodName, null);
+        RequestTemplate template = new RequestTemplate(mapping, methodClient, type, methodName, name -> {
+            for (int i = 0; i < pathParams.length; i++) {
+                if (pathParams[i].equals(name)) return i;
+            }
+            return -1;
+        });
+        templates.add(template);
+        registration.compiled(System.nanoTime() - startAt);
+        return template;
+    }
+
+    /**
+     * 所有请求模板构建完成，预先解析 host 并注册预热
+     */
+    protected final void registered() {
+        List<HttpMapping> mappings = mappings();
+        HttpClientProxyHandler.preResolve(client, mappings);
+        HttpClientWarmUp.register(type, client, mappings);
+        registration.registered(templates.size());
+    }
+
+    /**
+     * 返回值反序列化
+     *
+     * @param result     响应内容
+     * @param returnType 方法返回类型
+     * @return
+     */
+    protected static <R> R decode(String result, Class<R> returnType) {
+        return JSON.parseObject(result, returnType, FastJSONParserConfig.config());
+    }
+
+    /**
+     * 泛型返回值反序列化
+     *
+     * @param result     响应内容
+     * @param returnType 方法返回类型
+     * @return
+     */
+    protected static <R> R decode(String result, Type returnType) {
+        return JSON.parseObject(result, returnType, FastJSONParserConfig.config());
+    }
+
+    /**
+     * 文件流请求的参数为空
+     *
+     * @param methodName 方法名
+     * @return
+     */
+    protected final HttpClientException fileBodyRequired(String methodName) {
+        return new HttpClientException(
+                "does not conform to the onlyFile setting, there must be only one parameter! And the parameter must be Param or InputStream or byte[]",
+                type, methodName);
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public OkHttpClient client() {
+        return client;
+    }
+
+    /**
+     * 所有方法的映射
+     *
+     * @return
+     */
+    public List<HttpMapping> mappings() {
+        return templates.stream().map(RequestTemplate::mapping).collect(Collectors.toList());
+    }
+
+    @Override
+    public String toString() {
+        return type.getName() + "@generated";
+    }
+}
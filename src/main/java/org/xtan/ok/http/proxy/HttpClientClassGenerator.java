@@ -0,0 +1,302 @@
+package org.xtan.ok.http.proxy;
+
+import org.springframework.asm.ClassWriter;
+import org.springframework.asm.MethodVisitor;
+import org.springframework.asm.Opcodes;
+import org.springframework.asm.Type;
+import org.xtan.ok.http.OkBuilder;
+import org.xtan.ok.http.exception.HttpClientException;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 为 HttpClient 接口生成实现类
+ * <p>
+ * 生成的类持有每个方法的调用计划，接口方法直接按照下标调用对应的 {@link MethodPlan}，
+ * 没有 InvocationHandler 的反射分发、参数数组与按 Method 查找计划的开销，基本类型的请求参数不需要装箱。
+ * 实现类定义在接口类加载器的子加载器中，只能实现 public 的接口
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpClientClassGenerator implements Opcodes {
+
+    /**
+     * 生成类名的后缀
+     */
+    private static final String CLASS_SUFFIX = "$$OkHttpClient$$";
+
+    private static final String PLAN = Type.getInternalName(MethodPlan.class);
+
+    private static final String PLANS_FIELD = "plans";
+
+    private static final String PLANS_DESCRIPTOR = "[" + Type.getDescriptor(MethodPlan.class);
+
+    private static final Type BUILDER = Type.getType(OkBuilder.class);
+
+    private static final String EXECUTE_DESCRIPTOR = Type.getMethodDescriptor(Type.getType(Object.class), BUILDER);
+
+    private static final AtomicInteger COUNTER = new AtomicInteger();
+
+    private HttpClientClassGenerator() {
+    }
+
+    /**
+     * 是否可以为接口生成实现类
+     *
+     * @param proxyInterface 接口
+     * @return
+     */
+    public static boolean isSupported(Class<?> proxyInterface) {
+        if (!proxyInterface.isInterface() || !Modifier.isPublic(proxyInterface.getModifiers())) {
+            return false;
+        }
+        ClassLoader classLoader = classLoader(proxyInterface);
+        try {
+            //生成的类需要与当前类加载器加载的 MethodPlan 一致
+            return Class.forName(MethodPlan.class.getName(), false, classLoader) == MethodPlan.class;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * 生成接口的实现类并实例化
+     *
+     * @param proxyInterface 接口
+     * @param plans          接口所有方法的调用计划
+     * @return 接口实例
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T newInstance(Class<T> proxyInterface, List<MethodPlan> plans) {
+        String className = proxyInterface.getName() + CLASS_SUFFIX + COUNTER.incrementAndGet();
+        byte[] bytes = generate(className, proxyInterface, plans);
+        try {
+            Class<?> type = new GeneratedClassLoader(classLoader(proxyInterface)).define(className, bytes);
+            return (T) type.getConstructor(MethodPlan[].class).newInstance((Object) plans.toArray(new MethodPlan[0]));
+        } catch (ReflectiveOperationException | LinkageError e) {
+            throw new HttpClientException(String.format("failed to generate implementation of [%s]!", proxyInterface.getName()), e);
+        }
+    }
+
+    /**
+     * 生成实现类的字节码
+     */
+    static byte[] generate(String className, Class<?> proxyInterface, List<MethodPlan> plans) {
+        String internalName = className.replace('.', '/');
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_8, ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC, internalName, null,
+                Type.getInternalName(Object.class), new String[]{Type.getInternalName(proxyInterface)});
+        cw.visitField(ACC_PRIVATE | ACC_FINAL, PLANS_FIELD, PLANS_DESCRIPTOR, null, null).visitEnd();
+        constructor(cw, internalName);
+        toString(cw, proxyInterface);
+        Set<String> signatures = new HashSet<>();
+        for (int i = 0; i < plans.size(); i++) {
+            Method method = plans.get(i).method();
+            //多个父接口声明了相同的方法时只实现一次
+            if (signatures.add(method.getName() + Type.getMethodDescriptor(method))) {
+                method(cw, internalName, method, plans.get(i), i);
+            }
+        }
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void constructor(ClassWriter cw, String internalName) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(" + PLANS_DESCRIPTOR + ")V", null, null);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(Object.class), "<init>", "()V", false);
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitVarInsn(ALOAD, 1);
+        mv.visitFieldInsn(PUTFIELD, internalName, PLANS_FIELD, PLANS_DESCRIPTOR);
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void toString(ClassWriter cw, Class<?> proxyInterface) {
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+        mv.visitCode();
+        mv.visitLdcInsn(proxyInterface.getName() + "@generated");
+        mv.visitInsn(ARETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    /**
+     * 生成：
+     * MethodPlan plan = plans[index];
+     * OkBuilder builder = plan.newBuilder(new Object[]{pathArg, ...});
+     * plan.bind(0, builder, arg0); ...
+     * return (R) plan.execute(builder);
+     * 只有动态地址参数放入数组，基本类型的 {@link org.xtan.ok.http.annotation.paramer.Param} 参数直接调用对应类型的绑定方法，不需要装箱
+     */
+    private static void method(ClassWriter cw, String internalName, Method method, MethodPlan plan, int index) {
+        Type[] argumentTypes = Type.getArgumentTypes(method);
+        Type returnType = Type.getReturnType(method);
+        String[] exceptions = new String[method.getExceptionTypes().length];
+        for (int i = 0; i < exceptions.length; i++) {
+            exceptions[i] = Type.getInternalName(method.getExceptionTypes()[i]);
+        }
+        //参数所在的局部变量槽位，之后依次为 plan 与 builder
+        int[] slots = new int[argumentTypes.length];
+        int slot = 1;
+        for (int i = 0; i < argumentTypes.length; i++) {
+            slots[i] = slot;
+            slot += argumentTypes[i].getSize();
+        }
+        int planSlot = slot;
+        int builderSlot = slot + 1;
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, method.getName(), Type.getMethodDescriptor(method), null, exceptions);
+        mv.visitCode();
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, internalName, PLANS_FIELD, PLANS_DESCRIPTOR);
+        push(mv, index);
+        mv.visitInsn(AALOAD);
+        mv.visitVarInsn(ASTORE, planSlot);
+        //请求构建器，只有动态地址参数需要放入数组
+        mv.visitVarInsn(ALOAD, planSlot);
+        if (plan.pathCount() > 0) {
+            push(mv, plan.pathCount());
+            mv.visitTypeInsn(ANEWARRAY, Type.getInternalName(Object.class));
+            for (int i = 0; i < argumentTypes.length; i++) {
+                int position = plan.pathPosition(i);
+                if (position < 0) {
+                    continue;
+                }
+                mv.visitInsn(DUP);
+                push(mv, position);
+                mv.visitVarInsn(argumentTypes[i].getOpcode(ILOAD), slots[i]);
+                box(mv, argumentTypes[i]);
+                mv.visitInsn(AASTORE);
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, PLAN, "newBuilder", Type.getMethodDescriptor(BUILDER, Type.getType(Object[].class)), false);
+        } else {
+            mv.visitMethodInsn(INVOKEVIRTUAL, PLAN, "newBuilder", Type.getMethodDescriptor(BUILDER), false);
+        }
+        mv.visitVarInsn(ASTORE, builderSlot);
+        //逐个绑定参数
+        for (int i = 0; i < argumentTypes.length; i++) {
+            if (!plan.isBound(i)) {
+                continue;
+            }
+            Type argumentType = argumentTypes[i];
+            mv.visitVarInsn(ALOAD, planSlot);
+            push(mv, i);
+            mv.visitVarInsn(ALOAD, builderSlot);
+            mv.visitVarInsn(argumentType.getOpcode(ILOAD), slots[i]);
+            Type bindType = Type.getType(Object.class);
+            if (plan.isTypedParam(i)) {
+                bindType = argumentType;
+            } else {
+                box(mv, argumentType);
+            }
+            mv.visitMethodInsn(INVOKEVIRTUAL, PLAN, "bind", Type.getMethodDescriptor(Type.VOID_TYPE, Type.INT_TYPE, BUILDER, bindType), false);
+        }
+        mv.visitVarInsn(ALOAD, planSlot);
+        mv.visitVarInsn(ALOAD, builderSlot);
+        mv.visitMethodInsn(INVOKEVIRTUAL, PLAN, "execute", EXECUTE_DESCRIPTOR, false);
+        //返回值
+        if (Type.VOID_TYPE.equals(returnType)) {
+            mv.visitInsn(POP);
+            mv.visitInsn(RETURN);
+        } else {
+            unbox(mv, returnType);
+            mv.visitInsn(returnType.getOpcode(IRETURN));
+        }
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
+    private static void push(MethodVisitor mv, int value) {
+        if (value >= -1 && value <= 5) {
+            mv.visitInsn(ICONST_0 + value);
+        } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, value);
+        } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+            mv.visitIntInsn(SIPUSH, value);
+        } else {
+            mv.visitLdcInsn(value);
+        }
+    }
+
+    /**
+     * 基本类型装箱
+     */
+    private static void box(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (null == boxed) {
+            return;
+        }
+        mv.visitMethodInsn(INVOKESTATIC, boxed.getInternalName(), "valueOf",
+                Type.getMethodDescriptor(boxed, type), false);
+    }
+
+    /**
+     * 返回值拆箱或者强制类型转换
+     */
+    private static void unbox(MethodVisitor mv, Type type) {
+        Type boxed = boxedType(type);
+        if (null == boxed) {
+            if (!Type.getType(Object.class).equals(type)) {
+                mv.visitTypeInsn(CHECKCAST, type.getSort() == Type.ARRAY ? type.getDescriptor() : type.getInternalName());
+            }
+            return;
+        }
+        mv.visitTypeInsn(CHECKCAST, boxed.getInternalName());
+        mv.visitMethodInsn(INVOKEVIRTUAL, boxed.getInternalName(), type.getClassName() + "Value",
+                Type.getMethodDescriptor(type), false);
+    }
+
+    private static Type boxedType(Type type) {
+        switch (type.getSort()) {
+            case Type.BOOLEAN:
+                return Type.getType(Boolean.class);
+            case Type.CHAR:
+                return Type.getType(Character.class);
+            case Type.BYTE:
+                return Type.getType(Byte.class);
+            case Type.SHORT:
+                return Type.getType(Short.class);
+            case Type.INT:
+                return Type.getType(Integer.class);
+            case Type.FLOAT:
+                return Type.getType(Float.class);
+            case Type.LONG:
+                return Type.getType(Long.class);
+            case Type.DOUBLE:
+                return Type.getType(Double.class);
+            default:
+                return null;
+        }
+    }
+
+    private static ClassLoader classLoader(Class<?> proxyInterface) {
+        return null != proxyInterface.getClassLoader() ? proxyInterface.getClassLoader() : HttpClientClassGenerator.class.getClassLoader();
+    }
+
+    /**
+     * 定义生成类的类加载器
+     */
+    private static class GeneratedClassLoader extends ClassLoader {
+
+        static {
+            registerAsParallelCapable();
+        }
+
+        GeneratedClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        Class<?> define(String name, byte[] bytes) {
+            return defineClass(name, bytes, 0, bytes.length, HttpClientClassGenerator.class.getProtectionDomain());
+        }
+    }
+}
@@ -1,29 +1,37 @@
 package org.xtan.ok.http.proxy;
 
-import com.alibaba.fastjson.JSON;
-import com.alibaba.fastjson.PropertyNamingStrategy;
-import com.alibaba.fastjson.parser.ParserConfig;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.core.annotation.AnnotatedElementUtils;
-import org.xtan.ok.http.OkBuilder;
 import org.xtan.ok.http.annotation.Headers;
 import org.xtan.ok.http.annotation.HttpClient;
 import org.xtan.ok.http.annotation.method.Mapping;
+import org.xtan.ok.http.client.HttpClientProfile;
+import org.xtan.ok.http.client.OkClientRegistry;
+import org.xtan.ok.http.config.EnvironmentComponent;
+import org.xtan.ok.http.constants.HttpPrefix;
+import org.xtan.ok.http.dns.CachingDns;
 import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.interceptor.InterceptorChains;
 import org.xtan.ok.http.handler.MappingHeadersPaddingHandler;
-import org.xtan.ok.http.handler.MappingParamsPaddingHandler;
-import org.xtan.ok.http.handler.MappingPathResolveHandler;
 import org.xtan.ok.http.model.HttpHeaders;
 import org.xtan.ok.http.model.HttpMapping;
-import org.xtan.ok.http.utils.FastJSONParserConfig;
-import org.xtan.ok.http.utils.MD5;
+import org.xtan.ok.http.warmup.HttpClientWarmUp;
 
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.stream.Collectors;
 
 /**
  * 代理处理器
@@ -33,15 +41,57 @@ import java.util.Map;
  */
 public class HttpClientProxyHandler<T> implements InvocationHandler {
 
+    /**
+     * 代理实现方式的配置，jdk(默认)：jdk 动态代理，bytecode：启动时生成接口的实现类
+     */
+    public static final String PROXY_MODE_PROPERTY = "ok.http.proxy.mode";
+
+    public static final String PROXY_MODE_BYTECODE = "bytecode";
+
     /**
      * 代理类型实例
      */
     private final Class<T> proxyInterface;
 
     /**
-     * 映射缓存
+     * 接口的所有方法
      */
-    private final Map<String, HttpMapping> mappingMap = new HashMap<>(1 >> 4);
+    private final Method[] methods;
+
+    /**
+     * 方法 -> 下标，注册后不再修改
+     */
+    private final Map<Method, Integer> indexes;
+
+    /**
+     * 方法的调用计划，与 methods 的下标对应，延迟编译时通过 CAS 发布
+     */
+    private final AtomicReferenceArray<MethodPlan> plans;
+
+    /**
+     * HttpClient 声明的 host
+     */
+    private final String host;
+
+    /**
+     * 接口上的静态请求头
+     */
+    private final HttpHeaders headers;
+
+    private final MappingCompileMode mode;
+
+    private final HttpClientStartupReport.Registration registration;
+
+    /**
+     * 执行请求的client
+     * 根据接口的连接配置从注册中心获取
+     */
+    private final OkHttpClient client;
+
+    /**
+     * 生成的实现类实例
+     */
+    private volatile T generatedInstance;
 
     public Class<T> getProxyInterface() {
         return proxyInterface;
@@ -49,11 +99,22 @@ public class HttpClientProxyHandler<T> implements InvocationHandler {
 
     private HttpClientProxyHandler(Class<T> proxyInterface) {
         this.proxyInterface = proxyInterface;
+        this.mode = MappingCompileMode.load();
+        this.registration = HttpClientStartupReport.register(proxyInterface, mode.name().toLowerCase());
+        this.client = OkClientRegistry.instance().client(HttpClientProfile.of(proxyInterface));
+        this.host = proxyInterface.getAnnotation(HttpClient.class).value();
+        this.headers = MappingHeadersPaddingHandler.loadAnnotationHeaders(proxyInterface.getAnnotation(Headers.class));
+        this.methods = proxyInterface.getMethods();
+        this.indexes = new HashMap<>(methods.length * 2);
+        for (int i = 0; i < methods.length; i++) {
+            indexes.put(methods[i], i);
+        }
+        this.plans = new AtomicReferenceArray<>(methods.length);
         //注册Mapping
-        registerMappings(
-                proxyInterface.getAnnotation(HttpClient.class).value(),
-                MappingHeadersPaddingHandler.loadAnnotationHeaders(proxyInterface.getAnnotation(Headers.class))
-        );
+        registerMappings();
+        //开启预热时在容器启动完成前建立连接，预热时才获取映射
+        HttpClientWarmUp.register(proxyInterface, client, this::mappings);
+        registration.registered(methods.length);
     }
 
     /**
@@ -75,9 +136,37 @@ public class HttpClientProxyHandler<T> implements InvocationHandler {
      */
     @SuppressWarnings("unchecked")
     public T getProxyInstance() {
+        //非 public 的接口无法生成实现类，使用 jdk 动态代理
+        if (isBytecodeMode() && HttpClientClassGenerator.isSupported(proxyInterface)) {
+            return getGeneratedInstance();
+        }
         return (T) Proxy.newProxyInstance(proxyInterface.getClassLoader(), new Class[]{proxyInterface}, this);
     }
 
+    /**
+     * 获取生成的实现类实例，每个接口只生成一次
+     *
+     * @return
+     */
+    public T getGeneratedInstance() {
+        T instance = generatedInstance;
+        if (null == instance) {
+            synchronized (this) {
+                instance = generatedInstance;
+                if (null == instance) {
+                    instance = HttpClientClassGenerator.newInstance(proxyInterface, plans());
+                    generatedInstance = instance;
+                }
+            }
+        }
+        return instance;
+    }
+
+    private static boolean isBytecodeMode() {
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        return null != environment && PROXY_MODE_BYTECODE.equalsIgnoreCase(environment.getProperty(PROXY_MODE_PROPERTY));
+    }
+
     /**
      * 代理类方法执行的实现
      *
@@ -88,48 +177,130 @@ public class HttpClientProxyHandler<T> implements InvocationHandler {
      */
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) {
-        HttpMapping httpMapping = mappingMap.get(MD5.encode(method.toGenericString()));
-        //检查动态映射,构建请求器
-        OkBuilder okBuilder = OkBuilder.url(
-                        //是否存在动态映射地址
-                        httpMapping.isDynamicPath()
-                                ? MappingPathResolveHandler.dynamicPathResolve(httpMapping, method, args)
-                                : httpMapping.url()
-                )
-                //填充请求方式
-                .method(httpMapping.method())
-                //填充请求内容类型
-                .contentType(httpMapping.contentType())
-                //填充静态请求头
-                .headers(httpMapping.headers());
-        //填充参数请求头
-        MappingHeadersPaddingHandler.headsOnMethodParams(okBuilder, method, args);
-        //填充请求参数
-        MappingParamsPaddingHandler.handler(okBuilder, method, args);
-        //获取请求结果
-        String result = okBuilder.execute();
-        ParserConfig parserConfig = new ParserConfig();
-        parserConfig.propertyNamingStrategy = PropertyNamingStrategy.SnakeCase;
-        //获取方法返回类型，如果不是String则通过JSON反序列化
-        return method.getReturnType().equals(String.class) ? result : JSON.parseObject(result, method.getReturnType(), FastJSONParserConfig.config());
+        Integer index = indexes.get(method);
+        if (null != index) {
+            return plan(index).invoke(args);
+        }
+        //Object 声明的方法
+        switch (method.getName()) {
+            case "equals":
+                return proxy == args[0];
+            case "hashCode":
+                return System.identityHashCode(proxy);
+            case "toString":
+                return proxyInterface.getName() + "@proxy";
+            default:
+                throw new HttpClientException("no mapping annotation exists!", method);
+        }
+    }
+
+    /**
+     * 获取方法的调用计划
+     *
+     * @param method 接口方法
+     * @return
+     */
+    public MethodPlan plan(Method method) {
+        Integer index = indexes.get(method);
+        return null != index ? plan(index) : null;
+    }
+
+    /**
+     * 所有方法的调用计划，未编译的映射会立即编译
+     *
+     * @return
+     */
+    public List<MethodPlan> plans() {
+        List<MethodPlan> result = new ArrayList<>(methods.length);
+        for (int i = 0; i < methods.length; i++) {
+            result.add(plan(i));
+        }
+        return result;
+    }
+
+    /**
+     * 所有方法的映射，未编译的映射会立即编译
+     *
+     * @return
+     */
+    public List<HttpMapping> mappings() {
+        return plans().stream().map(MethodPlan::mapping).collect(Collectors.toList());
     }
 
     /**
      * 注册client的所有方法
+     * 延迟编译时不做任何处理，并行编译时提交到编译线程池
      */
-    private void registerMappings(String host, HttpHeaders headers) {
-        Arrays.stream(this.proxyInterface.getMethods()).forEach(method -> {
-            Mapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, Mapping.class);
-            //不存在任何映射注解，抛出异常
-            if (null == mapping) {
-                throw new HttpClientException("no mapping annotation exists!", method);
-            }
-            //如果没有定义地址，则抛出地址未定义的异常
-            if (StringUtils.isBlank(mapping.value())) {
-                throw new HttpClientException("the request url is undefined!", method);
+    private void registerMappings() {
+        for (int i = 0; i < methods.length; i++) {
+            int index = i;
+            switch (mode) {
+                case EAGER:
+                    compile(index);
+                    break;
+                case PARALLEL:
+                    registration.submit(() -> plan(index));
+                    break;
+                default:
+                    break;
             }
-            //缓存mapping
-            mappingMap.put(MD5.encode(method.toGenericString()), HttpMapping.builder(host, headers, mapping, method));
-        });
+        }
+        //预先解析请求地址的host
+        if (MappingCompileMode.EAGER == mode) {
+            preResolve(client, mappings());
+        }
+    }
+
+    /**
+     * 获取方法的调用计划，不存在时编译
+     */
+    private MethodPlan plan(int index) {
+        MethodPlan plan = plans.get(index);
+        return null != plan ? plan : compile(index);
+    }
+
+    /**
+     * 编译方法的调用计划，多个线程同时编译时只发布第一个完成的结果
+     */
+    private MethodPlan compile(int index) {
+        long startAt = System.nanoTime();
+        Method method = methods[index];
+        Mapping mapping = AnnotatedElementUtils.findMergedAnnotation(method, Mapping.class);
+        //不存在任何映射注解，抛出异常
+        if (null == mapping) {
+            throw new HttpClientException("no mapping annotation exists!", method);
+        }
+        //如果没有定义地址，则抛出地址未定义的异常
+        if (StringUtils.isBlank(mapping.value())) {
+            throw new HttpClientException("the request url is undefined!", method);
+        }
+        //编译调用计划，存在拦截器时使用添加了拦截器链的衍生 client
+        MethodPlan plan = MethodPlan.compile(method, HttpMapping.builder(host, headers, mapping, method),
+                InterceptorChains.client(client, proxyInterface, method));
+        if (!plans.compareAndSet(index, null, plan)) {
+            return plans.get(index);
+        }
+        registration.compiled(System.nanoTime() - startAt);
+        //并行编译时在编译线程中预先解析请求地址的host，延迟编译时由本次请求解析
+        if (MappingCompileMode.PARALLEL == mode) {
+            preResolve(client, Collections.singletonList(plan.mapping()));
+        }
+        return plan;
+    }
+
+    /**
+     * 在后台预先解析所有映射的host，首次请求时不再阻塞在 DNS 解析上
+     * unix domain socket 等不使用共享 DNS 缓存的 client 不进行解析
+     */
+    static void preResolve(OkHttpClient client, Collection<HttpMapping> mappings) {
+        if (!(client.dns() instanceof CachingDns)) {
+            return;
+        }
+        Set<String> hosts = mappings.stream()
+                .map(it -> HttpUrl.parse(HttpPrefix.HTTP + it.host()))
+                .filter(Objects::nonNull)
+                .map(HttpUrl::host)
+                .collect(Collectors.toSet());
+        ((CachingDns) client.dns()).preResolve(hosts);
     }
 }
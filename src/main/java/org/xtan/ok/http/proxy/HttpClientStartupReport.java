@@ -0,0 +1,215 @@
+package org.xtan.ok.http.proxy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.xtan.ok.http.exception.HttpClientException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * HttpClient 注册耗时报告
+ * <p>
+ * 所有单例初始化完成时等待并行编译的映射，并打印每个 HttpClient 的注册耗时：
+ * 编译方式、方法数、已编译的映射数、创建代理的耗时与编译映射的累计耗时
+ * </p>
+ * 只记录 spring 启动期间的注册，spring 之外或者启动之后创建的代理不记录
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpClientStartupReport implements SmartInitializingSingleton, DisposableBean {
+
+    public static final String BEAN_NAME = "okHttpClientStartupReport";
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientStartupReport.class);
+
+    private static final List<Registration> REGISTRATIONS = new ArrayList<>();
+
+    /**
+     * 是否记录注册，注册报告的 bean 定义存在时开启，报告打印后关闭
+     */
+    private static boolean recording;
+
+    /**
+     * 并行编译的线程池
+     */
+    private static volatile ExecutorService executor;
+
+    /**
+     * 记录 HttpClient 的注册
+     *
+     * @param type HttpClient 接口
+     * @param mode 编译方式
+     * @return
+     */
+    public static Registration register(Class<?> type, String mode) {
+        Registration registration = new Registration(type, mode);
+        synchronized (REGISTRATIONS) {
+            if (recording) {
+                REGISTRATIONS.add(registration);
+            }
+        }
+        return registration;
+    }
+
+    /**
+     * 开始记录注册，在注册报告的 bean 定义时调用
+     */
+    public static void record() {
+        synchronized (REGISTRATIONS) {
+            recording = true;
+        }
+    }
+
+    /**
+     * 停止记录并取出已记录的注册
+     */
+    private static List<Registration> drain() {
+        synchronized (REGISTRATIONS) {
+            recording = false;
+            List<Registration> registrations = new ArrayList<>(REGISTRATIONS);
+            REGISTRATIONS.clear();
+            return registrations;
+        }
+    }
+
+    /**
+     * 编译线程池，线程数由 {@link MappingCompileMode#threads()} 决定
+     */
+    static ExecutorService executor() {
+        ExecutorService current = executor;
+        if (null == current) {
+            synchronized (HttpClientStartupReport.class) {
+                current = executor;
+                if (null == current) {
+                    int threads = MappingCompileMode.threads();
+                    AtomicInteger counter = new AtomicInteger();
+                    ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "ok-http-compile-" + counter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    pool.allowCoreThreadTimeOut(true);
+                    executor = current = pool;
+                }
+            }
+        }
+        return current;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        List<Registration> registrations = drain();
+        //等待并行编译完成，映射错误时启动失败
+        for (Registration registration : registrations) {
+            registration.await();
+        }
+        if (registrations.isEmpty() || !log.isInfoEnabled()) {
+            return;
+        }
+        StringBuilder sb = new StringBuilder("ok http clients registered:");
+        long total = 0;
+        for (Registration it : registrations) {
+            total += it.registerNanos;
+            sb.append(String.format("%n  %s [%s] methods=%d compiled=%d register=%.1fms compile=%.1fms",
+                    it.type.getName(), it.mode, it.methods, it.compiled.get(),
+                    it.registerNanos / 1e6, it.compileNanos.get() / 1e6));
+        }
+        sb.append(String.format("%n  total: %d clients, register=%.1fms", registrations.size(), total / 1e6));
+        log.info(sb.toString());
+    }
+
+    /**
+     * 启动失败时不会打印报告，丢弃已记录的注册
+     */
+    @Override
+    public void destroy() {
+        drain();
+    }
+
+    /**
+     * 单个 HttpClient 的注册信息
+     */
+    public static class Registration {
+
+        private final Class<?> type;
+
+        private final String mode;
+
+        private final long startAt = System.nanoTime();
+
+        private volatile int methods;
+
+        private volatile long registerNanos;
+
+        private final AtomicInteger compiled = new AtomicInteger();
+
+        private final AtomicLong compileNanos = new AtomicLong();
+
+        private final List<Future<?>> pending = new CopyOnWriteArrayList<>();
+
+        private Registration(Class<?> type, String mode) {
+            this.type = type;
+            this.mode = mode;
+        }
+
+        /**
+         * 注册完成
+         *
+         * @param methods 方法数
+         */
+        public void registered(int methods) {
+            this.methods = methods;
+            this.registerNanos = System.nanoTime() - startAt;
+        }
+
+        /**
+         * 完成一个映射的编译
+         *
+         * @param nanos 编译耗时
+         */
+        public void compiled(long nanos) {
+            compiled.incrementAndGet();
+            compileNanos.addAndGet(nanos);
+        }
+
+        /**
+         * 提交到编译线程池
+         */
+        void submit(Runnable task) {
+            pending.add(executor().submit(task));
+        }
+
+        /**
+         * 等待所有提交的编译完成
+         */
+        void await() {
+            for (Future<?> future : pending) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new HttpClientException("interrupted while compiling mappings of " + type.getName(), e);
+                } catch (ExecutionException e) {
+                    if (e.getCause() instanceof RuntimeException) {
+                        throw (RuntimeException) e.getCause();
+                    }
+                    throw new HttpClientException("failed to compile mappings of " + type.getName(), e.getCause());
+                }
+            }
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package org.xtan.ok.http.proxy;
+
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+/**
+ * 映射的编译方式
+ * <p>
+ * 配置文件格式：
+ * ok.http.mapping.compile-mode=lazy
+ * ok.http.mapping.compile-threads=4
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public enum MappingCompileMode {
+
+    /**
+     * 创建代理时在当前线程编译所有映射(默认)
+     */
+    EAGER,
+
+    /**
+     * 方法第一次调用时编译映射，映射错误在调用时抛出
+     */
+    LAZY,
+
+    /**
+     * 创建代理时提交到编译线程池，容器刷新完成前等待所有映射编译完成
+     */
+    PARALLEL;
+
+    public static final String PROPERTY = "ok.http.mapping.compile-mode";
+
+    public static final String THREADS_PROPERTY = "ok.http.mapping.compile-threads";
+
+    /**
+     * 从 spring 配置中读取，不在 spring 容器中时使用 {@link #EAGER}
+     *
+     * @return
+     */
+    public static MappingCompileMode load() {
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        String value = null != environment ? environment.getProperty(PROPERTY) : null;
+        if (null == value || value.trim().isEmpty()) {
+            return EAGER;
+        }
+        return valueOf(value.trim().toUpperCase());
+    }
+
+    /**
+     * 编译线程数，默认为 cpu 核数
+     *
+     * @return
+     */
+    public static int threads() {
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        Integer threads = null != environment ? environment.getProperty(THREADS_PROPERTY, Integer.class) : null;
+        return null != threads && threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
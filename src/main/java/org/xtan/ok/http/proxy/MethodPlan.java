@@ -0,0 +1,402 @@
+package org.xtan.ok.http.proxy;
+
+import com.alibaba.fastjson.JSON;
+import okhttp3.OkHttpClient;
+import org.xtan.ok.http.OkBuilder;
+import org.xtan.ok.http.PreparedRequest;
+import org.xtan.ok.http.annotation.Async;
+import org.xtan.ok.http.annotation.Headers;
+import org.xtan.ok.http.annotation.paramer.FileBody;
+import org.xtan.ok.http.annotation.paramer.JSONBody;
+import org.xtan.ok.http.annotation.paramer.Param;
+import org.xtan.ok.http.annotation.paramer.PathParam;
+import org.xtan.ok.http.async.AsyncExecutors;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.handler.MappingParamsPaddingHandler;
+import org.xtan.ok.http.model.HttpHeaders;
+import org.xtan.ok.http.model.HttpMapping;
+import org.xtan.ok.http.outbox.Outbox;
+import org.xtan.ok.http.reactive.ReactiveCalls;
+import org.xtan.ok.http.utils.FastJSONParserConfig;
+
+import java.io.File;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.WildcardType;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * 接口方法的调用计划
+ * <p>
+ * 注册映射时对每个方法只解析一次：请求模板、参数绑定器与返回值解码器，
+ * 调用时按照参数下标直接填充请求，不再读取方法的参数注解
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class MethodPlan {
+
+    private static final Object[] NO_ARGS = new Object[0];
+
+    private final Method method;
+
+    private final RequestTemplate template;
+
+    /**
+     * 动态地址参数的下标，按照地址模板中的位置排列
+     */
+    private final int[] pathArgs;
+
+    /**
+     * 每个参数的绑定器，下标与方法参数一致，不需要绑定的参数为空
+     */
+    private final ParamBinder[] binders;
+
+    /**
+     * {@link Param} 参数的名称，下标与方法参数一致，其他参数为空
+     */
+    private final String[] names;
+
+    /**
+     * 执行请求并转换为方法返回值
+     */
+    private final Function<OkBuilder, Object> execution;
+
+    private MethodPlan(Method method, HttpMapping mapping, OkHttpClient client) {
+        this.method = method;
+        Parameter[] parameters = method.getParameters();
+        //地址模板，同名的动态地址参数使用第一个参数
+        List<String> pathNames = new ArrayList<>();
+        List<Integer> pathIndexes = new ArrayList<>();
+        for (int i = 0; i < parameters.length; i++) {
+            PathParam pathParam = parameters[i].getAnnotation(PathParam.class);
+            if (null != pathParam && !pathNames.contains(pathParam.value())) {
+                pathNames.add(pathParam.value());
+                pathIndexes.add(i);
+            }
+        }
+        this.template = new RequestTemplate(mapping, client, method.getDeclaringClass(), method.getName(), pathNames::indexOf);
+        this.pathArgs = pathIndexes.stream().mapToInt(Integer::intValue).toArray();
+        //参数绑定器，请求体参数之后的参数不再作为请求参数
+        this.binders = new ParamBinder[parameters.length];
+        this.names = new String[parameters.length];
+        boolean isBodyBound = false;
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter it = parameters[i];
+            if (it.isAnnotationPresent(Headers.class)) {
+                binders[i] = (builder, arg) -> builder.headers((HttpHeaders) arg);
+                continue;
+            }
+            if (isBodyBound || it.isAnnotationPresent(PathParam.class)) {
+                continue;
+            }
+            if (it.isAnnotationPresent(JSONBody.class)) {
+                binders[i] = OkBuilder::isJson;
+                isBodyBound = true;
+                continue;
+            }
+            if (it.isAnnotationPresent(FileBody.class)) {
+                binders[i] = fileBinder(it.getType(), method);
+                isBodyBound = true;
+                continue;
+            }
+            if (!it.isAnnotationPresent(Param.class)) {
+                throw new HttpClientException("parameter must have @Param annotation to declare field name!", method);
+            }
+            names[i] = it.getAnnotation(Param.class).value();
+            binders[i] = paramBinder(names[i], it.getType());
+        }
+        //返回值解码器，不是String则通过JSON反序列化，异步与响应式方法解码返回值的泛型参数
+        Class<?> returnType = method.getReturnType();
+        Async async = method.getAnnotation(Async.class);
+        if (null != async && void.class != returnType) {
+            throw new HttpClientException("@Async method must return void!", method);
+        }
+        if (null != async && async.durable()) {
+            //序列化后写入持久化发件箱，由发件箱的发送线程执行
+            Class<?> type = method.getDeclaringClass();
+            this.execution = builder -> {
+                PreparedRequest prepared = builder.prepare();
+                Outbox.instance().append(type, method, prepared.client(), prepared.request());
+                return null;
+            };
+        } else if (null != async) {
+            //不等待响应，响应内容在调度器线程中丢弃
+            this.execution = builder -> {
+                builder.executeAsync(result -> null, Runnable::run);
+                return null;
+            };
+        } else if (CompletableFuture.class == returnType || CompletionStage.class == returnType || Future.class == returnType) {
+            //异步方法由调度器执行请求，在异步线程池中解码
+            Function<String, Object> decoder = decoder(futureType(method.getGenericReturnType()));
+            this.execution = builder -> builder.executeAsync(decoder, AsyncExecutors.executor());
+        } else if (ReactiveCalls.MONO.equals(returnType.getName())) {
+            //Reactor 为可选依赖，只比较类名，返回 Mono 或 Flux 时才加载 ReactiveCalls
+            Function<String, Object> decoder = decoder(futureType(method.getGenericReturnType()));
+            this.execution = builder -> ReactiveCalls.mono(builder.prepare(), decoder, AsyncExecutors.executor());
+        } else if (ReactiveCalls.FLUX.equals(returnType.getName())) {
+            Type elementType = futureType(method.getGenericReturnType());
+            this.execution = builder -> ReactiveCalls.flux(builder.prepare(), elementType);
+        } else {
+            Function<String, Object> decoder = decoder(returnType);
+            this.execution = builder -> decoder.apply(builder.execute());
+        }
+    }
+
+    private static Function<String, Object> decoder(Type type) {
+        if (void.class == type || Void.class == type) {
+            return result -> null;
+        }
+        if (String.class == type) {
+            return result -> result;
+        }
+        return result -> JSON.parseObject(result, type, FastJSONParserConfig.config());
+    }
+
+    /**
+     * 异步与响应式方法返回值的泛型参数，未声明或为通配符时为 Object
+     */
+    private static Type futureType(Type returnType) {
+        if (returnType instanceof ParameterizedType) {
+            Type type = ((ParameterizedType) returnType).getActualTypeArguments()[0];
+            if (type instanceof WildcardType) {
+                Type[] upperBounds = ((WildcardType) type).getUpperBounds();
+                return upperBounds.length > 0 ? upperBounds[0] : Object.class;
+            }
+            return type;
+        }
+        return Object.class;
+    }
+
+    /**
+     * 编译方法的调用计划
+     *
+     * @param method  接口方法
+     * @param mapping 方法映射
+     * @param client  执行请求的client
+     * @return
+     */
+    public static MethodPlan compile(Method method, HttpMapping mapping, OkHttpClient client) {
+        return new MethodPlan(method, mapping, client);
+    }
+
+    /**
+     * 执行请求
+     *
+     * @param args 方法参数
+     * @return 方法返回值
+     */
+    public Object invoke(Object[] args) {
+        Object[] path = NO_ARGS;
+        if (pathArgs.length > 0) {
+            path = new Object[pathArgs.length];
+            for (int i = 0; i < pathArgs.length; i++) {
+                path[i] = args[pathArgs[i]];
+            }
+        }
+        OkBuilder okBuilder = template.newBuilder(path);
+        //填充参数请求头与请求参数
+        for (int i = 0; i < binders.length; i++) {
+            if (null != binders[i]) binders[i].bind(okBuilder, args[i]);
+        }
+        return execution.apply(okBuilder);
+    }
+
+    /**
+     * 生成请求构建器，供生成的实现类按参数逐个绑定，没有动态地址参数时使用
+     *
+     * @return
+     */
+    public OkBuilder newBuilder() {
+        return template.newBuilder(NO_ARGS);
+    }
+
+    /**
+     * 生成请求构建器
+     *
+     * @param path 动态地址参数，按照 {@link #pathPosition(int)} 排列
+     * @return
+     */
+    public OkBuilder newBuilder(Object[] path) {
+        return template.newBuilder(path);
+    }
+
+    /**
+     * 绑定指定下标的参数
+     *
+     * @param index   参数下标
+     * @param builder 请求构建器
+     * @param arg     参数值
+     */
+    public void bind(int index, OkBuilder builder, Object arg) {
+        binders[index].bind(builder, arg);
+    }
+
+    /**
+     * 绑定基本类型的 {@link Param} 参数，不需要装箱，只用于 {@link #isTypedParam(int)} 的参数
+     */
+    public void bind(int index, OkBuilder builder, int arg) {
+        builder.params(names[index], arg);
+    }
+
+    public void bind(int index, OkBuilder builder, boolean arg) {
+        builder.params(names[index], arg);
+    }
+
+    public void bind(int index, OkBuilder builder, double arg) {
+        builder.params(names[index], arg);
+    }
+
+    public void bind(int index, OkBuilder builder, float arg) {
+        builder.params(names[index], arg);
+    }
+
+    public void bind(int index, OkBuilder builder, char arg) {
+        builder.params(names[index], arg);
+    }
+
+    /**
+     * 执行绑定完成的请求
+     *
+     * @param builder 请求构建器
+     * @return 方法返回值
+     */
+    public Object execute(OkBuilder builder) {
+        return execution.apply(builder);
+    }
+
+    /**
+     * 参数在动态地址参数中的位置，不是动态地址参数时返回 -1
+     */
+    int pathPosition(int index) {
+        for (int i = 0; i < pathArgs.length; i++) {
+            if (pathArgs[i] == index) return i;
+        }
+        return -1;
+    }
+
+    int pathCount() {
+        return pathArgs.length;
+    }
+
+    /**
+     * 参数是否需要绑定
+     */
+    boolean isBound(int index) {
+        return null != binders[index];
+    }
+
+    /**
+     * 是否为可以直接绑定的基本类型 {@link Param} 参数
+     */
+    boolean isTypedParam(int index) {
+        if (null == names[index]) {
+            return false;
+        }
+        Class<?> type = method.getParameterTypes()[index];
+        return int.class == type || boolean.class == type || double.class == type || float.class == type || char.class == type;
+    }
+
+    public Method method() {
+        return method;
+    }
+
+    public HttpMapping mapping() {
+        return template.mapping();
+    }
+
+    /**
+     * 根据参数的声明类型选择绑定方式，无法确定类型时在调用时判断
+     */
+    @SuppressWarnings("unchecked")
+    private static ParamBinder paramBinder(String name, Class<?> type) {
+        if (String.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (String) arg);
+            };
+        }
+        if (Integer.class == type || int.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (int) (Integer) arg);
+            };
+        }
+        if (Boolean.class == type || boolean.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (boolean) (Boolean) arg);
+            };
+        }
+        if (Double.class == type || double.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (double) (Double) arg);
+            };
+        }
+        if (Float.class == type || float.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (float) (Float) arg);
+            };
+        }
+        if (Character.class == type || char.class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (char) (Character) arg);
+            };
+        }
+        if (byte[].class == type) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (byte[]) arg);
+            };
+        }
+        if (File.class.isAssignableFrom(type)) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (File) arg);
+            };
+        }
+        if (InputStream.class.isAssignableFrom(type)) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (InputStream) arg);
+            };
+        }
+        if (Collection.class.isAssignableFrom(type)) {
+            return (builder, arg) -> {
+                if (null != arg) builder.params(name, (Collection<? extends Serializable>) arg);
+            };
+        }
+        return (builder, arg) -> MappingParamsPaddingHandler.putParams(builder, name, arg);
+    }
+
+    /**
+     * 文件流参数的绑定方式，参数为空时按照原有规则抛出异常
+     */
+    private static ParamBinder fileBinder(Class<?> type, Method method) {
+        ParamBinder fallback = (builder, arg) -> MappingParamsPaddingHandler.onlyFileParams(builder, arg, method);
+        if (File.class.isAssignableFrom(type)) {
+            return (builder, arg) -> {
+                if (null == arg) fallback.bind(builder, null);
+                else builder.body((File) arg);
+            };
+        }
+        if (InputStream.class.isAssignableFrom(type)) {
+            return (builder, arg) -> {
+                if (null == arg) fallback.bind(builder, null);
+                else builder.body((InputStream) arg);
+            };
+        }
+        if (byte[].class == type) {
+            return (builder, arg) -> {
+                if (null == arg) fallback.bind(builder, null);
+                else builder.body((byte[]) arg);
+            };
+        }
+        return fallback;
+    }
+}
@@ -0,0 +1,22 @@
+package org.xtan.ok.http.proxy;
+
+import org.xtan.ok.http.OkBuilder;
+
+/**
+ * 方法参数的绑定器
+ * 在注册映射时根据参数注解与声明类型生成，调用时直接把参数填充到请求构建器中
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+@FunctionalInterface
+interface ParamBinder {
+
+    /**
+     * 填充参数
+     *
+     * @param builder 请求构建器
+     * @param arg     参数值
+     */
+    void bind(OkBuilder builder, Object arg);
+}
@@ -0,0 +1,91 @@
+package org.xtan.ok.http.proxy;
+
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import org.apache.commons.lang3.StringUtils;
+import org.xtan.ok.http.OkBuilder;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.model.HttpMapping;
+
+import java.util.function.ToIntFunction;
+
+/**
+ * 映射方法的请求模板
+ * <p>
+ * 注册时编译一次请求地址与请求内容类型，调用时只需要填充动态参数并生成请求构建器
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class RequestTemplate {
+
+    private final HttpMapping mapping;
+
+    private final OkHttpClient client;
+
+    /**
+     * 编译后的请求地址
+     */
+    private final UrlTemplate url;
+
+    /**
+     * 类与方法上的静态请求头
+     */
+    private final Headers headers;
+
+    /**
+     * 请求内容类型，未声明时为空
+     */
+    private final MediaType mediaType;
+
+    /**
+     * @param mapping        方法映射
+     * @param client         执行请求的client
+     * @param type           HttpClient 接口
+     * @param methodName     方法名
+     * @param pathParamIndex 根据 {@link org.xtan.ok.http.annotation.paramer.PathParam} 的名称获取参数下标，不存在时返回 -1
+     */
+    public RequestTemplate(HttpMapping mapping, OkHttpClient client, Class<?> type, String methodName, ToIntFunction<String> pathParamIndex) {
+        this.mapping = mapping;
+        this.client = client;
+        this.url = UrlTemplate.compile(mapping, type, methodName, pathParamIndex);
+        try {
+            this.headers = mapping.headers().toHeaders();
+        } catch (IllegalArgumentException e) {
+            throw new HttpClientException(e.getMessage(), type, methodName);
+        }
+        this.mediaType = StringUtils.isBlank(mapping.contentType()) ? null : MediaType.parse(mapping.contentType());
+    }
+
+    /**
+     * 生成请求构建器，填充请求地址、client、请求方式、请求内容类型与静态请求头
+     *
+     * @param args 动态地址参数，下标与构建模板时返回的下标对应
+     * @return
+     */
+    public OkBuilder newBuilder(Object... args) {
+        OkBuilder okBuilder = OkBuilder.url(url.expand(args))
+                //复用注册中心中的client
+                .client(client)
+                //填充请求方式
+                .method(mapping.method());
+        //填充请求内容类型
+        if (null != mediaType) {
+            okBuilder.contentType(mediaType);
+        } else {
+            okBuilder.contentType(mapping.contentType());
+        }
+        //填充静态请求头
+        return okBuilder.headers(headers);
+    }
+
+    public HttpMapping mapping() {
+        return mapping;
+    }
+
+    public OkHttpClient client() {
+        return client;
+    }
+}
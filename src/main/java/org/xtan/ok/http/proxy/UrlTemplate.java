@@ -0,0 +1,148 @@
+package org.xtan.ok.http.proxy;
+
+import okhttp3.HttpUrl;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.model.HttpMapping;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+/**
+ * 编译后的请求地址
+ * <p>
+ * 注册时把映射地址解析为 {@link HttpUrl}：静态地址直接解析为完整的地址；
+ * 动态地址解析第一个动态参数之前的部分，之后的片段记录为静态片段或参数下标。
+ * 调用时只在 {@link HttpUrl.Builder} 上追加编码后的片段，不再拼接字符串与重新解析地址
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+final class UrlTemplate {
+
+    /**
+     * 地址片段不是动态参数
+     */
+    private static final int LITERAL = -1;
+
+    private final Class<?> type;
+
+    private final String methodName;
+
+    /**
+     * 静态地址为完整地址，动态地址为第一个动态参数之前的部分(包含映射地址中的查询参数)
+     */
+    private final HttpUrl base;
+
+    /**
+     * 第一个动态参数开始的片段，静态地址时为空
+     */
+    private final String[] segments;
+
+    /**
+     * 片段对应的参数下标，静态片段为 {@link #LITERAL}
+     */
+    private final int[] segmentArgs;
+
+    private UrlTemplate(Class<?> type, String methodName, HttpUrl base, String[] segments, int[] segmentArgs) {
+        this.type = type;
+        this.methodName = methodName;
+        this.base = base;
+        this.segments = segments;
+        this.segmentArgs = segmentArgs;
+    }
+
+    /**
+     * 编译映射地址
+     *
+     * @param mapping        方法映射
+     * @param type           HttpClient 接口
+     * @param methodName     方法名
+     * @param pathParamIndex 根据 {@link org.xtan.ok.http.annotation.paramer.PathParam} 的名称获取参数下标，不存在时返回 -1
+     * @return
+     */
+    static UrlTemplate compile(HttpMapping mapping, Class<?> type, String methodName, ToIntFunction<String> pathParamIndex) {
+        if (!mapping.isDynamicPath()) {
+            return new UrlTemplate(type, methodName, parse(mapping.url(), type, methodName), null, null);
+        }
+        //映射地址中的查询参数不参与动态参数的解析
+        String path = String.join("/", mapping.path());
+        String query = null;
+        int queryIndex = path.indexOf('?');
+        if (queryIndex > -1) {
+            query = path.substring(queryIndex + 1);
+            path = path.substring(0, queryIndex);
+        }
+        StringBuilder literal = new StringBuilder(mapping.prefix()).append(mapping.host()).append('/');
+        List<String> segments = new ArrayList<>();
+        List<Integer> segmentArgs = new ArrayList<>();
+        for (String it : path.split("/")) {
+            if (it.isEmpty()) {
+                continue;
+            }
+            int index = LITERAL;
+            if (it.contains("{") && it.lastIndexOf("}") > -1) {
+                String name = it.substring(1, it.length() - 1);
+                index = pathParamIndex.applyAsInt(name);
+                if (index < 0) {
+                    throw new HttpClientException(String.format("path param [%s] is undefined!", name), type, methodName);
+                }
+            }
+            //第一个动态参数之前的静态片段直接合并到基础地址中
+            if (LITERAL == index && segments.isEmpty()) {
+                literal.append(it).append('/');
+                continue;
+            }
+            segments.add(it);
+            segmentArgs.add(index);
+        }
+        HttpUrl.Builder builder = parse(literal.toString(), type, methodName).newBuilder();
+        if (null != query) {
+            builder.encodedQuery(query);
+        }
+        return new UrlTemplate(type, methodName, builder.build(), segments.toArray(new String[0]),
+                segmentArgs.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * 生成请求地址
+     *
+     * @param args 方法参数
+     * @return
+     */
+    HttpUrl expand(Object[] args) {
+        if (null == segments) {
+            return base;
+        }
+        HttpUrl.Builder builder = base.newBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            int index = segmentArgs[i];
+            if (LITERAL == index) {
+                builder.addEncodedPathSegment(segments[i]);
+                continue;
+            }
+            if (null == args[index]) {
+                throw new HttpClientException(String.format("path param [%s] can not be null!", segments[i]), type, methodName);
+            }
+            builder.addPathSegment(args[index].toString());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 解析地址，与 {@link okhttp3.Request.Builder#url(String)} 一致，ws 地址转换为 http 地址
+     */
+    private static HttpUrl parse(String url, Class<?> type, String methodName) {
+        if (url.regionMatches(true, 0, "ws:", 0, 3)) {
+            url = "http:" + url.substring(3);
+        } else if (url.regionMatches(true, 0, "wss:", 0, 4)) {
+            url = "https:" + url.substring(4);
+        }
+        HttpUrl httpUrl = HttpUrl.parse(url);
+        if (null == httpUrl) {
+            throw new HttpClientException(String.format("url [%s] is invalid!", url), type, methodName);
+        }
+        return httpUrl;
+    }
+}
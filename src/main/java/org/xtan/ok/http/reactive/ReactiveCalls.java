@@ -0,0 +1,211 @@
+package org.xtan.ok.http.reactive;
+
+import com.alibaba.fastjson.JSON;
+import com.alibaba.fastjson.JSONReader;
+import com.alibaba.fastjson.parser.DefaultJSONParser;
+import com.alibaba.fastjson.parser.JSONReaderScanner;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.BufferedSource;
+import org.jetbrains.annotations.NotNull;
+import org.xtan.ok.http.PreparedRequest;
+import org.xtan.ok.http.async.CallFuture;
+import org.xtan.ok.http.interceptor.LogInterceptor;
+import org.xtan.ok.http.utils.FastJSONParserConfig;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SynchronousSink;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
+/**
+ * Reactor 返回值的请求执行
+ * <p>
+ * 只有 HttpClient 的方法返回 {@link Mono} 或 {@link Flux} 时才会加载，Reactor 为可选依赖。
+ * 每次订阅创建一个新的请求，通过 {@link Call#enqueue(Callback)} 执行，取消订阅时同时取消请求。
+ * {@link Flux} 按照下游的请求数量逐个读取响应内容中的元素，响应内容为 json 数组时逐个解析数组元素，
+ * 否则按行解析(NDJSON)，okhttp 读取响应内容是阻塞的，读取在 {@link Schedulers#boundedElastic()} 中执行
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class ReactiveCalls {
+
+    public static final String MONO = "reactor.core.publisher.Mono";
+
+    public static final String FLUX = "reactor.core.publisher.Flux";
+
+    private ReactiveCalls() {
+    }
+
+    /**
+     * 执行请求并解码响应内容，解码结果为空时不发出元素
+     *
+     * @param prepared 预编译的请求
+     * @param decoder  响应内容解码器
+     * @param executor 解码使用的线程池
+     * @return
+     */
+    public static <T> Mono<T> mono(PreparedRequest prepared, Function<String, ? extends T> decoder, Executor executor) {
+        return Mono.create(sink -> {
+            CallFuture<T> future = CallFuture.enqueue(prepared.client(), prepared.newCall(), decoder, executor);
+            sink.onCancel(() -> future.cancel(true));
+            future.whenComplete((value, e) -> {
+                if (null != e) sink.error(e);
+                else sink.success(value);
+            });
+        });
+    }
+
+    /**
+     * 执行请求并按照下游的请求数量逐个解码响应内容中的元素
+     *
+     * @param prepared    预编译的请求
+     * @param elementType 元素类型
+     * @return
+     */
+    public static <T> Flux<T> flux(PreparedRequest prepared, Type elementType) {
+        return Mono.<BodyReader<T>>create(sink -> {
+                    //标记为流式读取，日志拦截器不缓冲响应内容
+                    Request request = prepared.request().newBuilder().tag(LogInterceptor.Streaming.class, LogInterceptor.Streaming.INSTANCE).build();
+                    Call call = prepared.client().newCall(request);
+                    sink.onCancel(call::cancel);
+                    call.enqueue(new Callback() {
+                        @Override
+                        public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                            sink.error(e);
+                        }
+
+                        @Override
+                        public void onResponse(@NotNull Call call, @NotNull Response response) {
+                            sink.success(new BodyReader<>(call, response, elementType));
+                        }
+                    });
+                })
+                //响应到达时订阅已经取消，关闭响应
+                .doOnDiscard(BodyReader.class, BodyReader::close)
+                .flatMapMany(reader -> Flux.generate(() -> reader, BodyReader<T>::next, BodyReader::close)
+                        .subscribeOn(Schedulers.boundedElastic()));
+    }
+
+    /**
+     * 逐个读取响应内容中的元素
+     */
+    private static final class BodyReader<T> {
+
+        private final Call call;
+
+        private final Response response;
+
+        private final Type elementType;
+
+        private BufferedSource source;
+
+        /**
+         * 响应内容为 json 数组时的解析器，按行解析时为空
+         */
+        private JSONReader arrayReader;
+
+        /**
+         * 响应内容是否已经读取完成
+         */
+        private boolean completed;
+
+        private BodyReader(Call call, Response response, Type elementType) {
+            this.call = call;
+            this.response = response;
+            this.elementType = elementType;
+        }
+
+        @SuppressWarnings("unchecked")
+        BodyReader<T> next(SynchronousSink<T> sink) {
+            try {
+                if (null == source && !open()) {
+                    completed = true;
+                    sink.complete();
+                    return this;
+                }
+                if (null != arrayReader) {
+                    while (arrayReader.hasNext()) {
+                        T value = arrayReader.readObject(elementType);
+                        if (null != value) {
+                            sink.next(value);
+                            return this;
+                        }
+                    }
+                    arrayReader.endArray();
+                    completed = true;
+                    sink.complete();
+                    return this;
+                }
+                String line;
+                while (null != (line = source.readUtf8Line())) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    T value = String.class == elementType ? (T) line : JSON.parseObject(line, elementType, FastJSONParserConfig.config());
+                    if (null != value) {
+                        sink.next(value);
+                        return this;
+                    }
+                }
+                completed = true;
+                sink.complete();
+            } catch (Exception e) {
+                sink.error(e);
+            }
+            return this;
+        }
+
+        /**
+         * 根据响应内容的第一个非空白字符选择解析方式，响应内容为空时返回 false
+         */
+        private boolean open() throws IOException {
+            ResponseBody body = response.body();
+            if (null == body) {
+                return false;
+            }
+            source = body.source();
+            MediaType contentType = body.contentType();
+            if (null != contentType && contentType.subtype().contains("ndjson")) {
+                return true;
+            }
+            while (source.request(1)) {
+                byte b = source.getBuffer().getByte(0);
+                if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+                    source.skip(1);
+                    continue;
+                }
+                if (b == '[') {
+                    arrayReader = new JSONReader(new DefaultJSONParser(
+                            new JSONReaderScanner(new InputStreamReader(source.inputStream(), StandardCharsets.UTF_8)),
+                            FastJSONParserConfig.config()));
+                    arrayReader.startArray();
+                }
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * 关闭响应，未读取完成(取消订阅或解析失败)时同时取消请求
+         */
+        void close() {
+            response.close();
+            if (!completed) {
+                call.cancel();
+            }
+        }
+    }
+}
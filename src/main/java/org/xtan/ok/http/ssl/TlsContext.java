@@ -0,0 +1,181 @@
+package org.xtan.ok.http.ssl;
+
+import okhttp3.OkHttpClient;
+import okhttp3.internal.tls.OkHostnameVerifier;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.util.ResourceUtils;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.ssl.provider.TlsProvider;
+import org.xtan.ok.http.ssl.provider.TlsProviders;
+import org.xtan.ok.http.utils.SSLUtil;
+
+import javax.net.ssl.*;
+import java.io.InputStream;
+import java.security.KeyStore;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * TLS 上下文
+ * <p>
+ * 每个连接配置只构建一次，client 共享同一个 {@link SSLContext}，
+ * 从而共享会话缓存，后续的连接可以复用会话，避免完整的握手
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class TlsContext {
+
+    private final String provider;
+
+    private final SSLContext sslContext;
+
+    private final X509TrustManager trustManager;
+
+    private final HostnameVerifier hostnameVerifier;
+
+    private final SSLSocketFactory socketFactory;
+
+    private final TlsStats stats;
+
+    private TlsContext(String provider, SSLContext sslContext, X509TrustManager trustManager,
+                       HostnameVerifier hostnameVerifier, TlsStats stats) {
+        this.provider = provider;
+        this.sslContext = sslContext;
+        this.trustManager = trustManager;
+        this.hostnameVerifier = hostnameVerifier;
+        this.socketFactory = sslContext.getSocketFactory();
+        this.stats = stats;
+    }
+
+    /**
+     * 默认配置(信任所有证书)的共享 TLS 上下文
+     *
+     * @return
+     */
+    public static TlsContext defaults() {
+        return DefaultHolder.CONTEXT;
+    }
+
+    /**
+     * 根据配置构建 TLS 上下文
+     *
+     * @param options TLS 配置
+     * @return
+     */
+    public static TlsContext create(TlsOptions options) {
+        try {
+            X509TrustManager trustManager = options.trustAll()
+                    ? new SSLUtil.TrustAllManager()
+                    : trustManager(options);
+            KeyManager[] keyManagers = keyManagers(options);
+            TlsProvider provider = TlsProviders.get(options.provider());
+            SSLContext sslContext = provider.newContext(options.protocol());
+            //通过证书校验次数统计完整握手次数
+            TlsStats stats = new TlsStats();
+            sslContext.init(keyManagers, new TrustManager[]{new MonitoredTrustManager(trustManager, stats)}, new SecureRandom());
+            //会话缓存
+            SSLSessionContext sessionContext = sslContext.getClientSessionContext();
+            if (null != options.sessionCacheSize()) sessionContext.setSessionCacheSize(options.sessionCacheSize());
+            if (null != options.sessionTimeout()) sessionContext.setSessionTimeout(options.sessionTimeout());
+            HostnameVerifier hostnameVerifier = options.trustAll()
+                    ? new SSLUtil.TrustAllHostnameVerifier()
+                    : OkHostnameVerifier.INSTANCE;
+            //通过创建的 SSLSocket、SSLEngine 统计 TLS 连接数
+            return new TlsContext(provider.name(), new MonitoredSSLContext(sslContext, stats), trustManager, hostnameVerifier, stats);
+        } catch (HttpClientException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new HttpClientException("failed to create tls context!", e);
+        }
+    }
+
+    /**
+     * 将 TLS 上下文应用到 client 上
+     *
+     * @param builder client 构建器
+     */
+    public void apply(OkHttpClient.Builder builder) {
+        builder.sslSocketFactory(socketFactory, trustManager)
+                .hostnameVerifier(hostnameVerifier);
+    }
+
+    /**
+     * 实际使用的 TLS 实现名称
+     *
+     * @return
+     */
+    public String provider() {
+        return provider;
+    }
+
+    public SSLContext sslContext() {
+        return sslContext;
+    }
+
+    public SSLSocketFactory socketFactory() {
+        return socketFactory;
+    }
+
+    public X509TrustManager trustManager() {
+        return trustManager;
+    }
+
+    public HostnameVerifier hostnameVerifier() {
+        return hostnameVerifier;
+    }
+
+    /**
+     * 握手统计
+     *
+     * @return
+     */
+    public TlsStats stats() {
+        return stats;
+    }
+
+    /**
+     * 加载信任证书库，未配置时使用系统默认的证书库
+     */
+    private static X509TrustManager trustManager(TlsOptions options) throws Exception {
+        KeyStore keyStore = StringUtils.isBlank(options.trustStore())
+                ? null
+                : loadKeyStore(options.trustStore(), options.trustStoreType(), options.trustStorePassword());
+        TrustManagerFactory factory = TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore);
+        return Arrays.stream(factory.getTrustManagers())
+                .filter(it -> it instanceof X509TrustManager)
+                .map(it -> (X509TrustManager) it)
+                .findFirst()
+                .orElseThrow(() -> new HttpClientException("no X509TrustManager found!"));
+    }
+
+    /**
+     * 加载客户端证书库
+     */
+    private static KeyManager[] keyManagers(TlsOptions options) throws Exception {
+        if (StringUtils.isBlank(options.keyStore())) {
+            return null;
+        }
+        KeyStore keyStore = loadKeyStore(options.keyStore(), options.keyStoreType(), options.keyStorePassword());
+        KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        factory.init(keyStore, null == options.keyStorePassword() ? null : options.keyStorePassword().toCharArray());
+        return factory.getKeyManagers();
+    }
+
+    /**
+     * 默认的 TLS 上下文，首次使用时构建
+     */
+    private static class DefaultHolder {
+        private static final TlsContext CONTEXT = create(new TlsOptions());
+    }
+
+    private static KeyStore loadKeyStore(String location, String type, String password) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance(StringUtils.isNotBlank(type) ? type : KeyStore.getDefaultType());
+        try (InputStream stream = ResourceUtils.getURL(location).openStream()) {
+            keyStore.load(stream, null == password ? null : password.toCharArray());
+        }
+        return keyStore;
+    }
+}
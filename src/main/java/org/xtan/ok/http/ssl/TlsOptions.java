@@ -0,0 +1,170 @@
+package org.xtan.ok.http.ssl;
+
+import org.xtan.ok.http.ssl.provider.JsseTlsProvider;
+
+/**
+ * TLS 配置
+ * <p>
+ * 默认信任所有的证书，与原有行为保持一致
+ * 配置了 trustStore 并且关闭 trustAll 后使用证书认证
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class TlsOptions {
+
+    /**
+     * 是否信任所有的证书
+     */
+    private boolean trustAll = true;
+
+    /**
+     * TLS 实现
+     *
+     * @see org.xtan.ok.http.ssl.provider.TlsProviders
+     */
+    private String provider = JsseTlsProvider.NAME;
+
+    /**
+     * SSLContext 协议
+     */
+    private String protocol = "TLS";
+
+    /**
+     * 信任证书库地址，支持 classpath: 与 file: 前缀
+     */
+    private String trustStore;
+
+    private String trustStorePassword;
+
+    private String trustStoreType;
+
+    /**
+     * 客户端证书库地址，支持 classpath: 与 file: 前缀
+     */
+    private String keyStore;
+
+    private String keyStorePassword;
+
+    private String keyStoreType;
+
+    /**
+     * 会话缓存数量
+     */
+    private Integer sessionCacheSize;
+
+    /**
+     * 会话缓存超时时间(秒)
+     */
+    private Integer sessionTimeout;
+
+    /**
+     * 是否为默认配置
+     *
+     * @return
+     */
+    public boolean isDefault() {
+        return trustAll && JsseTlsProvider.NAME.equals(provider) && "TLS".equals(protocol) && null == trustStore && null == keyStore
+                && null == sessionCacheSize && null == sessionTimeout;
+    }
+
+    public boolean trustAll() {
+        return trustAll;
+    }
+
+    public TlsOptions trustAll(boolean trustAll) {
+        this.trustAll = trustAll;
+        return this;
+    }
+
+    public String provider() {
+        return provider;
+    }
+
+    public TlsOptions provider(String provider) {
+        this.provider = provider;
+        return this;
+    }
+
+    public String protocol() {
+        return protocol;
+    }
+
+    public TlsOptions protocol(String protocol) {
+        this.protocol = protocol;
+        return this;
+    }
+
+    public String trustStore() {
+        return trustStore;
+    }
+
+    public TlsOptions trustStore(String trustStore) {
+        this.trustStore = trustStore;
+        return this;
+    }
+
+    public String trustStorePassword() {
+        return trustStorePassword;
+    }
+
+    public TlsOptions trustStorePassword(String trustStorePassword) {
+        this.trustStorePassword = trustStorePassword;
+        return this;
+    }
+
+    public String trustStoreType() {
+        return trustStoreType;
+    }
+
+    public TlsOptions trustStoreType(String trustStoreType) {
+        this.trustStoreType = trustStoreType;
+        return this;
+    }
+
+    public String keyStore() {
+        return keyStore;
+    }
+
+    public TlsOptions keyStore(String keyStore) {
+        this.keyStore = keyStore;
+        return this;
+    }
+
+    public String keyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public TlsOptions keyStorePassword(String keyStorePassword) {
+        this.keyStorePassword = keyStorePassword;
+        return this;
+    }
+
+    public String keyStoreType() {
+        return keyStoreType;
+    }
+
+    public TlsOptions keyStoreType(String keyStoreType) {
+        this.keyStoreType = keyStoreType;
+        return this;
+    }
+
+    public Integer sessionCacheSize() {
+        return sessionCacheSize;
+    }
+
+    public TlsOptions sessionCacheSize(Integer sessionCacheSize) {
+        this.sessionCacheSize = sessionCacheSize;
+        return this;
+    }
+
+    public Integer sessionTimeout() {
+        return sessionTimeout;
+    }
+
+    public TlsOptions sessionTimeout(Integer sessionTimeout) {
+        this.sessionTimeout = sessionTimeout;
+        return this;
+    }
+}
@@ -0,0 +1,76 @@
+package org.xtan.ok.http.ssl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TLS 握手统计
+ * 复用会话的连接不会进行完整握手，完整握手次数远小于新建连接数时说明会话复用生效
+ * 握手失败(例如协议不匹配)的连接也会计入握手次数，复用次数为近似值
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class TlsStats {
+
+    /**
+     * 握手次数，即新建的 TLS 连接数
+     */
+    private final AtomicLong handshakes = new AtomicLong();
+
+    /**
+     * 完整握手次数
+     */
+    private final AtomicLong fullHandshakes = new AtomicLong();
+
+    void connect() {
+        handshakes.incrementAndGet();
+    }
+
+    void record() {
+        fullHandshakes.incrementAndGet();
+    }
+
+    /**
+     * 握手次数，即新建的 TLS 连接数
+     *
+     * @return
+     */
+    public long handshakes() {
+        return handshakes.get();
+    }
+
+    /**
+     * 完整握手次数，即服务端证书的校验次数
+     *
+     * @return
+     */
+    public long fullHandshakes() {
+        return fullHandshakes.get();
+    }
+
+    /**
+     * 复用会话的握手次数
+     *
+     * @return
+     */
+    public long resumedHandshakes() {
+        long full = fullHandshakes();
+        return Math.max(0, handshakes() - full);
+    }
+
+    /**
+     * 会话复用率，没有握手时为 0
+     *
+     * @return
+     */
+    public double resumptionRate() {
+        long total = handshakes();
+        return 0 == total ? 0 : Math.min(1, (double) Math.max(0, total - fullHandshakes()) / total);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TlsStats[handshakes=%s, fullHandshakes=%s, resumedHandshakes=%s, resumptionRate=%.2f]",
+                handshakes(), fullHandshakes(), resumedHandshakes(), resumptionRate());
+    }
+}
@@ -0,0 +1,61 @@
+package org.xtan.ok.http.ssl.provider;
+
+import org.conscrypt.Conscrypt;
+
+import javax.net.ssl.SSLContext;
+import java.security.NoSuchAlgorithmException;
+import java.security.Provider;
+
+/**
+ * 基于 Conscrypt(BoringSSL) 的 TLS 实现
+ * <p>
+ * 握手与加解密由 BoringSSL 完成，CPU 开销低于 JDK 默认实现
+ * 需要引入 org.conscrypt:conscrypt-openjdk-uber 依赖
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class ConscryptTlsProvider implements TlsProvider {
+
+    public static final String NAME = "conscrypt";
+
+    /**
+     * 不注册到全局的 Security 中，只有选择了当前实现的 client 才会使用
+     */
+    private volatile Provider provider;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        try {
+            return Conscrypt.isAvailable();
+        } catch (Throwable e) {
+            //本地库加载失败
+            return false;
+        }
+    }
+
+    @Override
+    public SSLContext newContext(String protocol) throws NoSuchAlgorithmException {
+        return SSLContext.getInstance(protocol, provider());
+    }
+
+    private Provider provider() {
+        Provider it = provider;
+        if (null == it) {
+            synchronized (this) {
+                it = provider;
+                if (null == it) {
+                    it = Conscrypt.newProvider();
+                    provider = it;
+                }
+            }
+        }
+        return it;
+    }
+}
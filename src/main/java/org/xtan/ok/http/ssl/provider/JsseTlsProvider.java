@@ -0,0 +1,30 @@
+package org.xtan.ok.http.ssl.provider;
+
+import javax.net.ssl.SSLContext;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * JDK 默认的 TLS 实现
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class JsseTlsProvider implements TlsProvider {
+
+    public static final String NAME = "jsse";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public SSLContext newContext(String protocol) throws NoSuchAlgorithmException {
+        return SSLContext.getInstance(protocol);
+    }
+}
@@ -0,0 +1,41 @@
+package org.xtan.ok.http.ssl.provider;
+
+import javax.net.ssl.SSLContext;
+import java.security.GeneralSecurityException;
+
+/**
+ * TLS 实现的扩展点
+ * <p>
+ * 内置 jsse 与 conscrypt 两种实现，其他实现可以通过
+ * META-INF/services/org.xtan.ok.http.ssl.provider.TlsProvider 进行注册
+ * 通过 ok.http.clients.{name}.ssl.provider 选择实现
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public interface TlsProvider {
+
+    /**
+     * 实现名称
+     *
+     * @return
+     */
+    String name();
+
+    /**
+     * 当前运行环境是否可用
+     *
+     * @return
+     */
+    boolean isAvailable();
+
+    /**
+     * 创建未初始化的 SSLContext
+     *
+     * @param protocol 协议
+     * @return
+     * @throws GeneralSecurityException
+     */
+    SSLContext newContext(String protocol) throws GeneralSecurityException;
+}
@@ -0,0 +1,67 @@
+package org.xtan.ok.http.ssl.provider;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * TLS 实现的注册中心
+ * 指定的实现不存在或者在当前环境不可用时，回退到 jsse
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class TlsProviders {
+
+    private static final Logger log = LoggerFactory.getLogger(TlsProviders.class);
+
+    private static final Map<String, TlsProvider> PROVIDERS = new ConcurrentHashMap<>();
+
+    private static final TlsProvider JSSE = new JsseTlsProvider();
+
+    static {
+        register(JSSE);
+        //conscrypt 为可选依赖
+        if (ClassUtils.isPresent("org.conscrypt.Conscrypt", TlsProviders.class.getClassLoader())) {
+            register(new ConscryptTlsProvider());
+        }
+        for (TlsProvider provider : ServiceLoader.load(TlsProvider.class, TlsProviders.class.getClassLoader())) {
+            register(provider);
+        }
+    }
+
+    /**
+     * 注册 TLS 实现
+     *
+     * @param provider TLS 实现
+     */
+    public static void register(TlsProvider provider) {
+        PROVIDERS.put(provider.name(), provider);
+    }
+
+    /**
+     * 根据名称获取可用的 TLS 实现
+     *
+     * @param name 实现名称
+     * @return
+     */
+    public static TlsProvider get(String name) {
+        if (null == name || JsseTlsProvider.NAME.equals(name)) {
+            return JSSE;
+        }
+        TlsProvider provider = PROVIDERS.get(name);
+        if (null == provider) {
+            log.warn("tls provider [{}] is not found, fallback to {}", name, JsseTlsProvider.NAME);
+            return JSSE;
+        }
+        if (!provider.isAvailable()) {
+            log.warn("tls provider [{}] is not available, fallback to {}", name, JsseTlsProvider.NAME);
+            return JSSE;
+        }
+        return provider;
+    }
+}
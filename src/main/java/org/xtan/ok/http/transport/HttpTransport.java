@@ -0,0 +1,75 @@
+package org.xtan.ok.http.transport;
+
+import okhttp3.Call;
+import okhttp3.Request;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 发送 http 请求的传输层
+ * <p>
+ * 请求与响应统一使用 okhttp 的模型，OkHttp 的应用拦截器(日志、gzip 等)在传输层之前执行，
+ * 传输层只负责把请求发送出去并返回响应
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ * @see HttpTransportProvider
+ */
+public interface HttpTransport {
+
+    /**
+     * 传输层名称
+     *
+     * @return
+     */
+    String name();
+
+    /**
+     * 同步发送请求
+     *
+     * @param request 请求
+     * @return 响应，调用方负责关闭
+     * @throws IOException
+     */
+    Response execute(Request request) throws IOException;
+
+    /**
+     * 同步发送请求，请求被取消(例如异步请求的 cancel 或批量请求的截止时间)时应当中断发送
+     * 默认只在发送前检查是否取消
+     *
+     * @param call    okhttp 的请求
+     * @param request 请求
+     * @return 响应，调用方负责关闭
+     * @throws IOException
+     */
+    default Response execute(Call call, Request request) throws IOException {
+        if (call.isCanceled()) {
+            throw new IOException("Canceled");
+        }
+        return execute(request);
+    }
+
+    /**
+     * 异步发送请求，不经过 okhttp 的调度器，等待响应期间不占用任何线程
+     * 只在 {@link TransportInterceptor#executeAsync(okhttp3.OkHttpClient, Call)} 中调用，
+     * 请求已经应用了内置的拦截器，返回的响应内容已经完整读取
+     *
+     * @param call    okhttp 的请求，只用于接收取消事件，不会被执行
+     * @param request 请求
+     * @return 不支持异步发送的请求返回 null，由 okhttp 的调度器执行
+     */
+    default CompletableFuture<Response> executeAsync(Call call, Request request) {
+        return null;
+    }
+
+    /**
+     * okhttp 的请求被取消时由 {@link TransportInterceptor#eventListener()} 回调，中断正在发送的请求
+     *
+     * @param call okhttp 的请求
+     */
+    default void cancel(Call call) {
+    }
+}
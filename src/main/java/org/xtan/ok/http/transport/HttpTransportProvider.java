@@ -0,0 +1,41 @@
+package org.xtan.ok.http.transport;
+
+import okhttp3.OkHttpClient;
+import org.xtan.ok.http.ssl.TlsContext;
+
+/**
+ * 传输层的扩展点
+ * <p>
+ * 内置 okhttp 与 jdk(java.net.http.HttpClient，需要 Java 11+)两种实现，其他实现可以通过
+ * META-INF/services/org.xtan.ok.http.transport.HttpTransportProvider 进行注册
+ * 通过 ok.http.clients.{name}.transport 选择实现
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public interface HttpTransportProvider {
+
+    /**
+     * 实现名称
+     *
+     * @return
+     */
+    String name();
+
+    /**
+     * 当前运行环境是否可用
+     *
+     * @return
+     */
+    boolean isAvailable();
+
+    /**
+     * 创建传输层
+     *
+     * @param client 已经应用了连接配置的 client，超时、协议、重定向与代理等配置从中读取
+     * @param tls    TLS 上下文
+     * @return
+     */
+    HttpTransport create(OkHttpClient client, TlsContext tls);
+}
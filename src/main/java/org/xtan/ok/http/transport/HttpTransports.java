@@ -0,0 +1,80 @@
+package org.xtan.ok.http.transport;
+
+import okhttp3.OkHttpClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xtan.ok.http.ssl.TlsContext;
+
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 传输层实现的注册中心
+ * 指定的实现不存在或者在当前环境不可用时，回退到 okhttp
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpTransports {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpTransports.class);
+
+    /**
+     * okhttp 自身的传输层，不需要额外的实现
+     */
+    public static final String OKHTTP = "okhttp";
+
+    /**
+     * java.net.http.HttpClient 实现的类名，只在 Java 11+ 编译
+     */
+    private static final String JDK_PROVIDER = "org.xtan.ok.http.transport.jdk.JdkHttpTransportProvider";
+
+    private static final Map<String, HttpTransportProvider> PROVIDERS = new ConcurrentHashMap<>();
+
+    static {
+        //jdk 实现在 Java 8 中不存在或者无法加载
+        try {
+            register((HttpTransportProvider) Class.forName(JDK_PROVIDER, true, HttpTransports.class.getClassLoader())
+                    .getDeclaredConstructor().newInstance());
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.debug("jdk http transport is not available: {}", e.toString());
+        }
+        for (HttpTransportProvider provider : ServiceLoader.load(HttpTransportProvider.class, HttpTransports.class.getClassLoader())) {
+            register(provider);
+        }
+    }
+
+    /**
+     * 注册传输层实现
+     *
+     * @param provider 传输层实现
+     */
+    public static void register(HttpTransportProvider provider) {
+        PROVIDERS.put(provider.name(), provider);
+    }
+
+    /**
+     * 根据名称创建可用的传输层
+     *
+     * @param name   实现名称
+     * @param client 已经应用了连接配置的 client
+     * @param tls    TLS 上下文
+     * @return 使用 okhttp 自身的传输层时返回 null
+     */
+    public static HttpTransport create(String name, OkHttpClient client, TlsContext tls) {
+        if (null == name || OKHTTP.equals(name)) {
+            return null;
+        }
+        HttpTransportProvider provider = PROVIDERS.get(name);
+        if (null == provider) {
+            log.warn("http transport [{}] is not found, fallback to {}", name, OKHTTP);
+            return null;
+        }
+        if (!provider.isAvailable()) {
+            log.warn("http transport [{}] is not available, fallback to {}", name, OKHTTP);
+            return null;
+        }
+        return provider.create(client, tls);
+    }
+}
@@ -0,0 +1,108 @@
+package org.xtan.ok.http.transport;
+
+import okhttp3.Call;
+import okhttp3.EventListener;
+import okhttp3.Interceptor;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.xtan.ok.http.interceptor.GzipRequestInterceptor;
+import org.xtan.ok.http.interceptor.LogInterceptor;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 把请求交给其他传输层的拦截器
+ * <p>
+ * 必须是最后一个应用拦截器，之后 okhttp 的重试、连接与网络拦截器都不会执行，
+ * 之前的拦截器(日志、gzip 等)对所有的传输层都生效。
+ * 同时通过 {@link #eventListener()} 接收 okhttp 请求的取消事件，转交给传输层中断发送
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class TransportInterceptor implements Interceptor {
+
+    private final HttpTransport transport;
+
+    private final EventListener eventListener;
+
+    public TransportInterceptor(HttpTransport transport) {
+        this.transport = transport;
+        this.eventListener = new EventListener() {
+            @Override
+            public void canceled(@NotNull Call call) {
+                transport.cancel(call);
+            }
+        };
+    }
+
+    public HttpTransport transport() {
+        return transport;
+    }
+
+    /**
+     * 把 okhttp 请求的取消事件转交给传输层的监听器，需要与拦截器一起设置到 client 上
+     *
+     * @return
+     */
+    public EventListener eventListener() {
+        return eventListener;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        return transport.execute(chain.call(), chain.request());
+    }
+
+    /**
+     * 不经过 okhttp 调度器异步发送请求
+     * <p>
+     * 只有 client 的最后一个拦截器为传输层拦截器，并且之前只有内置的 gzip 与日志拦截器时才会异步发送，
+     * 内置拦截器的处理在这里按照原来的顺序执行；存在自定义拦截器时需要同步执行拦截器链，仍然由调度器执行
+     * </p>
+     *
+     * @param client 发送请求的 client
+     * @param call   okhttp 的请求，只用于接收取消事件，不会被执行
+     * @return 不能异步发送时返回 null
+     */
+    public static CompletableFuture<Response> executeAsync(OkHttpClient client, Call call) {
+        List<Interceptor> interceptors = client.interceptors();
+        if (interceptors.isEmpty() || !(interceptors.get(interceptors.size() - 1) instanceof TransportInterceptor)) {
+            return null;
+        }
+        Request request = call.request();
+        LogInterceptor logger = null;
+        for (int i = 0; i < interceptors.size() - 1; i++) {
+            Interceptor interceptor = interceptors.get(i);
+            if (interceptor instanceof GzipRequestInterceptor) {
+                request = GzipRequestInterceptor.compress(request);
+            } else if (interceptor instanceof LogInterceptor && null == logger) {
+                logger = (LogInterceptor) interceptor;
+            } else {
+                return null;
+            }
+        }
+        HttpTransport transport = ((TransportInterceptor) interceptors.get(interceptors.size() - 1)).transport;
+        long startTime = System.currentTimeMillis();
+        CompletableFuture<Response> future = transport.executeAsync(call, request);
+        if (null == future || null == logger) {
+            return future;
+        }
+        LogInterceptor log = logger;
+        Request logged = request;
+        return future.thenApply(response -> {
+            try {
+                return log.log(logged, response, startTime);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,359 @@
+package org.xtan.ok.http.transport.jdk;
+
+import okhttp3.Call;
+import okhttp3.Headers;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ForwardingSource;
+import okio.Okio;
+import okio.Pipe;
+import okio.Source;
+import org.xtan.ok.http.exception.HttpClientException;
+import org.xtan.ok.http.ssl.TlsContext;
+import org.xtan.ok.http.transport.HttpTransport;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.ProxySelector;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 基于 java.net.http.HttpClient 的传输层
+ * <p>
+ * 使用 jdk 自带的非阻塞 io 与 http/2 实现，配置从 okhttp 的 client 中读取：
+ * 连接超时、协议、重定向、代理(ProxySelector)与 TLS 上下文，请求超时优先使用 callTimeout，其次为 readTimeout。
+ * 信任所有证书时 TLS 上下文同时跳过主机名校验，与 okhttp 传输层一致。
+ * http/2 只用于 https，明文请求始终使用 http/1.1，不支持 h2c(prior knowledge)。
+ * 请求通过 sendAsync 发送，okhttp 的请求被取消时由取消事件中断 jdk 的请求与响应流(jdk 16+ 才会关闭连接)。
+ * 已知长度并且不超过 {@link #BUFFERED_BODY_SIZE} 的请求体直接缓冲，其他请求体在调用线程中流式写入。
+ * 请求体可以直接缓冲的异步请求不经过 okhttp 的调度器，等待响应期间不占用线程
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class JdkHttpTransport implements HttpTransport {
+
+    /**
+     * jdk 不允许设置的请求头，由 jdk 自行处理
+     */
+    private static final Set<String> RESTRICTED_HEADERS = Set.of("connection", "content-length", "expect", "host", "upgrade", "transfer-encoding");
+
+    /**
+     * 直接缓冲的请求体大小上限，同时也是流式写入时管道的缓冲大小
+     */
+    static final long BUFFERED_BODY_SIZE = 64 * 1024;
+
+    private final HttpClient client;
+
+    private final Duration timeout;
+
+    /**
+     * 发送中的请求被取消时的操作，由 okhttp 的取消事件触发
+     */
+    private final Map<Call, Runnable> cancellations = new ConcurrentHashMap<>();
+
+    public JdkHttpTransport(OkHttpClient okHttpClient, TlsContext tls) {
+        List<Protocol> protocols = okHttpClient.protocols();
+        if (protocols.contains(Protocol.H2_PRIOR_KNOWLEDGE)) {
+            throw new HttpClientException("h2c(prior knowledge) is not supported by the jdk transport, use the okhttp transport instead!");
+        }
+        HttpClient.Builder builder = HttpClient.newBuilder()
+                .version(protocols.contains(Protocol.HTTP_2) ? HttpClient.Version.HTTP_2 : HttpClient.Version.HTTP_1_1)
+                .followRedirects(okHttpClient.followRedirects() ? HttpClient.Redirect.NORMAL : HttpClient.Redirect.NEVER)
+                .sslContext(tls.sslContext());
+        if (okHttpClient.connectTimeoutMillis() > 0) {
+            builder.connectTimeout(Duration.ofMillis(okHttpClient.connectTimeoutMillis()));
+        }
+        //固定代理优先，其次为 okhttp 的 ProxySelector(默认为系统的 ProxySelector)
+        Proxy proxy = okHttpClient.proxy();
+        if (null == proxy) {
+            builder.proxy(okHttpClient.proxySelector());
+        } else if (Proxy.Type.DIRECT == proxy.type()) {
+            builder.proxy(HttpClient.Builder.NO_PROXY);
+        } else if (proxy.address() instanceof InetSocketAddress) {
+            builder.proxy(ProxySelector.of((InetSocketAddress) proxy.address()));
+        }
+        this.client = builder.build();
+        long timeout = okHttpClient.callTimeoutMillis() > 0 ? okHttpClient.callTimeoutMillis() : okHttpClient.readTimeoutMillis();
+        this.timeout = timeout > 0 ? Duration.ofMillis(timeout) : null;
+    }
+
+    @Override
+    public String name() {
+        return JdkHttpTransportProvider.NAME;
+    }
+
+    /**
+     * jdk 的 client
+     *
+     * @return
+     */
+    public HttpClient client() {
+        return client;
+    }
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        return execute(null, request);
+    }
+
+    @Override
+    public Response execute(Call call, Request request) throws IOException {
+        if (null != call && call.isCanceled()) {
+            throw new IOException("Canceled");
+        }
+        long sentAt = System.currentTimeMillis();
+        HttpRequest.Builder builder = toJdkRequest(request);
+        RequestBody body = request.body();
+        CompletableFuture<HttpResponse<InputStream>> future;
+        if (null == body || isBuffered(body)) {
+            future = client.sendAsync(builder.method(request.method(), bufferedPublisher(body)).build(), HttpResponse.BodyHandlers.ofInputStream());
+            onCancel(call, () -> future.cancel(true));
+        } else {
+            //流式写入：jdk 从管道中读取，调用线程写入请求体，响应返回后(包括提前返回的错误响应)关闭管道
+            Pipe pipe = new Pipe(BUFFERED_BODY_SIZE);
+            HttpRequest.BodyPublisher publisher = HttpRequest.BodyPublishers.ofInputStream(() -> Okio.buffer(pipe.source()).inputStream());
+            long contentLength = body.contentLength();
+            if (contentLength >= 0) {
+                publisher = HttpRequest.BodyPublishers.fromPublisher(publisher, contentLength);
+            }
+            future = client.sendAsync(builder.method(request.method(), publisher).build(), HttpResponse.BodyHandlers.ofInputStream());
+            future.whenComplete((response, e) -> pipe.cancel());
+            //取消时中断写入
+            onCancel(call, () -> {
+                pipe.cancel();
+                future.cancel(true);
+            });
+            try (BufferedSink sink = Okio.buffer(pipe.sink())) {
+                body.writeTo(sink);
+            } catch (IOException e) {
+                if (!future.isDone()) {
+                    future.cancel(true);
+                    done(call);
+                    throw null != call && call.isCanceled() ? new IOException("Canceled", e) : e;
+                }
+            }
+        }
+        return toResponse(call, request, await(call, future), sentAt);
+    }
+
+    /**
+     * 异步发送，jdk 在自己的线程中完成发送并读取完整的响应内容，等待期间不占用任何线程
+     * 只支持不需要流式写入的请求体，其他请求返回 null，由 okhttp 的调度器同步执行
+     */
+    @Override
+    public CompletableFuture<Response> executeAsync(Call call, Request request) {
+        CompletableFuture<Response> result = new CompletableFuture<>();
+        RequestBody body = request.body();
+        HttpRequest jdkRequest;
+        try {
+            if (null != body && !isBuffered(body)) {
+                return null;
+            }
+            if (call.isCanceled()) {
+                throw new IOException("Canceled");
+            }
+            jdkRequest = toJdkRequest(request).method(request.method(), bufferedPublisher(body)).build();
+        } catch (IOException e) {
+            result.completeExceptionally(e);
+            return result;
+        }
+        long sentAt = System.currentTimeMillis();
+        CompletableFuture<HttpResponse<byte[]>> future = client.sendAsync(jdkRequest, HttpResponse.BodyHandlers.ofByteArray());
+        onCancel(call, () -> future.cancel(true));
+        future.whenComplete((response, e) -> {
+            done(call);
+            if (null == e) {
+                String contentType = response.headers().firstValue("Content-Type").orElse(null);
+                ResponseBody responseBody = ResponseBody.create(response.body(), null != contentType ? MediaType.parse(contentType) : null);
+                result.complete(toResponse(request, response, responseBody, sentAt));
+            } else {
+                result.completeExceptionally(failure(e));
+            }
+        });
+        return result;
+    }
+
+    /**
+     * okhttp 的请求被取消时执行登记的取消操作
+     */
+    @Override
+    public void cancel(Call call) {
+        Runnable action = cancellations.remove(call);
+        if (null != action) {
+            action.run();
+        }
+    }
+
+    /**
+     * 登记请求被取消时的操作，登记之前请求已经被取消时立即执行
+     */
+    private void onCancel(Call call, Runnable action) {
+        if (null == call) {
+            return;
+        }
+        cancellations.put(call, action);
+        if (call.isCanceled()) {
+            cancel(call);
+        }
+    }
+
+    /**
+     * 请求结束，移除登记的取消操作
+     */
+    private void done(Call call) {
+        if (null != call) {
+            cancellations.remove(call);
+        }
+    }
+
+    /**
+     * 转换为 jdk 的请求，不包含请求体
+     */
+    HttpRequest.Builder toJdkRequest(Request request) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.url().toString()));
+        if (null != timeout) builder.timeout(timeout);
+        //明文请求不尝试 h2c 升级
+        if (!request.isHttps()) builder.version(HttpClient.Version.HTTP_1_1);
+        Headers headers = request.headers();
+        for (int i = 0; i < headers.size(); i++) {
+            if (!RESTRICTED_HEADERS.contains(headers.name(i).toLowerCase())) {
+                builder.header(headers.name(i), headers.value(i));
+            }
+        }
+        RequestBody body = request.body();
+        MediaType contentType = null != body ? body.contentType() : null;
+        if (null != contentType && null == request.header("Content-Type")) {
+            builder.header("Content-Type", contentType.toString());
+        }
+        return builder;
+    }
+
+    /**
+     * 转换为 okhttp 的响应，读取响应体期间请求被取消时关闭响应流
+     */
+    Response toResponse(Call call, Request request, HttpResponse<InputStream> response, long sentAt) {
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        long contentLength = response.headers().firstValueAsLong("Content-Length").orElse(-1);
+        InputStream stream = response.body();
+        //取消时关闭响应流，阻塞中的读取随之结束
+        onCancel(call, () -> closeQuietly(stream));
+        Source source = new ForwardingSource(Okio.source(stream)) {
+            @Override
+            public long read(Buffer sink, long byteCount) throws IOException {
+                if (null != call && call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                try {
+                    return super.read(sink, byteCount);
+                } catch (IOException e) {
+                    //取消时关闭了响应流
+                    throw null != call && call.isCanceled() ? new IOException("Canceled", e) : e;
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                done(call);
+                super.close();
+            }
+        };
+        ResponseBody body = ResponseBody.create(Okio.buffer(source),
+                null != contentType ? MediaType.parse(contentType) : null, contentLength);
+        return toResponse(request, response, body, sentAt);
+    }
+
+    private static Response toResponse(Request request, HttpResponse<?> response, ResponseBody body, long sentAt) {
+        Headers.Builder headers = new Headers.Builder();
+        for (Map.Entry<String, List<String>> entry : response.headers().map().entrySet()) {
+            //跳过 http/2 的伪头部
+            if (entry.getKey().startsWith(":")) continue;
+            for (String value : entry.getValue()) {
+                headers.addUnsafeNonAscii(entry.getKey(), value);
+            }
+        }
+        return new Response.Builder()
+                .request(request)
+                .protocol(HttpClient.Version.HTTP_2 == response.version() ? Protocol.HTTP_2 : Protocol.HTTP_1_1)
+                .code(response.statusCode())
+                .message("")
+                .headers(headers.build())
+                .body(body)
+                .sentRequestAtMillis(sentAt)
+                .receivedResponseAtMillis(System.currentTimeMillis())
+                .build();
+    }
+
+    private static boolean isBuffered(RequestBody body) throws IOException {
+        long contentLength = body.contentLength();
+        return contentLength >= 0 && contentLength <= BUFFERED_BODY_SIZE && !body.isDuplex();
+    }
+
+    private static HttpRequest.BodyPublisher bufferedPublisher(RequestBody body) throws IOException {
+        if (null == body) {
+            return HttpRequest.BodyPublishers.noBody();
+        }
+        Buffer buffer = new Buffer();
+        body.writeTo(buffer);
+        return HttpRequest.BodyPublishers.ofByteArray(buffer.readByteArray());
+    }
+
+    /**
+     * 等待响应，请求被取消时由 {@link #cancel(Call)} 取消 jdk 的请求，线程被中断时同样取消
+     */
+    private <T> T await(Call call, CompletableFuture<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            done(call);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted");
+        } catch (CancellationException | ExecutionException e) {
+            done(call);
+            throw failure(e);
+        }
+    }
+
+    /**
+     * jdk 请求的异常转换为 okhttp 使用的 IOException
+     */
+    private static IOException failure(Throwable e) {
+        Throwable cause = e instanceof ExecutionException || e instanceof CompletionException ? e.getCause() : e;
+        if (cause instanceof CancellationException) {
+            return new IOException("Canceled");
+        }
+        return cause instanceof IOException ? (IOException) cause : new IOException(cause);
+    }
+
+    private static void closeQuietly(InputStream stream) {
+        try {
+            stream.close();
+        } catch (IOException e) {
+            //ignore
+        }
+    }
+}
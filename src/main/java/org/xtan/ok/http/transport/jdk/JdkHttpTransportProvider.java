@@ -0,0 +1,33 @@
+package org.xtan.ok.http.transport.jdk;
+
+import okhttp3.OkHttpClient;
+import org.xtan.ok.http.ssl.TlsContext;
+import org.xtan.ok.http.transport.HttpTransport;
+import org.xtan.ok.http.transport.HttpTransportProvider;
+
+/**
+ * java.net.http.HttpClient 传输层
+ * 该包只在使用 Java 11+ 构建时编译(见 pom 的 java11 profile)，运行在 Java 8 时由 {@link org.xtan.ok.http.transport.HttpTransports} 忽略
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class JdkHttpTransportProvider implements HttpTransportProvider {
+
+    public static final String NAME = "jdk";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return true;
+    }
+
+    @Override
+    public HttpTransport create(OkHttpClient client, TlsContext tls) {
+        return new JdkHttpTransport(client, tls);
+    }
+}
@@ -0,0 +1,192 @@
+package org.xtan.ok.http.utils;
+
+import okhttp3.HttpUrl;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.ByteString;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * 表单参数编码
+ * <p>
+ * 参数值与 {@link java.net.URLEncoder#encode(String, String)} 使用 utf-8 编码的结果一致(空格编码为 +)，
+ * 参数名不编码，与原来拼接 key=URLEncoder.encode(value) 的结果一致。
+ * 直接写入 okio 的缓冲区，不需要按名称查找字符集与拼接字符串。
+ * 文件参数(File、byte[])不参与编码
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public final class FormEncoder {
+
+    private static final byte[] HEX = {'0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'A', 'B', 'C', 'D', 'E', 'F'};
+
+    /**
+     * 不需要编码的 ascii 字符
+     */
+    private static final boolean[] SAFE = new boolean[128];
+
+    static {
+        for (int c = 'a'; c <= 'z'; c++) SAFE[c] = true;
+        for (int c = 'A'; c <= 'Z'; c++) SAFE[c] = true;
+        for (int c = '0'; c <= '9'; c++) SAFE[c] = true;
+        SAFE['.'] = true;
+        SAFE['-'] = true;
+        SAFE['*'] = true;
+        SAFE['_'] = true;
+    }
+
+    private FormEncoder() {
+    }
+
+    /**
+     * 编码表单参数
+     *
+     * @param params 请求参数
+     * @return k1=v1&k2=v2
+     */
+    public static ByteString encode(Map<String, ?> params) {
+        if (params.isEmpty()) {
+            return ByteString.EMPTY;
+        }
+        Buffer buffer = new Buffer();
+        writeTo(params, buffer);
+        return buffer.readByteString();
+    }
+
+    /**
+     * 编码表单参数并写入缓冲区
+     *
+     * @param params 请求参数
+     * @param sink   写入的缓冲区
+     */
+    public static void writeTo(Map<String, ?> params, BufferedSink sink) throws IOException {
+        if (sink instanceof Buffer) {
+            writeTo(params, (Buffer) sink);
+            return;
+        }
+        Buffer buffer = new Buffer();
+        writeTo(params, buffer);
+        sink.writeAll(buffer);
+    }
+
+    /**
+     * 把请求参数追加到地址的查询参数中，编码方式与表单一致，
+     * 由 {@link HttpUrl.Builder#addEncodedQueryParameter(String, String)} 保留已经编码的内容
+     *
+     * @param params  请求参数
+     * @param builder 地址构建器
+     * @return
+     */
+    public static HttpUrl.Builder query(Map<String, ?> params, HttpUrl.Builder builder) {
+        for (Map.Entry<String, ?> entry : params.entrySet()) {
+            if (isFile(entry.getValue())) {
+                continue;
+            }
+            builder.addEncodedQueryParameter(entry.getKey(), encode(String.valueOf(entry.getValue())));
+        }
+        return builder;
+    }
+
+    /**
+     * 编码表单参数并写入内存缓冲区
+     *
+     * @param params 请求参数
+     * @param buffer 写入的缓冲区
+     */
+    public static void writeTo(Map<String, ?> params, Buffer buffer) {
+        boolean isFirst = true;
+        for (Map.Entry<String, ?> entry : params.entrySet()) {
+            if (isFile(entry.getValue())) {
+                continue;
+            }
+            if (!isFirst) {
+                buffer.writeByte('&');
+            } else {
+                isFirst = false;
+            }
+            buffer.writeUtf8(entry.getKey());
+            buffer.writeByte('=');
+            write(String.valueOf(entry.getValue()), buffer);
+        }
+    }
+
+    /**
+     * 编码单个值，不需要编码时直接返回
+     */
+    private static String encode(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 128 || !SAFE[c]) {
+                Buffer buffer = new Buffer();
+                write(value, buffer);
+                return buffer.readUtf8();
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 编码单个值，不需要编码时直接写入
+     */
+    private static void write(String value, Buffer buffer) {
+        int length = value.length();
+        int i = 0;
+        while (i < length) {
+            char c = value.charAt(i);
+            if (c >= 128 || !SAFE[c]) {
+                break;
+            }
+            i++;
+        }
+        if (i == length) {
+            buffer.writeUtf8(value);
+            return;
+        }
+        if (i > 0) {
+            buffer.writeUtf8(value, 0, i);
+        }
+        while (i < length) {
+            int c = value.codePointAt(i);
+            i += Character.charCount(c);
+            if (c < 128) {
+                if (SAFE[c]) {
+                    buffer.writeByte(c);
+                } else if (c == ' ') {
+                    buffer.writeByte('+');
+                } else {
+                    percent(c, buffer);
+                }
+            } else if (c < 0x800) {
+                percent(0xC0 | (c >> 6), buffer);
+                percent(0x80 | (c & 0x3F), buffer);
+            } else if (c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE) {
+                //不成对的代理字符，与 URLEncoder 一样替换为 ?
+                percent('?', buffer);
+            } else if (c < 0x10000) {
+                percent(0xE0 | (c >> 12), buffer);
+                percent(0x80 | ((c >> 6) & 0x3F), buffer);
+                percent(0x80 | (c & 0x3F), buffer);
+            } else {
+                percent(0xF0 | (c >> 18), buffer);
+                percent(0x80 | ((c >> 12) & 0x3F), buffer);
+                percent(0x80 | ((c >> 6) & 0x3F), buffer);
+                percent(0x80 | (c & 0x3F), buffer);
+            }
+        }
+    }
+
+    private static void percent(int b, Buffer buffer) {
+        buffer.writeByte('%');
+        buffer.writeByte(HEX[(b >> 4) & 0xF]);
+        buffer.writeByte(HEX[b & 0xF]);
+    }
+
+    private static boolean isFile(Object value) {
+        return value instanceof File || value instanceof byte[];
+    }
+}
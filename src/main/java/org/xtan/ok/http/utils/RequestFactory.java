@@ -1,6 +1,7 @@
 package org.xtan.ok.http.utils;
 
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
 import org.xtan.ok.http.exception.HttpClientException;
 import org.xtan.ok.http.model.HttpMethod;
@@ -18,6 +19,7 @@ public class RequestFactory {
     private final HttpMethod method;
     private final HttpRequest params;
     private final String url;
+    private final HttpUrl httpUrl;
 
     /**
      * 根据这个工厂生成对应okhttp的请求
@@ -30,6 +32,21 @@ public class RequestFactory {
         this.method = method;
         this.params = params;
         this.url = url;
+        this.httpUrl = null;
+    }
+
+    /**
+     * 使用已解析的请求地址生成对应okhttp的请求
+     *
+     * @param method  http请求方法
+     * @param params  http请求参数
+     * @param httpUrl 已解析的http请求url
+     */
+    public RequestFactory(HttpMethod method, HttpRequest params, HttpUrl httpUrl) {
+        this.method = method;
+        this.params = params;
+        this.url = null;
+        this.httpUrl = httpUrl;
     }
 
     /**
@@ -40,17 +57,17 @@ public class RequestFactory {
     public Request initRequest() {
         switch (method) {
             case PATCH:
-                return new PatchRequestWrapper(url, params).create();
+                return (null != httpUrl ? new PatchRequestWrapper(httpUrl, params) : new PatchRequestWrapper(url, params)).create();
             case DELETE:
-                return new DeleteRequestWrapper(url, params).create();
+                return (null != httpUrl ? new DeleteRequestWrapper(httpUrl, params) : new DeleteRequestWrapper(url, params)).create();
             case GET:
-                return new GetRequestWrapper(url, params).create();
+                return (null != httpUrl ? new GetRequestWrapper(httpUrl, params) : new GetRequestWrapper(url, params)).create();
             case WS:
-                return new WsRequestWrapper(url, params).create();
+                return (null != httpUrl ? new WsRequestWrapper(httpUrl, params) : new WsRequestWrapper(url, params)).create();
             case PUT:
-                return new PutRequestWrapper(url, params).create();
+                return (null != httpUrl ? new PutRequestWrapper(httpUrl, params) : new PutRequestWrapper(url, params)).create();
             case POST:
-                return new PostRequestWrapper(url, params).create();
+                return (null != httpUrl ? new PostRequestWrapper(httpUrl, params) : new PostRequestWrapper(url, params)).create();
             default: {
                 throw new HttpClientException(String.format("不支持的请求方式: [%s]", method));
             }
@@ -1,7 +1,9 @@
 package org.xtan.ok.http.utils;
 
+import org.xtan.ok.http.ssl.TlsContext;
+
 import javax.net.ssl.*;
-import java.security.SecureRandom;
+import java.net.Socket;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 
@@ -14,24 +16,21 @@ import java.security.cert.X509Certificate;
 public class SSLUtil {
     /**
      * 默认信任所有的证书
-     * TODO 最好加上证书认证，主流App都有自己的证书
+     * 返回缓存的 SSLSocketFactory，共享同一个 SSLContext 的会话缓存
+     * 需要证书认证时请使用 {@link TlsContext}
      *
      * @return
      */
     public static SSLSocketFactory createSSLSocketFactory() {
-        SSLSocketFactory sSLSocketFactory = null;
-        try {
-            SSLContext sc = SSLContext.getInstance("TLS");
-            sc.init(null, new TrustManager[]{new TrustAllManager()},
-                    new SecureRandom());
-            sSLSocketFactory = sc.getSocketFactory();
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
-        return sSLSocketFactory;
+        return TlsContext.defaults().socketFactory();
     }
 
-    public static class TrustAllManager implements X509TrustManager {
+    /**
+     * 信任所有的证书
+     * 继承 X509ExtendedTrustManager，JSSE 不会再附加主机名校验，
+     * 使 java.net.http.HttpClient 等无法设置 HostnameVerifier 的 client 同样跳过主机名校验
+     */
+    public static class TrustAllManager extends X509ExtendedTrustManager {
         @Override
         public void checkClientTrusted(X509Certificate[] chain, String authType) throws CertificateException {
         }
@@ -40,6 +39,22 @@ public class SSLUtil {
         public void checkServerTrusted(X509Certificate[] chain, String authType) throws CertificateException {
         }
 
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, Socket socket) throws CertificateException {
+        }
+
+        @Override
+        public void checkClientTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+        }
+
+        @Override
+        public void checkServerTrusted(X509Certificate[] chain, String authType, SSLEngine engine) throws CertificateException {
+        }
+
         @Override
         public X509Certificate[] getAcceptedIssuers() {
             return new X509Certificate[0];
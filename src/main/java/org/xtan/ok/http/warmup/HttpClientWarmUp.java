@@ -0,0 +1,337 @@
+package org.xtan.ok.http.warmup;
+
+import com.alibaba.fastjson.serializer.SerializeConfig;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.xtan.ok.http.annotation.paramer.JSONBody;
+import org.xtan.ok.http.constants.HttpPrefix;
+import org.xtan.ok.http.interceptor.LogInterceptor;
+import org.xtan.ok.http.model.HttpMapping;
+import org.xtan.ok.http.utils.FastJSONParserConfig;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * HttpClient 启动预热
+ * <p>
+ * 在所有的单例初始化完成后，根据 HttpClient 中注册的映射：
+ * 1. 解析所有的 host
+ * 2. 向每个 host 并发发送 {@link WarmUpOptions#minIdleConnections()} 个请求，建立空闲连接
+ * 3. 预先生成返回类型的反序列化器与 {@link JSONBody} 参数类型的序列化器
+ * 之后每隔 {@link WarmUpOptions#maintainInterval()} 重新发送请求，刷新空闲连接的存活时间并补充被关闭的连接。
+ * 预热的接口属于当前的预热组件，HttpClient 的 bean 依赖预热组件，容器关闭时一并清除
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class HttpClientWarmUp implements SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpClientWarmUp.class);
+
+    /**
+     * 注册到 spring 容器中的 bean 名称
+     */
+    public static final String BEAN_NAME = "okHttpClientWarmUp";
+
+    /**
+     * 当前容器中的预热组件，未开启预热时为空
+     */
+    private static volatile HttpClientWarmUp INSTANCE;
+
+    /**
+     * 需要预热的 HttpClient 接口
+     */
+    private final Map<Class<?>, Target> targets = new ConcurrentHashMap<>();
+
+    private final WarmUpOptions options;
+
+    private final ScheduledExecutorService executor;
+
+    public HttpClientWarmUp() {
+        this(WarmUpOptions.load());
+    }
+
+    public HttpClientWarmUp(WarmUpOptions options) {
+        this.options = options;
+        AtomicInteger index = new AtomicInteger();
+        this.executor = new ScheduledThreadPoolExecutor(2, runnable -> {
+            Thread thread = new Thread(runnable, "ok-http-warm-up-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        INSTANCE = this;
+    }
+
+    /**
+     * 注册需要预热的 HttpClient 接口
+     *
+     * @param type     HttpClient 接口
+     * @param client   执行请求的 client
+     * @param mappings 接口的所有映射
+     */
+    public static void register(Class<?> type, OkHttpClient client, Collection<HttpMapping> mappings) {
+        List<HttpMapping> copy = new ArrayList<>(mappings);
+        register(type, client, () -> copy);
+    }
+
+    /**
+     * 注册需要预热的 HttpClient 接口，映射在预热时才获取
+     * 没有预热组件(未开启预热)时忽略
+     *
+     * @param type     HttpClient 接口
+     * @param client   执行请求的 client
+     * @param mappings 获取接口的所有映射
+     */
+    public static void register(Class<?> type, OkHttpClient client, Supplier<? extends Collection<HttpMapping>> mappings) {
+        HttpClientWarmUp current = INSTANCE;
+        if (null != current) {
+            current.targets.put(type, new Target(type, client, mappings));
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        WarmUpReport report = warmUp();
+        log.info("ok http warm up finished: {}", report);
+        if (options.maintainInterval() > 0 && options.minIdleConnections() > 0) {
+            executor.scheduleWithFixedDelay(this::maintain,
+                    options.maintainInterval(), options.maintainInterval(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 执行一次预热，最多等待 {@link WarmUpOptions#timeout()}
+     *
+     * @return
+     */
+    public WarmUpReport warmUp() {
+        long start = System.nanoTime();
+        WarmUpReport report = new WarmUpReport();
+        long deadline = start + TimeUnit.MILLISECONDS.toNanos(options.timeout());
+        List<Origin> origins = origins();
+        //并发解析 host，解析成功后建立连接
+        CountDownLatch latch = new CountDownLatch(origins.size());
+        for (Origin origin : origins) {
+            executor.execute(() -> {
+                try {
+                    origin.client.dns().lookup(origin.url.host());
+                    report.host(true);
+                    connect(origin, report);
+                } catch (UnknownHostException e) {
+                    report.host(false);
+                    log.warn("warm up host [{}] failed: {}", origin.url.host(), e.getMessage());
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        //调用线程生成序列化器与反序列化器
+        prepareTypes(report);
+        try {
+            latch.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            for (Origin origin : origins) {
+                origin.await(deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        report.durationMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        return report;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+        targets.clear();
+        synchronized (HttpClientWarmUp.class) {
+            if (INSTANCE == this) INSTANCE = null;
+        }
+    }
+
+    /**
+     * 补充空闲连接
+     * 并发请求会优先复用空闲连接并刷新其存活时间，空闲连接不足时建立新的连接
+     */
+    private void maintain() {
+        WarmUpReport report = new WarmUpReport();
+        for (Origin origin : origins()) {
+            connect(origin, report);
+        }
+    }
+
+    /**
+     * 并发发送 {@link WarmUpOptions#minIdleConnections()} 个请求，只要有响应连接就会回到连接池
+     */
+    private void connect(Origin origin, WarmUpReport report) {
+        Request request = new Request.Builder()
+                .url(origin.url)
+                .method(options.method(), null)
+                .build();
+        for (int i = 0; i < options.minIdleConnections(); i++) {
+            origin.pending.incrementAndGet();
+            origin.client.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    report.connection(false);
+                    log.debug("warm up connection [{}] failed: {}", origin.url, e.getMessage());
+                    origin.done();
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    response.close();
+                    report.connection(true);
+                    origin.done();
+                }
+            });
+        }
+    }
+
+    /**
+     * 预先生成返回类型的反序列化器与 {@link JSONBody} 参数类型的序列化器
+     */
+    private void prepareTypes(WarmUpReport report) {
+        Set<Class<?>> deserializers = new HashSet<>();
+        Set<Class<?>> serializers = new HashSet<>();
+        for (Target target : targets.values()) {
+            for (Method method : target.type.getMethods()) {
+                Class<?> returnType = method.getReturnType();
+                if (isBean(returnType) && deserializers.add(returnType)) {
+                    FastJSONParserConfig.config().getDeserializer(returnType);
+                    report.type();
+                }
+                for (Parameter parameter : method.getParameters()) {
+                    if (parameter.isAnnotationPresent(JSONBody.class) && isBean(parameter.getType())
+                            && serializers.add(parameter.getType())) {
+                        SerializeConfig.globalInstance.getObjectWriter(parameter.getType());
+                        report.type();
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean isBean(Class<?> type) {
+        return !type.isPrimitive() && !type.isInterface() && Void.class != type && String.class != type
+                && !type.getName().startsWith("java.");
+    }
+
+    /**
+     * 按照连接池与 host 去重的预热地址，ws 映射不进行预热
+     */
+    private List<Origin> origins() {
+        Map<ConnectionPool, Map<String, Origin>> origins = new IdentityHashMap<>();
+        for (Target target : targets.values()) {
+            for (HttpMapping mapping : target.mappings.get()) {
+                String prefix = mapping.prefix();
+                if (null == prefix || HttpPrefix.WS.equals(prefix) || HttpPrefix.WSS.equals(prefix)) {
+                    continue;
+                }
+                HttpUrl url = HttpUrl.parse(prefix + mapping.host());
+                if (null == url) {
+                    continue;
+                }
+                url = url.newBuilder().encodedPath(options.path()).build();
+                origins.computeIfAbsent(target.client.connectionPool(), it -> new LinkedHashMap<>())
+                        .putIfAbsent(url.scheme() + "://" + url.host() + ":" + url.port(), new Origin(target.client(), url));
+            }
+        }
+        List<Origin> result = new ArrayList<>();
+        origins.values().forEach(it -> result.addAll(it.values()));
+        return result;
+    }
+
+    /**
+     * 需要预热的 HttpClient 接口
+     */
+    private static class Target {
+
+        final Class<?> type;
+
+        final OkHttpClient client;
+
+        final Supplier<? extends Collection<HttpMapping>> mappings;
+
+        private volatile OkHttpClient warmUpClient;
+
+        Target(Class<?> type, OkHttpClient client, Supplier<? extends Collection<HttpMapping>> mappings) {
+            this.type = type;
+            this.client = client;
+            this.mappings = mappings;
+        }
+
+        /**
+         * 去掉日志拦截器的 client，与原 client 共享连接池、调度器与 dns
+         * 传输层拦截器需要保留，预热的是实际发送请求的传输层
+         */
+        OkHttpClient client() {
+            OkHttpClient result = warmUpClient;
+            if (null == result) {
+                OkHttpClient.Builder builder = client.newBuilder();
+                builder.interceptors().removeIf(it -> it instanceof LogInterceptor);
+                result = builder.build();
+                warmUpClient = result;
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 预热地址
+     */
+    private static class Origin {
+
+        final OkHttpClient client;
+
+        final HttpUrl url;
+
+        final AtomicInteger pending = new AtomicInteger();
+
+        Origin(OkHttpClient client, HttpUrl url) {
+            this.client = client;
+            this.url = url;
+        }
+
+        void done() {
+            synchronized (this) {
+                if (pending.decrementAndGet() <= 0) notifyAll();
+            }
+        }
+
+        synchronized void await(long deadline) throws InterruptedException {
+            long remaining;
+            while (pending.get() > 0 && (remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())) > 0) {
+                wait(remaining);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.xtan.ok.http.warmup;
+
+import org.xtan.ok.http.config.EnvironmentComponent;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 启动预热配置
+ * <p>
+ * 配置文件格式：
+ * ok.http.warm-up.enabled=true
+ * ok.http.warm-up.min-idle-connections=2
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class WarmUpOptions {
+
+    /**
+     * 配置前缀
+     */
+    public static final String PROPERTY_PREFIX = "ok.http.warm-up.";
+
+    /**
+     * 是否开启预热，默认关闭
+     */
+    private boolean enabled = false;
+
+    /**
+     * 每个 host 保持的最小空闲连接数
+     */
+    private int minIdleConnections = 2;
+
+    /**
+     * 补充空闲连接的间隔(毫秒)，需要小于连接池的空闲连接存活时间，小于等于 0 时只在启动时预热
+     */
+    private long maintainInterval = TimeUnit.MINUTES.toMillis(1);
+
+    /**
+     * 启动预热的最长等待时间(毫秒)
+     */
+    private long timeout = TimeUnit.SECONDS.toMillis(10);
+
+    /**
+     * 建立连接时请求的资源路径
+     */
+    private String path = "/";
+
+    /**
+     * 建立连接时的请求方式
+     */
+    private String method = "HEAD";
+
+    /**
+     * 从 spring 配置中读取，不在 spring 容器中时使用默认配置
+     *
+     * @return
+     */
+    public static WarmUpOptions load() {
+        WarmUpOptions options = new WarmUpOptions();
+        EnvironmentComponent environment = EnvironmentComponent.INSTANCE;
+        if (null == environment) {
+            return options;
+        }
+        options.enabled = property(environment, "enabled", Boolean.class, options.enabled);
+        options.minIdleConnections = property(environment, "min-idle-connections", Integer.class, options.minIdleConnections);
+        options.maintainInterval = property(environment, "maintain-interval", Long.class, options.maintainInterval);
+        options.timeout = property(environment, "timeout", Long.class, options.timeout);
+        options.path = property(environment, "path", String.class, options.path);
+        options.method = property(environment, "method", String.class, options.method);
+        return options;
+    }
+
+    private static <T> T property(EnvironmentComponent environment, String key, Class<T> type, T defaultValue) {
+        T value = environment.getProperty(PROPERTY_PREFIX + key, type);
+        return null != value ? value : defaultValue;
+    }
+
+    public boolean enabled() {
+        return enabled;
+    }
+
+    public WarmUpOptions enabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    public int minIdleConnections() {
+        return minIdleConnections;
+    }
+
+    public WarmUpOptions minIdleConnections(int minIdleConnections) {
+        this.minIdleConnections = minIdleConnections;
+        return this;
+    }
+
+    public long maintainInterval() {
+        return maintainInterval;
+    }
+
+    public WarmUpOptions maintainInterval(long maintainInterval) {
+        this.maintainInterval = maintainInterval;
+        return this;
+    }
+
+    public long timeout() {
+        return timeout;
+    }
+
+    public WarmUpOptions timeout(long timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    public String path() {
+        return path;
+    }
+
+    public WarmUpOptions path(String path) {
+        this.path = path;
+        return this;
+    }
+
+    public String method() {
+        return method;
+    }
+
+    public WarmUpOptions method(String method) {
+        this.method = method;
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+package org.xtan.ok.http.warmup;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 预热结果
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class WarmUpReport {
+
+    /**
+     * 预热的 host 数量
+     */
+    private final AtomicInteger hosts = new AtomicInteger();
+
+    /**
+     * 解析失败的 host 数量
+     */
+    private final AtomicInteger unresolvedHosts = new AtomicInteger();
+
+    /**
+     * 成功建立(或复用)的连接数
+     */
+    private final AtomicInteger connections = new AtomicInteger();
+
+    /**
+     * 建立失败的连接数
+     */
+    private final AtomicInteger failedConnections = new AtomicInteger();
+
+    /**
+     * 预先生成序列化器与反序列化器的类型数量
+     */
+    private final AtomicInteger types = new AtomicInteger();
+
+    /**
+     * 预热耗时(毫秒)
+     */
+    private volatile long durationMillis;
+
+    void host(boolean isResolved) {
+        hosts.incrementAndGet();
+        if (!isResolved) unresolvedHosts.incrementAndGet();
+    }
+
+    void connection(boolean isSuccess) {
+        (isSuccess ? connections : failedConnections).incrementAndGet();
+    }
+
+    void type() {
+        types.incrementAndGet();
+    }
+
+    void durationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public int hosts() {
+        return hosts.get();
+    }
+
+    public int unresolvedHosts() {
+        return unresolvedHosts.get();
+    }
+
+    public int connections() {
+        return connections.get();
+    }
+
+    public int failedConnections() {
+        return failedConnections.get();
+    }
+
+    public int types() {
+        return types.get();
+    }
+
+    public long durationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("WarmUpReport[durationMillis=%s, hosts=%s, unresolvedHosts=%s, connections=%s, failedConnections=%s, types=%s]",
+                durationMillis(), hosts(), unresolvedHosts(), connections(), failedConnections(), types());
+    }
+}
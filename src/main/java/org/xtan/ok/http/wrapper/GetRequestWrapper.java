@@ -1,8 +1,8 @@
 package org.xtan.ok.http.wrapper;
 
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
-import org.apache.commons.lang3.StringUtils;
 import org.xtan.ok.http.model.HttpRequest;
 
 /**
@@ -12,20 +12,15 @@ import org.xtan.ok.http.model.HttpRequest;
  * @date: 2021-08-05
  */
 public class GetRequestWrapper implements RequestWrapper {
-    private final String url;
+    private final HttpUrl url;
     private final HttpRequest params;
 
     public GetRequestWrapper(String url, HttpRequest params) {
-        StringBuilder urlParams = params.getParams();
-        if (StringUtils.isNotBlank(url) && StringUtils.isNotBlank(urlParams.toString())) {
-            if (url.contains("?")) {
-                url = url + "&" + urlParams;
-            } else {
-                url = url + "?" + urlParams;
-            }
-        }
+        this(RequestWrapper.parse(url), params);
+    }
 
-        this.url = url;
+    public GetRequestWrapper(HttpUrl url, HttpRequest params) {
+        this.url = withQuery(url, params);
         this.params = params;
     }
 
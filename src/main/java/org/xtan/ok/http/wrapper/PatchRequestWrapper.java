@@ -1,5 +1,6 @@
 package org.xtan.ok.http.wrapper;
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
 import org.xtan.ok.http.model.HttpRequest;
 
@@ -15,6 +16,10 @@ public class PatchRequestWrapper extends PostRequestWrapper {
         super(url, params);
     }
 
+    public PatchRequestWrapper(HttpUrl url, HttpRequest params) {
+        super(url, params);
+    }
+
     @Override
     public Request create() {
         return new Request.Builder()
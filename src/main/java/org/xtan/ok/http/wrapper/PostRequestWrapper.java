@@ -1,6 +1,7 @@
 package org.xtan.ok.http.wrapper;
 
 
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.MultipartBody;
 import okhttp3.Request;
@@ -15,7 +16,6 @@ import org.xtan.ok.http.utils.FileUtil;
 import java.io.File;
 import java.io.InputStream;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
 
 /**
@@ -26,10 +26,20 @@ import java.util.Set;
  */
 public class PostRequestWrapper implements RequestWrapper {
 
-    protected final String url;
+    private static final MediaType JSON = MediaType.get(HttpContentType.JSON);
+
+    private static final MediaType FORM = MediaType.get(HttpContentType.FORM + "; charset=utf-8");
+
+    private static final MediaType MULTIPART_FILE = MediaType.get(HttpContentType.MULTIPART_FILE);
+
+    protected final HttpUrl url;
     protected final HttpRequest params;
 
     public PostRequestWrapper(String url, HttpRequest params) {
+        this(RequestWrapper.parse(url), params);
+    }
+
+    public PostRequestWrapper(HttpUrl url, HttpRequest params) {
         this.url = url;
         this.params = params;
     }
@@ -47,12 +57,11 @@ public class PostRequestWrapper implements RequestWrapper {
         //如果非文件上传
         if (!params.isHasFile()) {
             if (params.isJson()) {
-                return RequestBody.create(params.getJsonBody(), MediaType.parse(HttpContentType.JSON));
+                return RequestBody.create(params.getJsonBody(), JSON);
             }
-            String content = params.getParams().toString();
-            return RequestBody.create(content,
-                    MediaType.parse(StringUtils.isBlank(params.getContentType()) ? HttpContentType.FORM : params.getContentType())
-            );
+            return RequestBody.create(params.getForm(), utf8(null != params.getMediaType() ? params.getMediaType()
+                    : StringUtils.isBlank(params.getContentType()) ? FORM : MediaType.parse(params.getContentType())
+            ));
         }
         //如果是单文件上传
         Set<Map.Entry<String, Object>> entries = params.getParamsEntries().entrySet();
@@ -64,7 +73,7 @@ public class PostRequestWrapper implements RequestWrapper {
         //如果是表单上传，上传多文件，或者携带除文件意外的其他参数请求的上传文件
         if (entries.size() > 0) {
             MultipartBody.Builder builder = new MultipartBody.Builder();
-            builder.setType(Objects.requireNonNull(MediaType.parse(HttpContentType.MULTIPART_FILE)));
+            builder.setType(MULTIPART_FILE);
             //创建文件请求体
             for (Map.Entry<String, Object> entry : entries) {
                 if (entry.getValue() instanceof File) {
@@ -88,6 +97,16 @@ public class PostRequestWrapper implements RequestWrapper {
         throw new HttpClientException("error request body!");
     }
 
+    /**
+     * 与 {@link RequestBody#create(String, MediaType)} 一致，未声明字符集时追加 utf-8
+     */
+    private static MediaType utf8(MediaType mediaType) {
+        if (null == mediaType || null != mediaType.charset()) {
+            return mediaType;
+        }
+        return MediaType.parse(mediaType + "; charset=utf-8");
+    }
+
 
 
 }
\ No newline at end of file
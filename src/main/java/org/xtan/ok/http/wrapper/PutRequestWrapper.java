@@ -1,5 +1,6 @@
 package org.xtan.ok.http.wrapper;
 
+import okhttp3.HttpUrl;
 import okhttp3.Request;
 import org.xtan.ok.http.model.HttpRequest;
 
@@ -14,6 +15,10 @@ public class PutRequestWrapper extends PostRequestWrapper {
         super(url, params);
     }
 
+    public PutRequestWrapper(HttpUrl url, HttpRequest params) {
+        super(url, params);
+    }
+
 
     @Override
     public Request create() {
@@ -1,9 +1,12 @@
 package org.xtan.ok.http.wrapper;
 
 import okhttp3.Headers;
+import okhttp3.HttpUrl;
 import okhttp3.Request;
-import org.xtan.ok.http.model.HttpHeaders;
 import org.xtan.ok.http.model.HttpRequest;
+import org.xtan.ok.http.utils.FormEncoder;
+
+import java.util.Map;
 
 
 /**
@@ -18,11 +21,34 @@ public interface RequestWrapper {
      * @return
      */
     default Headers initHeaders(HttpRequest params) {
-        // 创建Headers
-        HttpHeaders httpHeaders = params.getHeaders();
-        Headers.Builder headerBuilder = new Headers.Builder();
-        httpHeaders.foreach(headerBuilder::add);
-        return headerBuilder.build();
+        return params.toHeaders();
+    }
+
+    /**
+     * 解析请求地址，与 {@link Request.Builder#url(String)} 一致，ws 地址转换为 http 地址
+     *
+     * @param url
+     * @return
+     */
+    static HttpUrl parse(String url) {
+        if (url.regionMatches(true, 0, "ws:", 0, 3)) {
+            url = "http:" + url.substring(3);
+        } else if (url.regionMatches(true, 0, "wss:", 0, 4)) {
+            url = "https:" + url.substring(4);
+        }
+        return HttpUrl.get(url);
+    }
+
+    /**
+     * 把请求参数追加到地址的查询参数中，跳过文件参数
+     *
+     * @param url
+     * @param params
+     * @return
+     */
+    default HttpUrl withQuery(HttpUrl url, HttpRequest params) {
+        Map<String, Object> entries = params.getParamsEntries();
+        return entries.isEmpty() ? url : FormEncoder.query(entries, url.newBuilder()).build();
     }
 
     /**
@@ -0,0 +1,20 @@
+package org.xtan.ok.http.async.virtual;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 虚拟线程的线程池，每个任务创建一个虚拟线程
+ * 编译到 jar 的 META-INF/versions/21 中(见 pom 的 compile-java21)，Java 21+ 运行时替代 src/main/java 中不可用的版本
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+public class VirtualThreadExecutorProvider implements Function<String, ExecutorService> {
+
+    @Override
+    public ExecutorService apply(String prefix) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(prefix, 1).factory());
+    }
+}
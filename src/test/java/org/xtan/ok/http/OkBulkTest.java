@@ -0,0 +1,155 @@
+package org.xtan.ok.http;
+
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 批量请求：并发数、结果顺序与共享截止时间
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class OkBulkTest {
+
+    private MockWebServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                //slow 保持连接但从不响应，服务关闭时断开
+                return request.getPath().startsWith("/slow")
+                        ? new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE)
+                        : new MockResponse().setBody(request.getPath().substring(1));
+            }
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.shutdown();
+    }
+
+    @Test
+    void returnsResultsInInputOrderWithinConcurrency() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        List<Integer> args = Arrays.asList(5, 4, 3, 2, 1, 0);
+
+        List<OkBulk.Result<Integer, String>> results = OkBulk.of(args, it -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                return OkBuilder.url(server.url("/" + it).toString()).execute();
+            } finally {
+                running.decrementAndGet();
+            }
+        }).concurrency(2).execute();
+
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+        assertThat(results).extracting(OkBulk.Result::value).containsExactly("5", "4", "3", "2", "1", "0");
+        assertThat(results).extracting(OkBulk.Result::index).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(results).allMatch(OkBulk.Result::isSuccess);
+    }
+
+    @Test
+    void consumerReceivesResultsAsTheyComplete() {
+        CountDownLatch second = new CountDownLatch(1);
+        List<Integer> order = new ArrayList<>();
+
+        //第一个请求在第二个结果被处理之后才完成
+        OkBulk.of(Arrays.asList(0, 1), it -> {
+            if (0 == it) {
+                try {
+                    second.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+            return it;
+        }).execute(result -> {
+            order.add(result.index());
+            second.countDown();
+        });
+
+        assertThat(order).containsExactly(1, 0);
+    }
+
+    @Test
+    void failedCallBecomesFailedResult() {
+        List<OkBulk.Result<Integer, Integer>> results = OkBulk.of(Arrays.asList(1, 0), it -> 10 / it).execute();
+
+        assertThat(results.get(0).value()).isEqualTo(10);
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).isTimeout()).isFalse();
+        assertThat(results.get(1).error()).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void deadlineCancelsRunningCallsAndSkipsPendingOnes() throws InterruptedException {
+        List<OkBuilder> builders = Arrays.asList(
+                OkBuilder.url(server.url("/fast").toString()),
+                OkBuilder.url(server.url("/slow-1").toString()),
+                OkBuilder.url(server.url("/slow-2").toString()),
+                OkBuilder.url(server.url("/pending").toString()));
+
+        long startAt = System.nanoTime();
+        List<OkBulk.Result<OkBuilder, String>> results = OkBulk.of(builders)
+                .concurrency(2)
+                .deadline(Duration.ofMillis(500))
+                .execute();
+        long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt);
+
+        assertThat(elapsed).isBetween(450L, 3000L);
+        assertThat(results.get(0).value()).isEqualTo("fast");
+        assertThat(results.subList(1, 4)).allMatch(OkBulk.Result::isTimeout);
+        //截止时间之后未开始的请求不会发送
+        assertThat(server.takeRequest(1, TimeUnit.SECONDS).getPath()).isEqualTo("/fast");
+        List<String> paths = Arrays.asList(server.takeRequest(1, TimeUnit.SECONDS).getPath(),
+                server.takeRequest(1, TimeUnit.SECONDS).getPath());
+        assertThat(paths).containsExactlyInAnyOrder("/slow-1", "/slow-2");
+        assertThat(server.takeRequest(500, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    @Test
+    void cancelledCallsReleaseWorkersBeforeServerResponds() throws InterruptedException {
+        CountDownLatch released = new CountDownLatch(2);
+
+        OkBulk.of(Arrays.asList(1, 2), it -> {
+            try {
+                return OkBuilder.url(server.url("/slow-" + it).toString()).execute();
+            } finally {
+                released.countDown();
+            }
+        }).deadline(300, TimeUnit.MILLISECONDS).execute();
+
+        //服务端从不响应，取消后工作线程立即结束
+        assertThat(released.await(3, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrency() {
+        assertThatThrownBy(() -> OkBulk.of(Arrays.asList(1), it -> it).concurrency(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,168 @@
+package org.xtan.ok.http.client;
+
+import okhttp3.Dns;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.net.SocketFactory;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 竞速连接：本地回环地址模拟可达、不可达(丢弃连接请求)与拒绝连接的地址
+ * <p>
+ * 127.0.0.1 为可达的服务；127.0.0.2 监听相同端口但从不 accept，等待队列填满后新的连接会一直等待到超时；
+ * 127.0.0.3 没有监听，连接被立即拒绝。需要 127.0.0.0/8 都是回环地址(Linux)，否则跳过
+ * </p>
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class RacingSocketTest {
+
+    private static final String HOST = "racing.test";
+
+    private ServerSocket server;
+
+    private ServerSocket blackhole;
+
+    private final List<Socket> backlog = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new ServerSocket();
+        server.bind(new InetSocketAddress("127.0.0.1", 0));
+        blackhole = new ServerSocket();
+        try {
+            blackhole.bind(new InetSocketAddress("127.0.0.2", server.getLocalPort()), 1);
+        } catch (IOException e) {
+            assumeTrue(false, "127.0.0.2 is not a loopback address: " + e);
+        }
+        while (true) {
+            Socket socket = new Socket();
+            try {
+                socket.connect(blackhole.getLocalSocketAddress(), 200);
+                backlog.add(socket);
+            } catch (SocketTimeoutException e) {
+                socket.close();
+                break;
+            }
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        for (Socket socket : backlog) {
+            socket.close();
+        }
+        blackhole.close();
+        server.close();
+    }
+
+    @Test
+    void racesPastUnreachableAddress() throws IOException {
+        RacingSocketFactory factory = factory(100, "127.0.0.2", "127.0.0.1");
+
+        long startAt = System.nanoTime();
+        try (Socket socket = factory.createSocket()) {
+            socket.connect(endpoint("127.0.0.2"), 5000);
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt);
+
+            assertThat(socket.isConnected()).isTrue();
+            assertThat(socket.getInetAddress().getHostAddress()).isEqualTo("127.0.0.1");
+            assertThat(elapsed).isGreaterThanOrEqualTo(90).isLessThan(2000);
+        }
+    }
+
+    @Test
+    void refusedAddressStartsNextAttemptImmediately() throws IOException {
+        RacingSocketFactory factory = factory(10_000, "127.0.0.3", "127.0.0.1");
+
+        long startAt = System.nanoTime();
+        try (Socket socket = factory.createSocket()) {
+            socket.connect(endpoint("127.0.0.3"), 5000);
+
+            assertThat(socket.getInetAddress().getHostAddress()).isEqualTo("127.0.0.1");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt)).isLessThan(2000);
+        }
+    }
+
+    @Test
+    void timesOutWhenNoAddressConnects() throws IOException {
+        RacingSocketFactory factory = factory(100, "127.0.0.2", "127.0.0.3");
+
+        long startAt = System.nanoTime();
+        try (Socket socket = factory.createSocket()) {
+            //不可达地址的超时与整体超时同时到达，抛出哪一个异常取决于先处理哪一个
+            assertThatThrownBy(() -> socket.connect(endpoint("127.0.0.2"), 500))
+                    .isInstanceOf(IOException.class);
+            //拒绝连接之后仍然等待不可达的地址直到超时
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startAt)).isBetween(450L, 2000L);
+            assertThat(socket.isConnected()).isFalse();
+        }
+    }
+
+    @Test
+    void appliesOptionsSetBeforeConnect() throws IOException {
+        RacingSocketFactory factory = factory(100, "127.0.0.2", "127.0.0.1");
+
+        try (Socket socket = factory.createSocket()) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(1234);
+            socket.connect(endpoint("127.0.0.2"), 5000);
+
+            assertThat(socket.getTcpNoDelay()).isTrue();
+            assertThat(socket.getSoTimeout()).isEqualTo(1234);
+        }
+    }
+
+    @Test
+    void ipLiteralIsNotRaced() throws IOException {
+        RacingSocketFactory factory = factory(100, "127.0.0.2", "127.0.0.1");
+
+        assertThat(factory.candidates(new InetSocketAddress("127.0.0.2", server.getLocalPort()))).hasSize(1);
+        assertThat(factory.candidates(endpoint("127.0.0.2"))).hasSize(2);
+    }
+
+    @Test
+    void okHttpDnsReturnsFirstAddressOnly() throws IOException {
+        RacingSocketFactory factory = factory(100, "127.0.0.2", "127.0.0.1");
+
+        assertThat(factory.dns().lookup(HOST)).extracting(InetAddress::getHostAddress).containsExactly("127.0.0.2");
+    }
+
+    /**
+     * host 解析为指定的地址
+     */
+    private RacingSocketFactory factory(long attemptDelay, String... ips) throws IOException {
+        List<InetAddress> addresses = new ArrayList<>();
+        for (String ip : ips) {
+            addresses.add(address(ip));
+        }
+        Dns dns = host -> addresses;
+        return new RacingSocketFactory(SocketFactory.getDefault(), dns, attemptDelay);
+    }
+
+    private InetSocketAddress endpoint(String ip) throws IOException {
+        return new InetSocketAddress(address(ip), server.getLocalPort());
+    }
+
+    /**
+     * 与 dns 解析的结果一样携带 host
+     */
+    private static InetAddress address(String ip) throws IOException {
+        return InetAddress.getByAddress(HOST, InetAddress.getByName(ip).getAddress());
+    }
+}
@@ -0,0 +1,104 @@
+package org.xtan.ok.http.client;
+
+import jnr.unixsocket.UnixServerSocketChannel;
+import jnr.unixsocket.UnixSocketAddress;
+import jnr.unixsocket.UnixSocketChannel;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.xtan.ok.http.handler.MappingPathResolveHandler;
+import org.xtan.ok.http.model.HttpHeaders;
+import org.xtan.ok.http.model.HttpMapping;
+import org.xtan.ok.http.model.HttpMethod;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * unix domain socket 的请求地址解析与本地 socket 文件的往返请求
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class UnixDomainSocketFactoryTest {
+
+    @TempDir
+    Path dir;
+
+    private File socket;
+
+    private UnixServerSocketChannel server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        socket = dir.resolve("app.sock").toFile();
+        server = UnixServerSocketChannel.open();
+        server.socket().bind(new UnixSocketAddress(socket));
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        server.close();
+    }
+
+    @Test
+    void resolvesUnixHostToLocalhost() {
+        HttpMapping mapping = HttpMapping.builder("unix:" + socket.getPath(), HttpHeaders.builder(), HttpMethod.GET,
+                "/v1/ping", "", UnixDomainSocketFactoryTest.class, "ping");
+
+        assertThat(mapping.url()).isEqualTo("http://localhost/v1/ping");
+        assertThat(MappingPathResolveHandler.unixSocketPath("unix:" + socket.getPath())).isEqualTo(socket.getPath());
+        assertThat(MappingPathResolveHandler.unixSocketPath("http://localhost")).isNull();
+    }
+
+    @Test
+    void roundTripsOverSocketFile() throws Exception {
+        CompletableFuture<String> requestLine = CompletableFuture.supplyAsync(this::serveOnce);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .socketFactory(new UnixDomainSocketFactory(socket))
+                .dns(UnixDomainSocketFactory.DNS)
+                .build();
+        HttpMapping mapping = HttpMapping.builder("unix:" + socket.getPath(), HttpHeaders.builder(), HttpMethod.GET,
+                "/v1/ping", "", UnixDomainSocketFactoryTest.class, "ping");
+
+        try (Response response = client.newCall(new Request.Builder().url(mapping.url()).build()).execute()) {
+            assertThat(response.code()).isEqualTo(200);
+            assertThat(response.body().string()).isEqualTo("pong");
+        }
+        assertThat(requestLine.get(5, TimeUnit.SECONDS)).isEqualTo("GET /v1/ping HTTP/1.1");
+    }
+
+    /**
+     * 接受一个连接，返回固定响应，结果为请求行
+     */
+    private String serveOnce() {
+        try (UnixSocketChannel channel = server.accept()) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(Channels.newInputStream(channel), StandardCharsets.US_ASCII));
+            String requestLine = reader.readLine();
+            String line;
+            do {
+                line = reader.readLine();
+            } while (null != line && !line.isEmpty());
+            OutputStream out = Channels.newOutputStream(channel);
+            out.write("HTTP/1.1 200 OK\r\nContent-Length: 4\r\nConnection: close\r\n\r\npong".getBytes(StandardCharsets.US_ASCII));
+            out.flush();
+            return requestLine;
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package org.xtan.ok.http.outbox;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 发件箱存储的重启恢复：检查点、损坏的检查点槽位与写入中途崩溃的记录
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class OutboxStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private OutboxOptions options() {
+        return new OutboxOptions().dir(dir.toString()).segmentSize(1024).maxSegments(8);
+    }
+
+    @Test
+    void resumesFromCheckpointAfterRestart() throws IOException {
+        try (OutboxStore store = OutboxStore.open(options())) {
+            append(store, "a", "b", "c");
+            List<OutboxStore.Record> records = store.read(10);
+            assertThat(payloads(records)).containsExactly("a", "b", "c");
+            store.commit(records.get(0));
+        }
+        try (OutboxStore store = OutboxStore.open(options())) {
+            assertThat(payloads(store.read(10))).containsExactly("b", "c");
+            //写入从最后一条记录之后继续
+            append(store, "d");
+            assertThat(payloads(store.read(10))).containsExactly("d");
+        }
+    }
+
+    @Test
+    void tornCheckpointFallsBackToOlderSlot() throws IOException {
+        try (OutboxStore store = OutboxStore.open(options())) {
+            append(store, "a", "b", "c");
+            List<OutboxStore.Record> records = store.read(10);
+            //第一个槽位指向 a 之后，第二个槽位指向 b 之后
+            store.commit(records.get(0));
+            store.commit(records.get(1));
+        }
+        //写入第二个槽位时崩溃
+        corrupt(new File(dir.toFile(), "checkpoint"), 16 + 8);
+        try (OutboxStore store = OutboxStore.open(options())) {
+            //b 重新发送，不会跳过任何记录
+            assertThat(payloads(store.read(10))).containsExactly("b", "c");
+        }
+    }
+
+    @Test
+    void bothCheckpointsTornRestartsFromFirstSegment() throws IOException {
+        try (OutboxStore store = OutboxStore.open(options())) {
+            append(store, "a", "b");
+            List<OutboxStore.Record> records = store.read(10);
+            store.commit(records.get(0));
+            store.commit(records.get(1));
+        }
+        corrupt(new File(dir.toFile(), "checkpoint"), 8);
+        corrupt(new File(dir.toFile(), "checkpoint"), 16 + 8);
+        try (OutboxStore store = OutboxStore.open(options())) {
+            assertThat(payloads(store.read(10))).containsExactly("a", "b");
+        }
+    }
+
+    @Test
+    void tornRecordIsDroppedAndOverwritten() throws IOException {
+        try (OutboxStore store = OutboxStore.open(options())) {
+            append(store, "a", "b");
+        }
+        //b 的内容写入中途崩溃：记录头 8 字节 + a 的 1 字节 + 记录头 8 字节
+        corrupt(segment(0), 8 + 1 + 8);
+        try (OutboxStore store = OutboxStore.open(options())) {
+            append(store, "c");
+            assertThat(payloads(store.read(10))).containsExactly("a", "c");
+        }
+    }
+
+    @Test
+    void deletesSegmentsBeforeCheckpoint() throws IOException {
+        OutboxOptions options = options().segmentSize(64);
+        try (OutboxStore store = OutboxStore.open(options)) {
+            //每条记录 8 + 24 字节，每个分段两条
+            String payload = "012345678901234567890123";
+            append(store, payload, payload, payload, payload, payload);
+            List<OutboxStore.Record> records = store.read(10);
+            assertThat(records).hasSize(5);
+            assertThat(segment(2)).exists();
+            store.commit(records.get(4));
+            assertThat(segment(0)).doesNotExist();
+            assertThat(segment(1)).doesNotExist();
+        }
+        try (OutboxStore store = OutboxStore.open(options)) {
+            assertThat(store.read(10)).isEmpty();
+        }
+    }
+
+    @Test
+    void rejectsRecordsOverDiskLimit() throws IOException {
+        try (OutboxStore store = OutboxStore.open(options().segmentSize(64).maxSegments(2))) {
+            String payload = "012345678901234567890123";
+            assertThat(store.append(bytes(payload))).isTrue();
+            assertThat(store.append(bytes(payload))).isTrue();
+            assertThat(store.append(bytes(payload))).isTrue();
+            assertThat(store.append(bytes(payload))).isTrue();
+            assertThat(store.append(bytes(payload))).isFalse();
+            assertThat(store.append(new byte[64])).isFalse();
+        }
+    }
+
+    @Test
+    void directoryIsLockedWhileOpen() throws IOException {
+        try (OutboxStore ignored = OutboxStore.open(options())) {
+            assertThatThrownBy(() -> OutboxStore.open(options()))
+                    .isInstanceOf(IOException.class)
+                    .hasMessageContaining("used by another process");
+        }
+        OutboxStore.open(options()).close();
+    }
+
+    private File segment(long seq) {
+        return new File(dir.toFile(), String.format("%020d.seg", seq));
+    }
+
+    private static void append(OutboxStore store, String... payloads) throws IOException {
+        for (String payload : payloads) {
+            assertThat(store.append(bytes(payload))).isTrue();
+        }
+    }
+
+    private static List<String> payloads(List<OutboxStore.Record> records) {
+        return records.stream()
+                .map(it -> new String(it.payload, StandardCharsets.UTF_8))
+                .collect(Collectors.toList());
+    }
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 翻转指定位置的一个字节
+     */
+    private static void corrupt(File file, long position) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xFF);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package org.xtan.ok.http.utils;
+
+import okhttp3.HttpUrl;
+import okio.BufferedSink;
+import okio.Okio;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 表单参数编码：与原来拼接 key=URLEncoder.encode(value, "utf8") 的结果逐字节一致
+ *
+ * @author: XOptional-TAN
+ * @date: 2026-10-18
+ */
+class FormEncoderTest {
+
+    private static final String[] VALUES = {
+            "",
+            "plain-value_1.0*",
+            "a b  c",
+            "&=+%/?~#!'()",
+            "中文参数",
+            "café ß",
+            "emoji 😀 𝄞",
+            "lone \uD83D high",
+            "lone \uDE00 low",
+            "swapped \uDE00\uD83D",
+            "tail \uD83D"
+    };
+
+    @Test
+    void encodesLikeUrlEncoder() throws IOException {
+        for (String value : VALUES) {
+            Map<String, Object> params = new LinkedHashMap<>();
+            params.put("k", value);
+
+            assertThat(FormEncoder.encode(params).utf8()).as(value).isEqualTo(baseline(params));
+        }
+    }
+
+    @Test
+    void joinsAllParamsAndSkipsFiles() throws IOException {
+        Map<String, Object> params = params();
+
+        assertThat(FormEncoder.encode(params).utf8())
+                .isEqualTo(baseline(params))
+                .doesNotContain("file", "bytes");
+    }
+
+    @Test
+    void encodesNonStringValuesByStringValue() throws IOException {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("int", 42);
+        params.put("bool", true);
+        params.put("null", null);
+
+        assertThat(FormEncoder.encode(params).utf8()).isEqualTo("int=42&bool=true&null=null");
+    }
+
+    @Test
+    void emptyParamsEncodeToEmpty() {
+        assertThat(FormEncoder.encode(new LinkedHashMap<>()).size()).isZero();
+    }
+
+    @Test
+    void writesToNonBufferSink() throws IOException {
+        Map<String, Object> params = params();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (BufferedSink sink = Okio.buffer(Okio.sink(out))) {
+            FormEncoder.writeTo(params, sink);
+        }
+
+        assertThat(out.toString("UTF-8")).isEqualTo(baseline(params));
+    }
+
+    @Test
+    void queryMatchesConcatenatedUrl() throws IOException {
+        Map<String, Object> params = params();
+        String url = "http://localhost/api?exist=1";
+
+        HttpUrl encoded = FormEncoder.query(params, HttpUrl.get(url).newBuilder()).build();
+
+        assertThat(encoded).isEqualTo(HttpUrl.get(url + "&" + baseline(params)));
+        assertThat(encoded.queryParameter("v4")).isEqualTo("中文参数");
+    }
+
+    private static Map<String, Object> params() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        for (int i = 0; i < VALUES.length; i++) {
+            params.put("v" + i, VALUES[i]);
+            if (i == 2) {
+                params.put("file", new File("upload.txt"));
+                params.put("bytes", "upload".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        return params;
+    }
+
+    /**
+     * 原来的拼接方式
+     */
+    private static String baseline(Map<String, Object> params) throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (Map.Entry<String, Object> entry : params.entrySet()) {
+            if (entry.getValue() instanceof File || entry.getValue() instanceof byte[]) {
+                continue;
+            }
+            if (builder.length() > 0) {
+                builder.append('&');
+            }
+            builder.append(entry.getKey()).append('=').append(URLEncoder.encode(String.valueOf(entry.getValue()), "utf8"));
+        }
+        return builder.toString();
+    }
+}